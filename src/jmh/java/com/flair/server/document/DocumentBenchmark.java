@@ -0,0 +1,41 @@
+package com.flair.server.document;
+
+import com.flair.server.pipelines.gramparsing.BenchmarkCorpus;
+import com.flair.shared.grammar.Language;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Document construction, which includes the computation of its readability score and level
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DocumentBenchmark {
+	@Param({"ENGLISH", "GERMAN"})
+	public Language language;
+
+	private AbstractDocumentFactory docFactory;
+	private List<AbstractDocumentSource> sources;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		docFactory = Document.factory();
+		sources = BenchmarkCorpus.sources(language);
+	}
+
+	@Benchmark
+	public void createDocuments(Blackhole bh) {
+		for (AbstractDocumentSource source : sources) {
+			AbstractDocument doc = docFactory.create(source);
+			bh.consume(doc.getReadabilityScore());
+			bh.consume(doc.getReadabilityLevel());
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.flair.server.interop;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.grammar.DefaultVocabularyList;
+import com.flair.server.parser.AhoCorasickKeywordSearcher;
+import com.flair.server.parser.KeywordSearcherInput;
+import com.flair.server.pipelines.gramparsing.BenchmarkCorpus;
+import com.flair.shared.grammar.Language;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Conversion of parsed documents into the DTOs that are sent to the client
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class DtoGeneratorBenchmark {
+	@Param({"ENGLISH", "GERMAN"})
+	public Language language;
+
+	private List<AbstractDocument> docs;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		docs = BenchmarkCorpus.parse(language);
+
+		KeywordSearcherInput keywords = new KeywordSearcherInput(DefaultVocabularyList.get(language));
+		docs.forEach(d -> d.setKeywordData(AhoCorasickKeywordSearcher.factory().create().search(d.getText(), keywords)));
+	}
+
+	@Benchmark
+	public void rankableDocument(Blackhole bh) {
+		for (AbstractDocument doc : docs)
+			bh.consume(DtoGenerator.rankableDocument(doc, "benchmark"));
+	}
+}
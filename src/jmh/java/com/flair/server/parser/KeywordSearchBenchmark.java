@@ -0,0 +1,54 @@
+package com.flair.server.parser;
+
+import com.flair.server.grammar.DefaultVocabularyList;
+import com.flair.server.pipelines.gramparsing.BenchmarkCorpus;
+import com.flair.shared.grammar.Language;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Keyword search over the corpus with the default (academic) vocabulary list as the keywords
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class KeywordSearchBenchmark {
+	public enum SearcherKind {
+		SIMPLE_SUBSTRING,
+		AHO_CORASICK,
+	}
+
+	@Param({"SIMPLE_SUBSTRING", "AHO_CORASICK"})
+	public SearcherKind searcherKind;
+
+	private AbstractKeywordSearcher searcher;
+	private KeywordSearcherInput keywords;
+	private List<String> texts;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		switch (searcherKind) {
+		case SIMPLE_SUBSTRING:
+			searcher = SimpleSubstringKeywordSearcher.factory().create();
+			break;
+		case AHO_CORASICK:
+			searcher = AhoCorasickKeywordSearcher.factory().create();
+			break;
+		}
+
+		keywords = new KeywordSearcherInput(DefaultVocabularyList.get(Language.ENGLISH));
+		texts = BenchmarkCorpus.texts(Language.ENGLISH);
+	}
+
+	@Benchmark
+	public void search(Blackhole bh) {
+		for (String text : texts)
+			bh.consume(searcher.search(text, keywords));
+	}
+}
@@ -0,0 +1,86 @@
+package com.flair.server.pipelines.gramparsing;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.document.AbstractDocumentSource;
+import com.flair.server.document.Document;
+import com.flair.server.document.StringDocumentSource;
+import com.flair.server.parser.CoreNlpParser;
+import com.flair.shared.grammar.Language;
+import edu.stanford.nlp.pipeline.Annotation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * Fixed corpus of documents shared by the benchmarks
+ * Documents are parsed with the same parser configuration as the gram parsing pipeline
+ */
+public final class BenchmarkCorpus {
+	private static final String CORPUS_ROOT = "/com/flair/server/benchmark/corpus/";
+
+	private BenchmarkCorpus() {}
+
+	private static String read(String path) {
+		InputStream stream = BenchmarkCorpus.class.getResourceAsStream(path);
+		if (stream == null)
+			throw new IllegalStateException("Missing corpus resource " + path);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			return reader.lines().collect(Collectors.joining("\n"));
+		} catch (IOException ex) {
+			throw new IllegalStateException("Couldn't read corpus resource " + path, ex);
+		}
+	}
+
+	public static List<String> texts(Language lang) {
+		String dir = CORPUS_ROOT + lang.name().toLowerCase() + "/";
+		List<String> out = new ArrayList<>();
+		for (String name : read(dir + "index.txt").split("\n")) {
+			if (!name.trim().isEmpty())
+				out.add(read(dir + name.trim()));
+		}
+
+		return out;
+	}
+
+	public static List<AbstractDocumentSource> sources(Language lang) {
+		return texts(lang).stream().map(t -> new StringDocumentSource(t, lang)).collect(Collectors.toList());
+	}
+
+	public static CoreNlpParser parser(Language lang) {
+		return CoreNlpParser.factory().create(lang, GramParsingPipeline.createDefaultPipelineProperties(lang));
+	}
+
+	public static List<Annotation> annotate(CoreNlpParser parser, List<AbstractDocumentSource> sources) {
+		List<Annotation> out = new ArrayList<>();
+		for (AbstractDocumentSource source : sources) {
+			Annotation annotation = new Annotation(source.getSourceText());
+			parser.pipeline().annotate(annotation);
+			out.add(annotation);
+		}
+
+		return out;
+	}
+
+	public static List<AbstractDocument> parse(Language lang) {
+		CoreNlpParser parser = parser(lang);
+		List<AbstractDocument> out = new ArrayList<>();
+		for (AbstractDocumentSource source : sources(lang)) {
+			AbstractDocument doc = Document.factory().create(source);
+			ParsingStrategy strategy = ParsingStrategy.factory().create(new ParserInput(doc));
+			parser.parse(strategy);
+			if (!strategy.output().valid())
+				throw new IllegalStateException("Parser didn't set the document's parsed flag");
+
+			out.add(doc);
+		}
+
+		return out;
+	}
+}
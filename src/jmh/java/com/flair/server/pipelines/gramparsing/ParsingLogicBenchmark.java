@@ -0,0 +1,58 @@
+package com.flair.server.pipelines.gramparsing;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.document.AbstractDocumentSource;
+import com.flair.server.document.Document;
+import com.flair.server.parser.CoreNlpParser;
+import com.flair.shared.grammar.Language;
+import edu.stanford.nlp.pipeline.Annotation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Construction extraction over pre-annotated documents, i.e., the per-document cost of the parsing logic minus CoreNLP
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ParsingLogicBenchmark {
+	@Param({"ENGLISH", "GERMAN"})
+	public Language language;
+
+	private CoreNlpParser parser;
+	private List<AbstractDocumentSource> sources;
+	private List<Annotation> annotations;
+	private List<AbstractDocument> docs;
+
+	@Setup(Level.Trial)
+	public void setupCorpus() {
+		parser = BenchmarkCorpus.parser(language);
+		sources = BenchmarkCorpus.sources(language);
+		annotations = BenchmarkCorpus.annotate(parser, sources);
+	}
+
+	@Setup(Level.Invocation)
+	public void setupDocuments() {
+		// the parsing logic accumulates its results in the document, so every invocation needs fresh ones
+		docs = new ArrayList<>(sources.size());
+		for (AbstractDocumentSource source : sources)
+			docs.add(Document.factory().create(source));
+	}
+
+	@Benchmark
+	public void applyParsingLogic(Blackhole bh) {
+		for (int i = 0; i < docs.size(); i++) {
+			AbstractDocument doc = docs.get(i);
+			ParsingLogic logic = language == Language.ENGLISH ? EnglishParsingLogic.factory(doc) : GermanParsingLogic.factory(doc);
+			logic.apply(parser, annotations.get(i));
+			bh.consume(doc);
+		}
+	}
+}
@@ -15,45 +15,34 @@ import java.util.*;
 
 public class ClientMessageChannel {
 	private final class MessagePollerImpl implements MessagePoller {
-		private final int interval;
 		private final int timeout;
 		private final Runnable timeoutHandler;
 		private final Map<Class<?>, MessageReceivedHandler<?>> messageHandlers;
-		private final Queue<Message<?>> inbox;
 		private boolean running;
 		private boolean disposed;
 		private boolean timedOut;
-		private int remainingTicks;
-		private int elapsedTicks;
+		private int idleTicks;
 
-		private MessagePollerImpl(int interval, int timeout,
-		                          Runnable timeoutHandler, Map<Class<?>, MessageReceivedHandler<?>> messageHandlers) {
-			this.interval = interval;
+		private MessagePollerImpl(int timeout, Runnable timeoutHandler, Map<Class<?>, MessageReceivedHandler<?>> messageHandlers) {
 			this.timeout = timeout;
 			this.timeoutHandler = timeoutHandler;
 			this.messageHandlers = new HashMap<>(messageHandlers);
-			this.inbox = new ArrayDeque<>();
 			this.running = false;
 			this.timedOut = false;
 			this.disposed = false;
-			this.remainingTicks = 0;
-			this.elapsedTicks = 0;
+			this.idleTicks = 0;
 
 			activeMessagePollers.add(this);
 		}
 
-		private <P extends Message.Payload> void tick(int elapsedTicks, List<Message<? extends Message.Payload>> newMessages) {
+		private void tick(int elapsedTicks) {
 			if (disposed)
 				throw new RuntimeException("Message poller has been disposed");
 			else if (timedOut || !running)
 				return;
 
-			this.remainingTicks -= elapsedTicks;
-			this.elapsedTicks += elapsedTicks;
-
-			inbox.addAll(newMessages);
-
-			if (this.elapsedTicks >= timeout && inbox.isEmpty()) {
+			idleTicks += elapsedTicks;
+			if (idleTicks >= timeout) {
 				timedOut = true;
 				running = false;
 
@@ -62,23 +51,30 @@ public class ClientMessageChannel {
 				} catch (Throwable ex) {
 					ClientLogger.get().error(ex, "Message timeout handler raised an exception! Exception: " + ex);
 				}
-			} else if (this.remainingTicks <= 0) {
-				this.remainingTicks = interval;
-				this.elapsedTicks = 0;
-
-				for (Message<?> msg : inbox) {
-					P payload = (P) msg.getPayload();
-					MessageReceivedHandler<P> handler = (MessageReceivedHandler<P>) messageHandlers.get(payload.getClass());
-					if (handler != null) {
-						try {
-							handler.read(payload);
-						} catch (Throwable ex) {
-							ClientLogger.get().error(ex, "Message handler raised an exception! Exception: " + ex);
-						}
+			}
+		}
+
+		private <P extends Message.Payload> void deliver(List<Message<? extends Message.Payload>> newMessages) {
+			if (disposed)
+				throw new RuntimeException("Message poller has been disposed");
+			else if (timedOut || !running || newMessages.isEmpty())
+				return;
+
+			idleTicks = 0;
+			for (Message<?> msg : newMessages) {
+				// a handler can stop the poller
+				if (!running)
+					break;
+
+				P payload = (P) msg.getPayload();
+				MessageReceivedHandler<P> handler = (MessageReceivedHandler<P>) messageHandlers.get(payload.getClass());
+				if (handler != null) {
+					try {
+						handler.read(payload);
+					} catch (Throwable ex) {
+						ClientLogger.get().error(ex, "Message handler raised an exception! Exception: " + ex);
 					}
 				}
-
-				inbox.clear();
 			}
 		}
 
@@ -91,9 +87,7 @@ public class ClientMessageChannel {
 
 			running = true;
 			timedOut = false;
-			remainingTicks = interval;
-			elapsedTicks = 0;
-			inbox.clear();
+			idleTicks = 0;
 
 			updateTimerState();
 		}
@@ -106,9 +100,7 @@ public class ClientMessageChannel {
 
 			running = false;
 			timedOut = false;
-			remainingTicks = interval;
-			elapsedTicks = 0;
-			inbox.clear();
+			idleTicks = 0;
 
 			updateTimerState();
 		}
@@ -135,16 +127,10 @@ public class ClientMessageChannel {
 	}
 
 	private final class MessagePollerImplBuilder implements MessagePoller.Builder {
-		private int interval = 0;
 		private int timeout = 0;
 		private Runnable timeoutHandler = null;
 		private Map<Class<?>, MessageReceivedHandler<?>> messageHandlers = new HashMap<>();
 
-		@Override
-		public MessagePoller.Builder interval(int interval) {
-			this.interval = interval;
-			return this;
-		}
 		@Override
 		public MessagePoller.Builder timeout(int timeout) {
 			this.timeout = timeout;
@@ -166,18 +152,14 @@ public class ClientMessageChannel {
 		}
 		@Override
 		public MessagePoller build() {
-			if (interval <= 0)
-				throw new RuntimeException("Invalid value " + interval + " for interval");
-			else if (interval <= POLLING_TIMER_INTERVAL)
-				throw new RuntimeException("Interval must be > " + POLLING_TIMER_INTERVAL);
-			else if (timeout <= 0)
+			if (timeout <= 0)
 				throw new RuntimeException("Invalid value " + timeout + " for timeout");
 			else if (timeoutHandler == null)
 				throw new RuntimeException("No timeout handler set");
 			else if (messageHandlers.isEmpty())
 				throw new RuntimeException("No message handlers registered");
 
-			return new MessagePollerImpl(interval, timeout, timeoutHandler, messageHandlers);
+			return new MessagePollerImpl(timeout, timeoutHandler, messageHandlers);
 		}
 	}
 
@@ -194,6 +176,9 @@ public class ClientMessageChannel {
 		}
 	}
 
+	// the server holds pull requests open until it has messages to deliver, so the next pull is issued as soon as the previous one returns
+	// the timer keeps track of the pollers' timeouts and retries failed pulls. pulls that return empty-handed are also retried
+	// on the next tick, as the server returns them immediately when too many pulls are being held open
 	private static final int POLLING_TIMER_INTERVAL = 1;      // in seconds
 
 
@@ -236,21 +221,30 @@ public class ClientMessageChannel {
 		}
 	}
 
+	private boolean isAwaitingMessages() {
+		return !pendingMessageCallbacks.isEmpty() || activeMessagePollers.stream().anyMatch(MessagePollerImpl::isRunning);
+	}
+
 	private void updateTimerState() {
-		if (pendingMessageCallbacks.isEmpty() && activeMessagePollers.isEmpty())
+		if (isAwaitingMessages()) {
+			startTimer();
+			pullFromServer();
+		} else
 			stopTimer();
-		else {
-			long numRunningPollers = activeMessagePollers.stream().filter(MessagePollerImpl::isRunning).count();
-			if (numRunningPollers > 0 || !pendingMessageCallbacks.isEmpty())
-				startTimer();
-			else
-				stopTimer();
-		}
 	}
 
 	private void onPollTimerTick() {
+		// performed on a copy as the iterator can get invalidate if a poller was disposed inside a callback
+		for (MessagePollerImpl poller : new HashSet<>(activeMessagePollers))
+			poller.tick(POLLING_TIMER_INTERVAL);
+
+		// retry if the previous pull failed
+		pullFromServer();
+	}
+
+	private void pullFromServer() {
 		// prevent the server from being queried a second time whilst a previous RPC call is in progress
-		if (pollingServer)
+		if (pollingServer || !isAwaitingMessages())
 			return;
 
 		pollingServer = true;
@@ -258,19 +252,22 @@ public class ClientMessageChannel {
 			@Override
 			public void onFailure(Throwable caught) {
 				ClientLogger.get().error(caught, "Message retrieval failed with the following exception: " + caught);
-				updateTimerState();
-
 				pollingServer = false;
 
+				// the next attempt is made on the next timer tick
 				if (caught instanceof InvalidClientIdentificationTokenException)
 					ClientEndPoint.get().fatalServerError();
+				else if (!isAwaitingMessages())
+					stopTimer();
 			}
 			@Override
 			public void onSuccess(ArrayList<Message<? extends Message.Payload>> result) {
-				processIncomingServerMessages(result);
-				updateTimerState();
-
 				pollingServer = false;
+				processIncomingServerMessages(result);
+				if (!result.isEmpty())
+					updateTimerState();
+				else if (!isAwaitingMessages())
+					stopTimer();
 			}
 		};
 		interopService.MessagingReceive(clientId, callback);
@@ -312,7 +309,7 @@ public class ClientMessageChannel {
 		// pass the filtered messages to active pollers
 		// performed on a copy as the iterator can get invalidate if a poller was disposed inside a callback
 		for (MessagePollerImpl poller : new HashSet<>(activeMessagePollers))
-			poller.tick(POLLING_TIMER_INTERVAL, filteredMessages);
+			poller.deliver(filteredMessages);
 	}
 
 	public void send(Message.Payload payload, SuccessHandler successHandler, FailureHandler failureHandler) {
@@ -322,21 +319,25 @@ public class ClientMessageChannel {
 		if (message.getPayload() == null)
 			throw new RuntimeException("Message has no payload!");
 
+		// wait for a message from the server acknowledging the consumption of sent message
+		// registered ahead of time as the acknowledgement can arrive through a pending pull before the send call returns
+		pendingMessageCallbacks.put(message.getMessageId(),
+				new ClientMessageCallbackData(message, successHandler, failureHandler));
+
 		AsyncCallback<Void> callback = new AsyncCallback<Void>() {
 			@Override
 			public void onFailure(Throwable caught) {
 				ClientLogger.get().error(caught, "Message sending failed with the following exception: " + caught);
 				ClientLogger.get().error("Message: " + message);
 
+				pendingMessageCallbacks.remove(message.getMessageId());
+				updateTimerState();
 				failureHandler.onFailure(caught, "");
 
 				// ### TODO handle IncompatibleRemoteServiceException && InvocationException more elegantly
 			}
 			@Override
 			public void onSuccess(Void result) {
-				// wait for a message from the server acknowledging the consumption of sent message
-				pendingMessageCallbacks.put(message.getMessageId(),
-						new ClientMessageCallbackData(message, successHandler, failureHandler));
 				updateTimerState();
 			}
 		};
@@ -5,8 +5,7 @@ import com.flair.shared.interop.messaging.MessageReceivedHandler;
 
 public interface MessagePoller {
 	interface Builder {
-		Builder interval(int interval);     // in seconds
-		Builder timeout(int timeout);       // in seconds
+		Builder timeout(int timeout);       // in seconds, measured from the last received message
 		Builder onTimeout(Runnable handler);
 		<P extends Message.Payload> Builder onMessage(Class<P> payloadClass, MessageReceivedHandler<P> handler);
 
@@ -762,7 +762,6 @@ public class WebRankerCore implements AbstractWebRankerCore {
 			completionHandler = null;
 
 			poller = serverMessageChannel.messagePoller()
-					.interval(POLLING_INTERVAL)
 					.timeout(TIMEOUT_INTERVAL)
 					.onTimeout(() -> {
 						if (data != null) {
@@ -861,7 +860,10 @@ public class WebRankerCore implements AbstractWebRankerCore {
 			if (!isBusy())
 				return;
 
-			serverMessageChannel.send(new CmActiveOperationCancel(), () -> {}, (e, m) -> {});
+			CmActiveOperationCancel msg = new CmActiveOperationCancel();
+			msg.setTarget(data.type == OperationType.WEB_SEARCH ? CmActiveOperationCancel.Target.WEB_SEARCH
+					: CmActiveOperationCancel.Target.CUSTOM_CORPUS);
+			serverMessageChannel.send(msg, () -> {}, (e, m) -> {});
 			reset(false);
 		}
 
@@ -870,7 +872,6 @@ public class WebRankerCore implements AbstractWebRankerCore {
 		}
 	}
 
-	private static final int POLLING_INTERVAL = 2;         // in seconds
 	private static final int TIMEOUT_INTERVAL = 5 * 60;    // in seconds
 
 	private final ClientMessageChannel serverMessageChannel;
@@ -931,7 +932,6 @@ public class WebRankerCore implements AbstractWebRankerCore {
 		importedSettings = null;
 		rerankFlag = false;
 		questionGenPoller = serverMessageChannel.messagePoller()
-				.interval(POLLING_INTERVAL)
 				.timeout(TIMEOUT_INTERVAL)
 				.onTimeout(() -> {
 					ToastNotification.fire(getLocalizedString(LocalizationTags.OP_TIMEDOUT.toString()), 5000);
@@ -1245,6 +1245,7 @@ public class WebRankerCore implements AbstractWebRankerCore {
 
 		CmActiveOperationCancel msg = new CmActiveOperationCancel();
 		msg.setActiveOperationExpected(false);
+		msg.setTarget(CmActiveOperationCancel.Target.QUESTION_GEN);
 		serverMessageChannel.send(msg, () -> {}, (e, m) -> {});
 	}
 
@@ -9,7 +9,6 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 
 import java.io.InputStream;
@@ -158,11 +157,13 @@ public class AzureWebSearch implements AbstractSearchAgentImpl {
 			get.addHeader("Accept", "application/json");
 			get.addHeader("Ocp-Apim-Subscription-Key", getApiKey());
 
-			HttpClient client = HttpClientFactory.get().create();
-			responsePost = client.execute(get);
+			responsePost = HttpClientFactory.get().client().execute(get);
 			resEntity = responsePost.getEntity();
 
-			loadResults(resEntity.getContent());
+			// closing the content stream returns the connection to the pool
+			try (InputStream content = resEntity.getContent()) {
+				loadResults(content);
+			}
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "Couldn't fetch search results from Azure. Exception: " + ex.toString());
 		}
@@ -54,4 +54,5 @@ public interface AbstractDocument extends Comparable<AbstractDocument> {
 
 	boolean isParsed();
 	void flagAsParsed(ParserAnnotations annotations);
+	void replaceParserAnnotations(ParserAnnotations annotations);     // swaps in a (slimmer) copy of a parsed doc's annotations
 }
@@ -258,6 +258,19 @@ public class Document implements AbstractDocument {
 		parsed = true;
 		parserAnnotations = annotations;
 		updateGramL2Norm();
+
+		for (GrammaticalConstruction itr : getSupportedConstructions())
+			getConstructionData(itr).compact();
+	}
+
+	@Override
+	public void replaceParserAnnotations(ParserAnnotations annotations) {
+		if (!parsed)
+			throw new IllegalStateException("Document hasn't been parsed");
+		else if (annotations == null)
+			throw new IllegalArgumentException("Invalid annotations");
+
+		parserAnnotations = annotations;
 	}
 
 	@Override
@@ -2,24 +2,47 @@
 package com.flair.server.document;
 
 import com.flair.shared.grammar.GrammaticalConstruction;
+import gnu.trove.set.hash.TLongHashSet;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents basic properties of a construction for a specific document
+ * Occurrences are stored as packed (start, end) pairs in insertion order, so no objects are allocated per occurrence
  */
 public class DocumentConstructionData extends AbstractConstructionData {
+	private static final long[] NO_OCCURRENCES = new long[0];
+	private static final int MIN_CAPACITY = 4;
+	private static final int HASHED_LOOKUP_THRESHOLD = 8;   // no. of occurrences above which duplicates are found with a hash set
+
 	private final AbstractDocument parentDocument;
-	private final ArrayList<ConstructionOccurrence> occurrences;
+	private long[] occurrences;
+	private int numOccurrences;
+	private TLongHashSet lookup;                // null until it's needed
+
+	private static long pack(int start, int end) {
+		return ((long) start << 32) | (end & 0xFFFFFFFFL);
+	}
+
+	private boolean hasOccurence(long occurrence) {
+		if (numOccurrences <= HASHED_LOOKUP_THRESHOLD) {
+			for (int i = 0; i < numOccurrences; i++) {
+				if (occurrences[i] == occurrence)
+					return true;
+			}
 
-	private boolean hasOccurence(int start, int end) {
-		for (ConstructionOccurrence itr : occurrences) {
-			if (itr.getStart() == start && itr.getEnd() == end)
-				return true;
+			return false;
+		}
+
+		if (lookup == null) {
+			lookup = new TLongHashSet(numOccurrences * 2);
+			for (int i = 0; i < numOccurrences; i++)
+				lookup.add(occurrences[i]);
 		}
 
-		return false;
+		return lookup.contains(occurrence);
 	}
 
 	DocumentConstructionData(GrammaticalConstruction type, AbstractDocument parent) {
@@ -27,7 +50,9 @@ public class DocumentConstructionData extends AbstractConstructionData {
 
 		assert parent != null;
 		parentDocument = parent;
-		occurrences = new ArrayList<>();
+		occurrences = NO_OCCURRENCES;
+		numOccurrences = 0;
+		lookup = null;
 	}
 
 	public boolean hasConstruction() {
@@ -35,7 +60,7 @@ public class DocumentConstructionData extends AbstractConstructionData {
 	}
 
 	public int getFrequency() {
-		return occurrences.size();
+		return numOccurrences;
 	}
 
 	public double getWeightedFrequency() {
@@ -60,17 +85,54 @@ public class DocumentConstructionData extends AbstractConstructionData {
 
 		// "instance"(example) might be different: root(ROOT, appeared) VS. nsubj(appeared,she)
 		// but the indices & construction name will match => don't duplicate!
-		if (hasOccurence(start, end) == true)
+		long newOcc = pack(start, end);
+		if (hasOccurence(newOcc))
 			return false;
 
-		ConstructionOccurrence newOcc = new ConstructionOccurrence(getParentConstruction(), start, end);
+		if (numOccurrences == occurrences.length)
+			occurrences = Arrays.copyOf(occurrences, Math.max(MIN_CAPACITY, numOccurrences * 2));
 
-		occurrences.add(newOcc);
+		occurrences[numOccurrences++] = newOcc;
+		if (lookup != null)
+			lookup.add(newOcc);
 		return true;
 	}
 
+	public int getOccurrenceStart(int i) {
+		if (i < 0 || i >= numOccurrences)
+			throw new IndexOutOfBoundsException("Invalid occurrence index " + i);
+
+		return (int) (occurrences[i] >>> 32);
+	}
+
+	public int getOccurrenceEnd(int i) {
+		if (i < 0 || i >= numOccurrences)
+			throw new IndexOutOfBoundsException("Invalid occurrence index " + i);
+
+		return (int) occurrences[i];
+	}
+
+	// creates a new object for each occurrence - prefer getOccurrenceStart()/getOccurrenceEnd() where possible
 	public List<ConstructionOccurrence> getOccurrences() {
-		return occurrences;
+		return new AbstractList<ConstructionOccurrence>() {
+			@Override
+			public ConstructionOccurrence get(int index) {
+				return new ConstructionOccurrence(getParentConstruction(), getOccurrenceStart(index), getOccurrenceEnd(index));
+			}
+			@Override
+			public int size() {
+				return numOccurrences;
+			}
+		};
+	}
+
+	// releases the memory that's only needed while occurrences are being added
+	void compact() {
+		lookup = null;
+		if (numOccurrences == 0)
+			occurrences = NO_OCCURRENCES;
+		else if (numOccurrences < occurrences.length)
+			occurrences = Arrays.copyOf(occurrences, numOccurrences);
 	}
 }
 
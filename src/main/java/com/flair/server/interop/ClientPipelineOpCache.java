@@ -3,69 +3,89 @@ package com.flair.server.interop;
 import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.utilities.ServerLogger;
 import com.flair.shared.exceptions.ServerRuntimeException;
-import edu.stanford.nlp.util.Pair;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/*
+ * Tracks the pipeline ops of a client session, several of which can run concurrently
+ * Ended ops remain available for lookup, as their results can be referenced by later ops. Limits on concurrent ops
+ * (one per kind of op) are enforced by the session
+ */
 final class ClientPipelineOpCache {
-	private final Map<String, PipelineOp<?, ?>> id2op;      // string UUID > op
-	private Pair<PipelineOp<?, ?>, String> currentOp;
+	private final Map<String, PipelineOp<?, ?>> id2op;          // string UUID > op
+	private final Map<String, PipelineOp<?, ?>> activeOps;      // string UUID > op, in the order they began
 
 	ClientPipelineOpCache() {
 		id2op = new HashMap<>();
-		currentOp = null;
+		activeOps = new LinkedHashMap<>();
 	}
 
-	String newOp(PipelineOp<?, ?> op) {
-		if (hasActiveOp())
-			throw new ServerRuntimeException("Previous state not cleared");
-
+	// IDs are allocated before the op is built to allow its event handlers to refer to it
+	String newOpId() {
 		String uuid = UUID.randomUUID().toString();
 		if (id2op.containsKey(uuid)) {
 			ServerLogger.get().warn("Pipeline op ID '" + uuid + "' has a hash collision!");
 		}
 
+		return uuid;
+	}
+
+	void newOp(String uuid, PipelineOp<?, ?> op) {
+		if (id2op.containsKey(uuid))
+			throw new ServerRuntimeException("Pipeline op ID '" + uuid + "' is already in use");
+
 		id2op.put(uuid, op);
-		currentOp = new Pair<>(op, uuid);
+		activeOps.put(uuid, op);
 
 		ServerLogger.get().info("Pipeline operation '" + op.name() + "' has begun");
-		return uuid;
 	}
 
-	void endActiveOp(boolean cancel) {
-		if (!hasActiveOp())
-			throw new ServerRuntimeException("No operation running");
+	void endOp(String uuid, boolean cancel) {
+		PipelineOp<?, ?> op = activeOps.remove(uuid);
+		if (op == null)
+			throw new ServerRuntimeException("Operation " + uuid + " is not running");
 
 		if (cancel) {
-			currentOp.first.cancel();
-			ServerLogger.get().info("Pipeline operation '" + currentOp.first.name() + "' was cancelled");
+			op.cancel();
+			ServerLogger.get().info("Pipeline operation '" + op.name() + "' was cancelled");
 		} else
-			ServerLogger.get().info("Pipeline operation '" + currentOp.first.name() + "' has ended");
-
-		currentOp = null;
+			ServerLogger.get().info("Pipeline operation '" + op.name() + "' has ended");
 	}
 
 	PipelineOp<?, ?> lookupOp(String uuid) {
 		return id2op.get(uuid);
 	}
 
-	PipelineOp<?, ?> activeOp() {
-		if (currentOp != null)
-			return currentOp.first;
-		else
-			return null;
+	boolean isActive(String uuid) {
+		return activeOps.containsKey(uuid);
 	}
 
-	String activeOpId() {
-		if (currentOp != null)
-			return currentOp.second;
-		else
-			return null;
+	// returns the IDs of the active ops of the given type
+	List<String> activeOpIds(Class<?> opType) {
+		List<String> out = new ArrayList<>();
+		for (Map.Entry<String, PipelineOp<?, ?>> itr : activeOps.entrySet()) {
+			if (opType.isInstance(itr.getValue()))
+				out.add(itr.getKey());
+		}
+
+		return out;
+	}
+
+	boolean hasActiveOp(Class<?> opType) {
+		for (PipelineOp<?, ?> itr : activeOps.values()) {
+			if (opType.isInstance(itr))
+				return true;
+		}
+
+		return false;
 	}
 
-	boolean hasActiveOp() {
-		return currentOp != null;
+	boolean hasActiveOps() {
+		return !activeOps.isEmpty();
 	}
 }
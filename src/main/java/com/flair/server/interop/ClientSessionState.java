@@ -11,8 +11,13 @@ import com.flair.server.interop.messaging.ServerMessagingSwitchboard;
 import com.flair.server.parser.KeywordSearcherInput;
 import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.pipelines.gramparsing.GramParsingPipeline;
+import com.flair.server.pipelines.gramparsing.ParseOp;
+import com.flair.server.pipelines.gramparsing.SearchCrawlParseOp;
 import com.flair.server.pipelines.questgen.GeneratedQuestion;
+import com.flair.server.pipelines.questgen.QuestionGenerationOp;
 import com.flair.server.pipelines.questgen.QuestionGenerationPipeline;
+import com.flair.server.scheduler.TaskOwner;
+import com.flair.server.sentencesel.SentenceGraphCache;
 import com.flair.server.utilities.ServerLogger;
 import com.flair.shared.exceptions.ServerRuntimeException;
 import com.flair.shared.interop.ClientIdToken;
@@ -39,6 +44,8 @@ class ClientSessionState {
 	// GramParsingPipelineOp -> DocumentDTO -> Document (parsed by the QuestionGenerationPipeline)
 	private final ClientPipelineOp2DocumentMap questGenLinkingData;
 	private final TemporaryClientData temporaryClientData;
+	// sentence graphs of the documents parsed by the QuestionGenerationPipeline
+	private final SentenceGraphCache sentenceGraphs;
 
 	ClientSessionState(ClientIdToken tok) {
 		clientId = tok;
@@ -47,6 +54,7 @@ class ClientSessionState {
 		gramParsingLinkingData = new ClientPipelineOp2DocumentMap();
 		questGenLinkingData = new ClientPipelineOp2DocumentMap();
 		temporaryClientData = new TemporaryClientData();
+		sentenceGraphs = new SentenceGraphCache(Constants.SENTENCE_GRAPH_CACHE_CAPACITY_PER_SESSION);
 
 		initClientMessageReceiveHandlers();
 	}
@@ -59,26 +67,37 @@ class ClientSessionState {
 		messageChannel.addReceiveHandler(CmActiveOperationCancel.class, this::onCmActiveOperationCancel);
 	}
 
-	private String beginNewOperation(PipelineOp.PipelineOpBuilder opBuilder) {
+	// the tasks of all of the session's operations share the same fair-share slice
+	private void beginNewOperation(String opId, PipelineOp.PipelineOpBuilder<?, ?> opBuilder, TaskOwner.Priority priority) {
 		// clear the message queue just in case any old messages ended up there
-		messageChannel.clearPendingMessages();
+		// the pending messages of other running operations must be retained
+		if (!pipelineOpCache.hasActiveOps())
+			messageChannel.clearPendingMessages();
 
 		PipelineOp<?, ?> newOp = opBuilder.build();
-		String opId = pipelineOpCache.newOp(newOp);
-		newOp.launch();
-		return opId;
+		pipelineOpCache.newOp(opId, newOp);
+		newOp.owner(new TaskOwner(clientId.getUuid(), priority)).launch();
 	}
 
-	private void endActiveOperation(boolean cancel) {
-		pipelineOpCache.endActiveOp(cancel);
+	private void endOperation(String opId, boolean cancel) {
+		pipelineOpCache.endOp(opId, cancel);
+	}
+
+	private void ensureCanBeginOperation(Class<?> opType) {
+		if (pipelineOpCache.hasActiveOp(opType))
+			throw new ServerRuntimeException("Another " + opType.getSimpleName() + " operation still running");
+	}
+
+	private void ensureActiveOperation(String opId, String event) {
+		if (!pipelineOpCache.isActive(opId))
+			throw new ServerRuntimeException("Invalid " + event + " event");
 	}
 
 	private synchronized void onCmWebSearchParseStart(CmWebSearchParseStart msg) {
 		ServerLogger.get().info("Begin search-crawl-parse -> Query: '" + msg.getQuery() +
 				"', Language: " + msg.getLanguage() + ", Results: " + msg.getNumResults());
 
-		if (pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Another operation still running");
+		ensureCanBeginOperation(SearchCrawlParseOp.class);
 
 		KeywordSearcherInput keywordInput;
 		if (msg.getKeywords().isEmpty())
@@ -86,16 +105,17 @@ class ClientSessionState {
 		else
 			keywordInput = new KeywordSearcherInput(msg.getKeywords());
 
+		String opId = pipelineOpCache.newOpId();
 		GramParsingPipeline.SearchCrawlParseOpBuilder builder = GramParsingPipeline.get().searchCrawlParse();
 		builder.lang(msg.getLanguage())
 				.query(msg.getQuery())
 				.results(msg.getNumResults())
 				.keywords(keywordInput)
-				.onCrawl(this::onSearchCrawlParseOpCrawlComplete)
-				.onParse(this::onSearchCrawlParseOpParseComplete)
-				.onComplete(this::onSearchCrawlParseOpJobComplete);
+				.onCrawl(e -> onSearchCrawlParseOpCrawlComplete(opId, e))
+				.onParse(e -> onSearchCrawlParseOpParseComplete(opId, e))
+				.onComplete(e -> onSearchCrawlParseOpJobComplete(opId, e));
 
-		beginNewOperation(builder);
+		beginNewOperation(opId, builder, TaskOwner.Priority.NORMAL);
 	}
 
 	private synchronized void onCmCustomCorpusParseStart(CmCustomCorpusParseStart msg) {
@@ -116,7 +136,7 @@ class ClientSessionState {
 
 		ServerLogger.get().info("Begin corpus-upload-parse -> Language: " + msg.getLanguage() + ", Uploaded Files: " + uploadedFiles.size());
 
-		if (pipelineOpCache.hasActiveOp()) {
+		if (pipelineOpCache.hasActiveOp(ParseOp.class)) {
 			ServerLogger.get().info("Another operation is in progress - Discarding file");
 			return;
 		}
@@ -144,15 +164,16 @@ class ClientSessionState {
 			ServerLogger.get().error(ex, "Couldn't read custom corpus files");
 		}
 
+		String opId = pipelineOpCache.newOpId();
 		GramParsingPipeline.ParseOpBuilder builder = GramParsingPipeline.get().documentParse();
 		builder.lang(msg.getLanguage())
 				.docSource(sources)
 				.keywords(keywordInput)
-				.onBegin(this::onParseOpJobBegin)
-				.onParse(this::onParseOpParseComplete)
-				.onComplete(this::onParseOpJobComplete);
+				.onBegin(e -> onParseOpJobBegin(opId, e))
+				.onParse(e -> onParseOpParseComplete(opId, e))
+				.onComplete(e -> onParseOpJobComplete(opId, e));
 
-		beginNewOperation(builder);
+		beginNewOperation(opId, builder, TaskOwner.Priority.BULK);
 	}
 
 	private synchronized void onCmQuestionGenEagerParse(CmQuestionGenEagerParse msg) {
@@ -178,20 +199,22 @@ class ClientSessionState {
 		}
 
 		ServerLogger.get().info("Begin eager parsing for question generation -> Doc: " + sourceDoc.getDescription());
-		if (pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Another operation still running");
+		ensureCanBeginOperation(QuestionGenerationOp.class);
 
+		String opId = pipelineOpCache.newOpId();
 		QuestionGenerationPipeline.QuestionGenerationOpBuilder builder = QuestionGenerationPipeline.get().generateQuestions()
 				.sourceDoc(sourceDoc)
 				.sourceDocParsed(false)
+				.sentenceGraphCache(sentenceGraphs)
 				.numQuestions(1)
 				.randomizeSelection(false)
-				.onParseComplete(e -> onQuestionGenerationOpEagerParseComplete(e, doc))
-				.onComplete(e -> onQuestionGenerationOpEagerJobComplete(e.generatedQuestions));
+				.onParseComplete(e -> onQuestionGenerationOpEagerParseComplete(opId, e, doc))
+				.onComplete(e -> onQuestionGenerationOpEagerJobComplete(opId, e.generatedQuestions));
 
 		// needs to be set first to prevent a race condition
 		temporaryClientData.questGenData = new TemporaryClientData.QuestionGen(sourceDoc, doc);
-		temporaryClientData.questGenData.eagerParsingOpId = beginNewOperation(builder);
+		temporaryClientData.questGenData.eagerParsingOpId = opId;
+		beginNewOperation(opId, builder, TaskOwner.Priority.INTERACTIVE);
 	}
 
 	private synchronized void onCmQuestionGenStart(CmQuestionGenStart msg) {
@@ -215,55 +238,80 @@ class ClientSessionState {
 				+ (sourceDoc != null ? sourceDoc.getDescription() : temporaryClientData.questGenData.eagerSourceDoc.getDescription())
 				+ ", Questions: " + msg.getNumQuestions());
 
-		if (pipelineOpCache.hasActiveOp() && (!eagerParsingInProgress || !pipelineOpCache.activeOpId().equals(temporaryClientData.questGenData.eagerParsingOpId)))
-			throw new ServerRuntimeException("Another operation still running");
+		// the eager parsing op is the only question generation op that the new op can wait on
+		if (!eagerParsingInProgress)
+			ensureCanBeginOperation(QuestionGenerationOp.class);
+		else if (!pipelineOpCache.isActive(temporaryClientData.questGenData.eagerParsingOpId))
+			throw new ServerRuntimeException("Eager parsing operation is no longer running");
 
+		String opId = pipelineOpCache.newOpId();
 		QuestionGenerationPipeline.QuestionGenerationOpBuilder builder = QuestionGenerationPipeline.get().generateQuestions()
 				.sourceDoc(sourceDoc)
 				.sourceDocParsed(usingCachedDoc)
+				.sentenceGraphCache(sentenceGraphs)
 				.numQuestions(msg.getNumQuestions())
 				.randomizeSelection(msg.getRandomizeSelection())
-				.onParseComplete(e -> onQuestionGenerationOpParseComplete(e, doc))
-				.onComplete(e -> onQuestionGenerationOpJobComplete(e.generatedQuestions));
+				.onParseComplete(e -> onQuestionGenerationOpParseComplete(opId, e, doc))
+				.onComplete(e -> onQuestionGenerationOpJobComplete(opId, e.generatedQuestions));
 
 		if (eagerParsingInProgress) {
 			if (temporaryClientData.questGenData.queuedOperation != null)
 				throw new ServerRuntimeException("Multiple queued question generation operations!");
 
 			temporaryClientData.questGenData.queuedOperation = builder;
+			temporaryClientData.questGenData.queuedOperationId = opId;
 			ServerLogger.get().trace("Waiting for question gen eager parse operation to complete...");
 		} else
-			beginNewOperation(builder);
+			beginNewOperation(opId, builder, TaskOwner.Priority.INTERACTIVE);
 	}
 
 	private synchronized void onCmActiveOperationCancel(CmActiveOperationCancel msg) {
-		if (!pipelineOpCache.hasActiveOp()) {
+		List<String> opIds;
+		switch (msg.getTarget()) {
+		case WEB_SEARCH:
+			opIds = pipelineOpCache.activeOpIds(SearchCrawlParseOp.class);
+			break;
+		case CUSTOM_CORPUS:
+			opIds = pipelineOpCache.activeOpIds(ParseOp.class);
+			break;
+		case QUESTION_GEN:
+			opIds = pipelineOpCache.activeOpIds(QuestionGenerationOp.class);
+			break;
+		default:
+			opIds = pipelineOpCache.activeOpIds(PipelineOp.class);
+			break;
+		}
+
+		if (msg.getTarget() == CmActiveOperationCancel.Target.ALL || msg.getTarget() == CmActiveOperationCancel.Target.QUESTION_GEN) {
+			// also drops any question generation op that was queued behind the eager parsing op
+			temporaryClientData.questGenData = null;
+		}
+
+		if (opIds.isEmpty()) {
 			if (msg.getActiveOperationExpected())
-				ServerLogger.get().warn("No active operation to cancel on client " + clientId);
+				ServerLogger.get().warn("No active operation to cancel on client " + clientId + " (" + msg.getTarget() + ")");
 			return;
 		}
 
-		endActiveOperation(true);
-		temporaryClientData.questGenData = null;
+		for (String opId : opIds)
+			endOperation(opId, true);
 	}
 
 
-	private synchronized void onParseOpJobBegin(Iterable<AbstractDocumentSource> source) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid corpus job begin event");
+	private synchronized void onParseOpJobBegin(String opId, Iterable<AbstractDocumentSource> source) {
+		ensureActiveOperation(opId, "corpus job begin");
 
 		SmCustomCorpusEvent msg = new SmCustomCorpusEvent();
 		msg.setEvent(SmCustomCorpusEvent.EventType.UPLOAD_COMPLETE);
-		msg.setUploadResult(DtoGenerator.uploadedDocs(source, pipelineOpCache.activeOpId()));
+		msg.setUploadResult(DtoGenerator.uploadedDocs(source, opId));
 		messageChannel.send(msg);
 	}
 
-	private synchronized void onParseOpParseComplete(AbstractDocument doc) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid corpus parse complete event");
+	private synchronized void onParseOpParseComplete(String opId, AbstractDocument doc) {
+		ensureActiveOperation(opId, "corpus parse complete");
 
-		RankableDocumentImpl dto = DtoGenerator.rankableDocument(doc, pipelineOpCache.activeOpId());
-		gramParsingLinkingData.put(pipelineOpCache.activeOp(), doc, dto);
+		RankableDocumentImpl dto = DtoGenerator.rankableDocument(doc, opId);
+		gramParsingLinkingData.put(pipelineOpCache.lookupOp(opId), doc, dto);
 
 		SmCustomCorpusEvent msg = new SmCustomCorpusEvent();
 		msg.setEvent(SmCustomCorpusEvent.EventType.PARSE_COMPLETE);
@@ -271,33 +319,30 @@ class ClientSessionState {
 		messageChannel.send(msg);
 	}
 
-	private synchronized void onParseOpJobComplete(DocumentCollection docs) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid corpus job complete event");
+	private synchronized void onParseOpJobComplete(String opId, DocumentCollection docs) {
+		ensureActiveOperation(opId, "corpus job complete");
 
 		SmCustomCorpusEvent msg = new SmCustomCorpusEvent();
 		msg.setEvent(SmCustomCorpusEvent.EventType.JOB_COMPLETE);
 		messageChannel.send(msg);
 
-		endActiveOperation(false);
+		endOperation(opId, false);
 	}
 
-	private synchronized void onSearchCrawlParseOpCrawlComplete(SearchResult sr) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid crawl complete event");
+	private synchronized void onSearchCrawlParseOpCrawlComplete(String opId, SearchResult sr) {
+		ensureActiveOperation(opId, "crawl complete");
 
 		SmWebSearchParseEvent msg = new SmWebSearchParseEvent();
 		msg.setEvent(SmWebSearchParseEvent.EventType.CRAWL_COMPLETE);
-		msg.setCrawlResult(DtoGenerator.rankableWebSearchResult(sr, pipelineOpCache.activeOpId()));
+		msg.setCrawlResult(DtoGenerator.rankableWebSearchResult(sr, opId));
 		messageChannel.send(msg);
 	}
 
-	private synchronized void onSearchCrawlParseOpParseComplete(AbstractDocument doc) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid search-crawl-parse parse complete event");
+	private synchronized void onSearchCrawlParseOpParseComplete(String opId, AbstractDocument doc) {
+		ensureActiveOperation(opId, "search-crawl-parse parse complete");
 
-		RankableDocumentImpl dto = DtoGenerator.rankableDocument(doc, pipelineOpCache.activeOpId());
-		gramParsingLinkingData.put(pipelineOpCache.activeOp(), doc, dto);
+		RankableDocumentImpl dto = DtoGenerator.rankableDocument(doc, opId);
+		gramParsingLinkingData.put(pipelineOpCache.lookupOp(opId), doc, dto);
 
 		SmWebSearchParseEvent msg = new SmWebSearchParseEvent();
 		msg.setEvent(SmWebSearchParseEvent.EventType.PARSE_COMPLETE);
@@ -305,53 +350,48 @@ class ClientSessionState {
 		messageChannel.send(msg);
 	}
 
-	private synchronized void onSearchCrawlParseOpJobComplete(DocumentCollection docs) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid search-crawl-parse job complete event");
+	private synchronized void onSearchCrawlParseOpJobComplete(String opId, DocumentCollection docs) {
+		ensureActiveOperation(opId, "search-crawl-parse job complete");
 
 		SmWebSearchParseEvent msg = new SmWebSearchParseEvent();
 		msg.setEvent(SmWebSearchParseEvent.EventType.JOB_COMPLETE);
 		messageChannel.send(msg);
 
-		endActiveOperation(false);
+		endOperation(opId, false);
 	}
 
-	private synchronized void onQuestionGenerationOpEagerParseComplete(AbstractDocument parsedDoc, DocumentDTO linkingDoc) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid question gen eager parse complete event");
+	private synchronized void onQuestionGenerationOpEagerParseComplete(String opId, AbstractDocument parsedDoc, DocumentDTO linkingDoc) {
+		ensureActiveOperation(opId, "question gen eager parse complete");
 
 		// add to cache so that future QG requests for this document (in this session) won't have to parse it anew
 		questGenLinkingData.put(pipelineOpCache.lookupOp(linkingDoc.getOperationId()), parsedDoc, linkingDoc);
 		temporaryClientData.questGenData.eagerParsedDoc = parsedDoc;
 	}
 
-	private synchronized void onQuestionGenerationOpEagerJobComplete(Collection<GeneratedQuestion> unused) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid question gen eager job complete event!");
+	private synchronized void onQuestionGenerationOpEagerJobComplete(String opId, Collection<GeneratedQuestion> unused) {
+		ensureActiveOperation(opId, "question gen eager job complete");
 
-		endActiveOperation(false);
+		endOperation(opId, false);
 
 		QuestionGenerationPipeline.QuestionGenerationOpBuilder queuedOp = temporaryClientData.questGenData.queuedOperation;
 		if (queuedOp != null) {
 			queuedOp.sourceDoc(temporaryClientData.questGenData.eagerParsedDoc).sourceDocParsed(true);
-			beginNewOperation(temporaryClientData.questGenData.queuedOperation);
+			beginNewOperation(temporaryClientData.questGenData.queuedOperationId, queuedOp, TaskOwner.Priority.INTERACTIVE);
 		}
 
 		temporaryClientData.questGenData = null;
 	}
 
-	private synchronized void onQuestionGenerationOpParseComplete(AbstractDocument parsedDoc, DocumentDTO linkingDoc) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid question gen parse complete event");
+	private synchronized void onQuestionGenerationOpParseComplete(String opId, AbstractDocument parsedDoc, DocumentDTO linkingDoc) {
+		ensureActiveOperation(opId, "question gen parse complete");
 
 		PipelineOp<?, ?> sourceOp = pipelineOpCache.lookupOp(linkingDoc.getOperationId());
 		if (!questGenLinkingData.contains(sourceOp, linkingDoc))
 			questGenLinkingData.put(sourceOp, parsedDoc, linkingDoc);
 	}
 
-	private synchronized void onQuestionGenerationOpJobComplete(Collection<GeneratedQuestion> questions) {
-		if (!pipelineOpCache.hasActiveOp())
-			throw new ServerRuntimeException("Invalid question gen parse job complete event!");
+	private synchronized void onQuestionGenerationOpJobComplete(String opId, Collection<GeneratedQuestion> questions) {
+		ensureActiveOperation(opId, "question gen parse job complete");
 
 		SmQuestionGenEvent msg = new SmQuestionGenEvent();
 		msg.setEvent(SmQuestionGenEvent.EventType.JOB_COMPLETE);
@@ -359,7 +399,7 @@ class ClientSessionState {
 		messageChannel.send(msg);
 
 		// reset operation state
-		endActiveOperation(false);
+		endOperation(opId, false);
 	}
 
 	synchronized void handleCorpusUpload(List<CustomCorpusFile> corpus) {
@@ -370,13 +410,15 @@ class ClientSessionState {
 	}
 
 	synchronized void release() {
-		if (pipelineOpCache.hasActiveOp()) {
+		for (String opId : pipelineOpCache.activeOpIds(PipelineOp.class)) {
 			ServerLogger.get().warn("Pipeline operation is still executing at the time of shutdown. Status: "
-					+ pipelineOpCache.activeOp());
+					+ pipelineOpCache.lookupOp(opId));
 
-			endActiveOperation(true);
+			endOperation(opId, true);
 		}
 
+		ServerLogger.get().trace("Sentence graph cache: " + sentenceGraphs);
+		sentenceGraphs.clear();
 		ServerMessagingSwitchboard.get().closeChannel(messageChannel);
 	}
 }
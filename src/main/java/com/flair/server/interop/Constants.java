@@ -0,0 +1,19 @@
+package com.flair.server.interop;
+
+import com.flair.shared.grammar.Language;
+
+class Constants {
+	// models are loaded eagerly at startup (apart from the parsers of secondary languages) unless overridden with "flair.warmup.<model>=eager|lazy"
+	// the default for all models can be overridden with "flair.warmup.default"
+	static final String MODEL_WARMUP_POLICY_PROPERTY_PREFIX = "flair.warmup.";
+	static final String MODEL_WARMUP_DEFAULT_POLICY_PROPERTY = MODEL_WARMUP_POLICY_PROPERTY_PREFIX + "default";
+	static final ModelWarmup.Policy MODEL_WARMUP_DEFAULT_POLICY = ModelWarmup.Policy.EAGER;
+	// each language's parser pool holds several copies of its models, so only the most used language is loaded eagerly
+	static final ModelWarmup.Policy MODEL_WARMUP_SECONDARY_PARSER_POLICY = ModelWarmup.Policy.LAZY;
+	static final Language MODEL_WARMUP_PRIMARY_PARSER_LANGUAGE = Language.ENGLISH;
+	// no. of models loaded concurrently. this only limits the contention at startup, every loaded model is retained
+	static final int MODEL_WARMUP_THREADPOOL_SIZE = 4;
+
+	// no. of sentence graphs retained for repeated question generation on the same document
+	static final int SENTENCE_GRAPH_CACHE_CAPACITY_PER_SESSION = 8;
+}
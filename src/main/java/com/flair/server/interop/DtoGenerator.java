@@ -56,9 +56,9 @@ class DtoGenerator {
 				out.getRelFrequencies().put(itr, data.getRelativeFrequency());
 				out.getFrequencies().put(itr, data.getFrequency());
 
-				ArrayList<RankableDocumentImpl.ConstructionOccurrence> highlights = new ArrayList<>();
-				for (ConstructionOccurrence occr : data.getOccurrences())
-					highlights.add(new RankableDocumentImpl.ConstructionOccurrence(occr.getStart(), occr.getEnd(), itr));
+				ArrayList<RankableDocumentImpl.ConstructionOccurrence> highlights = new ArrayList<>(data.getFrequency());
+				for (int i = 0; i < data.getFrequency(); i++)
+					highlights.add(new RankableDocumentImpl.ConstructionOccurrence(data.getOccurrenceStart(i), data.getOccurrenceEnd(i), itr));
 
 				out.getConstOccurrences().put(itr, highlights);
 			}
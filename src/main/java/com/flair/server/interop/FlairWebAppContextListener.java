@@ -5,6 +5,7 @@ import com.flair.server.interop.messaging.ServerMessagingSwitchboard;
 import com.flair.server.pipelines.gramparsing.GramParsingPipeline;
 import com.flair.server.pipelines.questgen.QuestionGenerationPipeline;
 import com.flair.server.scheduler.ThreadPool;
+import com.flair.server.utilities.HttpClientFactory;
 import com.flair.server.utilities.ServerLogger;
 
 import javax.servlet.ServletContextEvent;
@@ -24,6 +25,7 @@ public class FlairWebAppContextListener implements ServletContextListener {
 		ClientSessionManager.get();
 		GramParsingPipeline.get();
 		QuestionGenerationPipeline.get();
+		ModelWarmup.get().start();
 
 		Thread.setDefaultUncaughtExceptionHandler((thread, thrwbl) -> {
 			ServerLogger.get().error(thrwbl,
@@ -39,11 +41,13 @@ public class FlairWebAppContextListener implements ServletContextListener {
 		ServerLogger.get().info("FLAIR Context deinitializing...");
 		ServerLogger.get().indent();
 
+		ModelWarmup.dispose();
 		QuestionGenerationPipeline.dispose();
 		GramParsingPipeline.dispose();
 		ClientSessionManager.dispose();
 		ServerMessagingSwitchboard.dispose();
 		ThreadPool.dispose();
+		HttpClientFactory.get().shutdown();
 
 		ServerLogger.get().exdent();
 		ServerLogger.get().info("FLAIR Context deinitialized!");
@@ -0,0 +1,237 @@
+package com.flair.server.interop;
+
+import com.flair.server.grammar.DefaultVocabularyList;
+import com.flair.server.pipelines.gramparsing.GramParsingPipeline;
+import com.flair.server.pipelines.questgen.QuestionGenerationPipeline;
+import com.flair.server.scheduler.AsyncExecutorService;
+import com.flair.server.scheduler.ThreadPool;
+import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.dictionary.WordNetDictionary;
+import com.flair.shared.grammar.Language;
+import edu.cmu.ark.QuestionFeatureExtractor;
+import edu.cmu.ark.SuperSenseWrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.FutureTask;
+
+/*
+ * Loads the NLP models used by the pipelines in the background when the web app starts and tracks their readiness
+ * Lazy models are left to be loaded by the first operation that needs them
+ */
+public final class ModelWarmup {
+	private static ModelWarmup SINGLETON = null;
+
+	public static ModelWarmup get() {
+		if (SINGLETON == null) {
+			synchronized (ModelWarmup.class) {
+				if (SINGLETON == null)
+					SINGLETON = new ModelWarmup();
+			}
+		}
+
+		return SINGLETON;
+	}
+
+	public static void dispose() {
+		if (SINGLETON != null) {
+			SINGLETON.shutdown();
+			SINGLETON = null;
+		}
+	}
+
+	public enum Policy {
+		EAGER, LAZY
+	}
+
+	public enum State {
+		LAZY,       // not warmed up, loaded on first use
+		PENDING,
+		LOADING,
+		READY,
+		FAILED
+	}
+
+	public static final class ModelStatus {
+		private final String name;
+		private final Policy policy;
+		private final State state;
+		private final long loadTime;
+		private final String error;
+
+		private ModelStatus(String name, Policy policy, State state, long loadTime, String error) {
+			this.name = name;
+			this.policy = policy;
+			this.state = state;
+			this.loadTime = loadTime;
+			this.error = error;
+		}
+
+		public String name() {
+			return name;
+		}
+		public Policy policy() {
+			return policy;
+		}
+		public State state() {
+			return state;
+		}
+		// in milliseconds, -1 if the model hasn't finished loading
+		public long loadTime() {
+			return loadTime;
+		}
+		// null if the model didn't fail to load
+		public String error() {
+			return error;
+		}
+	}
+
+	private static final class Model {
+		final String name;
+		final Policy policy;
+		final Runnable loader;
+		State state;
+		long startTime;
+		long endTime;
+		String error;
+
+		Model(String name, Policy policy, Runnable loader) {
+			this.name = name;
+			this.policy = policy;
+			this.loader = loader;
+			this.state = policy == Policy.EAGER ? State.PENDING : State.LAZY;
+		}
+
+		synchronized ModelStatus status() {
+			long loadTime = state == State.READY || state == State.FAILED ? endTime - startTime : -1;
+			return new ModelStatus(name, policy, state, loadTime, error);
+		}
+	}
+
+	private final List<Model> models;
+	private final AsyncExecutorService warmupExecutor;
+	private boolean started;
+
+	private ModelWarmup() {
+		models = new ArrayList<>();
+		for (Language lang : Language.values()) {
+			register("parser." + lang.name().toLowerCase(Locale.ROOT),
+					lang == Constants.MODEL_WARMUP_PRIMARY_PARSER_LANGUAGE ? Constants.MODEL_WARMUP_DEFAULT_POLICY
+							: Constants.MODEL_WARMUP_SECONDARY_PARSER_POLICY,
+					() -> GramParsingPipeline.get().warmUp(lang));
+		}
+
+		register("questgen.parser", () -> QuestionGenerationPipeline.get().warmUpParser());
+		register("questgen.transducers", () -> QuestionGenerationPipeline.get().warmUpTransducers());
+		register("questgen.ranker", () -> QuestionGenerationPipeline.get().warmUpDefaultRanker());
+		register("languagemodel", QuestionFeatureExtractor::getInstance);
+		register("supersense", () -> {
+			if (!SuperSenseWrapper.getInstance().isModelLoaded())
+				throw new IllegalStateException("Supersense model not loaded");
+		});
+		register("wordnet", () -> {
+			if (!WordNetDictionary.defaultInstance().isLoaded())
+				throw new IllegalStateException("WordNet dictionary not loaded");
+		});
+		// preloads the synsets of the default vocabulary's lemmas
+		register("wordnet.cache", () -> {
+			if (!WordNetDictionary.defaultInstance().isLoaded())
+				throw new IllegalStateException("WordNet dictionary not loaded");
+
+			WordNetDictionary.cachedInstance().preload(DefaultVocabularyList.get(Language.ENGLISH));
+		});
+
+		warmupExecutor = ThreadPool.get().builder()
+				.poolSize(Constants.MODEL_WARMUP_THREADPOOL_SIZE)
+				.poolName("Model Warmup")
+				.build();
+		started = false;
+	}
+
+	private void shutdown() {
+		// the thread pool is shutdown elsewhere
+		ServerLogger.get().info("Model warmup: " + (isReady() ? "ready" : "not ready"));
+		ServerLogger.get().info("WordNet cache: " + WordNetDictionary.cachedInstance().stats());
+	}
+
+	private static Policy policy(String model, Policy defaultPolicy) {
+		String value = System.getProperty(Constants.MODEL_WARMUP_POLICY_PROPERTY_PREFIX + model,
+				System.getProperty(Constants.MODEL_WARMUP_DEFAULT_POLICY_PROPERTY));
+		if (value == null)
+			return defaultPolicy;
+
+		try {
+			return Policy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException ex) {
+			ServerLogger.get().warn("Invalid warmup policy '" + value + "' for model " + model + ", defaulting to " + defaultPolicy);
+			return defaultPolicy;
+		}
+	}
+
+	private void register(String name, Policy defaultPolicy, Runnable loader) {
+		models.add(new Model(name, policy(name, defaultPolicy), loader));
+	}
+
+	private void register(String name, Runnable loader) {
+		register(name, Constants.MODEL_WARMUP_DEFAULT_POLICY, loader);
+	}
+
+	private static void load(Model model) {
+		synchronized (model) {
+			model.state = State.LOADING;
+			model.startTime = System.currentTimeMillis();
+		}
+
+		State state = State.READY;
+		String error = null;
+		try {
+			model.loader.run();
+		} catch (Throwable ex) {
+			state = State.FAILED;
+			error = ex.toString();
+			ServerLogger.get().error(ex, "Couldn't warm up model " + model.name + ". Exception: " + ex.toString());
+		}
+
+		synchronized (model) {
+			model.state = state;
+			model.endTime = System.currentTimeMillis();
+			model.error = error;
+		}
+
+		if (state == State.READY)
+			ServerLogger.get().info("Warmed up model " + model.name + " in " + (model.endTime - model.startTime) + " ms");
+	}
+
+	// begins loading all eager models in parallel, doesn't block
+	public synchronized void start() {
+		if (started)
+			return;
+
+		started = true;
+		for (Model model : models) {
+			if (model.policy == Policy.EAGER)
+				warmupExecutor.submit(new FutureTask<>(() -> load(model), null));
+		}
+	}
+
+	public List<ModelStatus> status() {
+		List<ModelStatus> out = new ArrayList<>(models.size());
+		for (Model model : models)
+			out.add(model.status());
+
+		return Collections.unmodifiableList(out);
+	}
+
+	// true if all eager models have been loaded
+	public boolean isReady() {
+		for (Model model : models) {
+			ModelStatus status = model.status();
+			if (status.policy() == Policy.EAGER && status.state() != State.READY)
+				return false;
+		}
+
+		return true;
+	}
+}
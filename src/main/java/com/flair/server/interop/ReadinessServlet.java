@@ -0,0 +1,71 @@
+package com.flair.server.interop;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reports the readiness of the NLP models as JSON
+ * Responds with 200 once all eagerly loaded models are ready, 503 otherwise
+ */
+public class ReadinessServlet extends HttpServlet {
+	private static final long serialVersionUID = -3296312858712704216L;
+
+	private static void appendString(StringBuilder out, String value) {
+		if (value == null) {
+			out.append("null");
+			return;
+		}
+
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\')
+				out.append('\\').append(c);
+			else if (c < 0x20)
+				out.append(String.format("\\u%04x", (int) c));
+			else
+				out.append(c);
+		}
+		out.append('"');
+	}
+
+	private static String toJson(boolean ready, List<ModelWarmup.ModelStatus> models) {
+		StringBuilder out = new StringBuilder();
+		out.append("{\"ready\":").append(ready).append(",\"models\":[");
+		for (int i = 0; i < models.size(); i++) {
+			ModelWarmup.ModelStatus model = models.get(i);
+			if (i > 0)
+				out.append(',');
+
+			out.append("{\"name\":");
+			appendString(out, model.name());
+			out.append(",\"policy\":");
+			appendString(out, model.policy().name().toLowerCase());
+			out.append(",\"state\":");
+			appendString(out, model.state().name().toLowerCase());
+			out.append(",\"loadTimeMs\":").append(model.loadTime());
+			out.append(",\"error\":");
+			appendString(out, model.error());
+			out.append('}');
+		}
+		out.append("]}");
+		return out.toString();
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response)
+			throws ServletException, IOException {
+		ModelWarmup warmup = ModelWarmup.get();
+		boolean ready = warmup.isReady();
+
+		response.setStatus(ready ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		response.setContentType("application/json");
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader("Cache-Control", "no-store");
+		response.getWriter().write(toJson(ready, warmup.status()));
+	}
+}
@@ -18,6 +18,7 @@ final class TemporaryClientData {
 		DocumentDTO eagerLinkingDoc = null;
 		AbstractDocument eagerParsedDoc = null;
 		QuestionGenerationPipeline.QuestionGenerationOpBuilder queuedOperation = null;
+		String queuedOperationId = "";
 
 		QuestionGen(AbstractDocument eagerSourceDoc, DocumentDTO eagerLinkingDoc) {
 			this.eagerSourceDoc = eagerSourceDoc;
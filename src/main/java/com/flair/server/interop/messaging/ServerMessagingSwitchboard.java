@@ -10,6 +10,7 @@ import com.flair.shared.interop.messaging.server.SmError;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /*
@@ -46,6 +47,7 @@ public class ServerMessagingSwitchboard {
 
 	private class ServerMessageChannelImpl implements ServerMessageChannel {
 		private static final long MAX_OUT_OF_ORDER_MESSAGES = 10;
+		private static final long BURST_COALESCING_WINDOW = 100;     // in milliseconds
 
 		private final ClientIdToken clientId;
 		private final List<Message<?>> inbox;
@@ -159,19 +161,45 @@ public class ServerMessagingSwitchboard {
 			}
 		}
 
-		private synchronized ArrayList<Message<? extends Message.Payload>> onPullToClient(int numMessages) {
+		private synchronized void awaitOutgoingMessages(long timeout) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + timeout;
+			while (channelOpen && outbox.isEmpty()) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0)
+					return;
+
+				wait(remaining);
+			}
+
+			if (!channelOpen)
+				return;
+
+			// give bursts of messages a chance to be delivered together
+			long burstDeadline = System.currentTimeMillis() + BURST_COALESCING_WINDOW;
+			for (long remaining = BURST_COALESCING_WINDOW; channelOpen && remaining > 0;
+			     remaining = burstDeadline - System.currentTimeMillis()) {
+				wait(remaining);
+			}
+		}
+
+		private synchronized ArrayList<Message<? extends Message.Payload>> onPullToClient(long timeout) {
 			if (!channelOpen)
 				throw new IllegalStateException("Broken message channel for client " + clientId);
 
-			if (numMessages <= 0)
-				numMessages = outbox.size();
-			else if (numMessages > outbox.size())
-				numMessages = outbox.size();
+			try {
+				if (timeout > 0)
+					awaitOutgoingMessages(timeout);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
 
 			ArrayList<Message<? extends Message.Payload>> out = new ArrayList<>();
-			for (int i = 0; i < numMessages; i++)
-				out.add(outbox.poll());
+			// the channel could have been closed while waiting
+			if (!channelOpen)
+				return out;
 
+			out.addAll(outbox);
+			outbox.clear();
 			return out;
 		}
 
@@ -188,6 +216,9 @@ public class ServerMessagingSwitchboard {
 			messageHandlers.clear();
 			inbox.clear();
 			outbox.clear();
+
+			// release pending pulls
+			notifyAll();
 		}
 
 		ServerMessageChannelImpl(ClientIdToken clientId) {
@@ -228,6 +259,7 @@ public class ServerMessagingSwitchboard {
 				throw new IllegalArgumentException("Message for client " + clientId + " has no payload!");
 
 			outbox.add(message);
+			notifyAll();
 		}
 
 		@Override
@@ -241,12 +273,21 @@ public class ServerMessagingSwitchboard {
 		}
 	}
 
+	// pulls are held open until there are messages to deliver or the timeout elapses
+	// kept below the idle timeouts of common proxies
+	private static final long PULL_TO_CLIENT_TIMEOUT = 25 * 1000;      // in milliseconds
+	// held pulls block a container thread each, so pulls beyond this limit return immediately
+	// the clients of such pulls fall back to polling until a slot frees up
+	private static final int MAX_HELD_PULLS = 64;
+
 	private final Map<ClientIdToken, ServerMessageChannelImpl> clientId2Channel;
 	private final Map<ServerMessageChannelImpl, ClientIdToken> channel2ClientId;
+	private final Semaphore heldPulls;
 
 	private ServerMessagingSwitchboard() {
 		clientId2Channel = new ConcurrentHashMap<>();
 		channel2ClientId = new ConcurrentHashMap<>();
+		heldPulls = new Semaphore(MAX_HELD_PULLS);
 	}
 
 	public synchronized ServerMessageChannel openChannel(ClientIdToken clientId) {
@@ -294,6 +335,13 @@ public class ServerMessagingSwitchboard {
 			throw new InvalidClientIdentificationTokenException();
 		}
 
-		return messageChannel.onPullToClient(-1);
+		if (!heldPulls.tryAcquire())
+			return messageChannel.onPullToClient(0);
+
+		try {
+			return messageChannel.onPullToClient(PULL_TO_CLIENT_TIMEOUT);
+		} finally {
+			heldPulls.release();
+		}
 	}
 }
@@ -0,0 +1,216 @@
+package com.flair.server.parser;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TCharIntHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Keyword searcher that matches all keywords in a single pass over the text using an Aho-Corasick automaton
+ * Produces the same hits as SimpleSubstringKeywordSearcher. The automaton is compiled once per keyword input and
+ * shared by all searches using the same input, so instances are meant to be reused across documents
+ */
+public class AhoCorasickKeywordSearcher implements AbstractKeywordSearcher {
+	private static final int ROOT = 0;
+	private static final int NO_KEYWORD = -1;
+	private static final int NO_LINK = -1;
+
+	private static final class Automaton {
+		final KeywordSearcherInput source;
+		final String[] keywords;            // distinct, non-empty keywords
+		final int[] multiplicity;           // no. of times each keyword occurs in the input
+		final TCharIntHashMap[] transitions;
+		final int[] failureLinks;
+		final int[] outputLinks;            // nearest proper suffix state that terminates a keyword
+		final int[] terminals;              // keyword that terminates at each state
+
+		Automaton(KeywordSearcherInput source) {
+			this.source = source;
+
+			TObjectIntHashMap<String> keywordIds = new TObjectIntHashMap<>(16, 0.5f, NO_KEYWORD);
+			List<String> distinct = new ArrayList<>();
+			List<Integer> counts = new ArrayList<>();
+			for (String itr : source) {
+				// empty keywords can't produce hits
+				if (itr.isEmpty())
+					continue;
+
+				int id = keywordIds.get(itr);
+				if (id == NO_KEYWORD) {
+					keywordIds.put(itr, distinct.size());
+					distinct.add(itr);
+					counts.add(1);
+				} else
+					counts.set(id, counts.get(id) + 1);
+			}
+
+			keywords = distinct.toArray(new String[0]);
+			multiplicity = new int[keywords.length];
+			for (int i = 0; i < multiplicity.length; i++)
+				multiplicity[i] = counts.get(i);
+
+			// build the trie
+			List<TCharIntHashMap> trie = new ArrayList<>();
+			List<Integer> keywordAtState = new ArrayList<>();
+			trie.add(new TCharIntHashMap());
+			keywordAtState.add(NO_KEYWORD);
+
+			for (int i = 0; i < keywords.length; i++) {
+				int state = ROOT;
+				String keyword = keywords[i];
+				for (int j = 0; j < keyword.length(); j++) {
+					char c = keyword.charAt(j);
+					int next = trie.get(state).get(c);
+					if (next == ROOT) {
+						next = trie.size();
+						trie.add(new TCharIntHashMap());
+						keywordAtState.add(NO_KEYWORD);
+						trie.get(state).put(c, next);
+					}
+					state = next;
+				}
+
+				keywordAtState.set(state, i);
+			}
+
+			int numStates = trie.size();
+			transitions = trie.toArray(new TCharIntHashMap[0]);
+			terminals = new int[numStates];
+			for (int i = 0; i < numStates; i++)
+				terminals[i] = keywordAtState.get(i);
+
+			// breadth-first traversal to compute the failure and output links
+			failureLinks = new int[numStates];
+			outputLinks = new int[numStates];
+			failureLinks[ROOT] = ROOT;
+			outputLinks[ROOT] = NO_LINK;
+
+			Queue<Integer> queue = new ArrayDeque<>();
+			for (int child : transitions[ROOT].values()) {
+				failureLinks[child] = ROOT;
+				outputLinks[child] = NO_LINK;
+				queue.add(child);
+			}
+
+			while (!queue.isEmpty()) {
+				int state = queue.poll();
+				for (char c : transitions[state].keys()) {
+					int child = transitions[state].get(c);
+					int fallback = failureLinks[state];
+					while (fallback != ROOT && !transitions[fallback].containsKey(c))
+						fallback = failureLinks[fallback];
+
+					int failure = transitions[fallback].get(c);
+					failureLinks[child] = failure;
+					outputLinks[child] = terminals[failure] != NO_KEYWORD ? failure : outputLinks[failure];
+					queue.add(child);
+				}
+			}
+		}
+
+		int next(int state, char c) {
+			while (state != ROOT && !transitions[state].containsKey(c))
+				state = failureLinks[state];
+
+			// the no-entry value of the transition maps is the root state
+			return transitions[state].get(c);
+		}
+	}
+
+	private static boolean isBoundary(String text, int index) {
+		if (index < 0 || index >= text.length())
+			return true;
+
+		char c = text.charAt(index);
+		return c == '.' || c == '-' || c == '\n' || Character.isWhitespace(c);
+	}
+
+	private volatile Automaton automaton = null;
+
+	private Automaton compile(KeywordSearcherInput input) {
+		Automaton current = automaton;
+		if (current != null && current.source == input)
+			return current;
+
+		synchronized (this) {
+			current = automaton;
+			if (current == null || current.source != input) {
+				current = new Automaton(input);
+				automaton = current;
+			}
+
+			return current;
+		}
+	}
+
+	@Override
+	public KeywordSearcherOutput search(String sourceText, KeywordSearcherInput input) {
+		if (input == null)
+			throw new IllegalArgumentException("No keyword search input");
+
+		Automaton compiled = compile(input);
+		KeywordSearcherOutput output = new KeywordSearcherOutput(input);
+		// force to lowercase
+		sourceText = sourceText.toLowerCase();
+
+		// matches of the same keyword can't overlap - the next one must begin at or after the end of the previous match
+		int[] nextStart = new int[compiled.keywords.length];
+		// hits of repeated keywords are buffered to preserve the order in which they'd be reported otherwise
+		TIntArrayList[] repeatedHits = new TIntArrayList[compiled.keywords.length];
+		int state = ROOT;
+		for (int i = 0; i < sourceText.length(); i++) {
+			state = compiled.next(state, sourceText.charAt(i));
+
+			int match = compiled.terminals[state] != NO_KEYWORD ? state : compiled.outputLinks[state];
+			while (match != NO_LINK) {
+				int keywordId = compiled.terminals[match];
+				String keyword = compiled.keywords[keywordId];
+				int endIdx = i + 1;
+				int startIdx = endIdx - keyword.length();
+
+				if (startIdx >= nextStart[keywordId]) {
+					nextStart[keywordId] = endIdx;
+					if (isBoundary(sourceText, startIdx - 1) && isBoundary(sourceText, endIdx)) {
+						if (compiled.multiplicity[keywordId] == 1)
+							output.addHit(keyword, startIdx, endIdx);
+						else {
+							if (repeatedHits[keywordId] == null)
+								repeatedHits[keywordId] = new TIntArrayList();
+							repeatedHits[keywordId].add(startIdx);
+							repeatedHits[keywordId].add(endIdx);
+						}
+					}
+				}
+
+				match = compiled.outputLinks[match];
+			}
+		}
+
+		for (int i = 0; i < repeatedHits.length; i++) {
+			if (repeatedHits[i] == null)
+				continue;
+
+			for (int j = 0; j < compiled.multiplicity[i]; j++) {
+				for (int k = 0; k < repeatedHits[i].size(); k += 2)
+					output.addHit(compiled.keywords[i], repeatedHits[i].get(k), repeatedHits[i].get(k + 1));
+			}
+		}
+
+		return output;
+	}
+
+	private static class Factory implements AbstractKeywordSearcher.Factory {
+		@Override
+		public AbstractKeywordSearcher create() {
+			return new AhoCorasickKeywordSearcher();
+		}
+	}
+
+	public static AbstractKeywordSearcher.Factory factory() {
+		return new AhoCorasickKeywordSearcher.Factory();
+	}
+}
@@ -0,0 +1,10 @@
+package com.flair.server.parser;
+
+/**
+ * Determines how much of a parser's annotations are retained once a document has been analysed
+ */
+public enum AnnotationRetention {
+	FULL,               // the parser's native annotations
+	TOKENS,             // sentence and token-level data (word, lemma, POS, stopword, offsets)
+	TOKENS_AND_TREES    // same as above, along with the serialized parse tree of each sentence
+}
@@ -0,0 +1,212 @@
+package com.flair.server.parser;
+
+import edu.stanford.nlp.trees.Tree;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Immutable, compact copy of the sentence and token-level data of another set of annotations
+ * Lets analysed documents drop the parser's (much larger) native annotations
+ */
+public final class CompactParserAnnotations implements ParserAnnotations {
+	public static final class Token implements ParserAnnotations.Token {
+		private final Sentence parent;
+		private final int index;
+
+		private Token(Sentence parent, int index) {
+			this.parent = parent;
+			this.index = index;
+		}
+
+		public int beginPosition() {
+			return parent.begins[index];
+		}
+		public int endPosition() {
+			return parent.ends[index];
+		}
+
+		@Override
+		public String word() {
+			return parent.words[index];
+		}
+		@Override
+		public String lemma() {
+			return parent.lemmas[index] == null ? "" : parent.lemmas[index];
+		}
+		@Override
+		public String lemmaOrWord() {
+			return parent.lemmas[index] == null ? parent.words[index] : parent.lemmas[index];
+		}
+		@Override
+		public String pos() {
+			return parent.pos[index];
+		}
+		@Override
+		public boolean isStopword() {
+			return parent.stopwords[index];
+		}
+		@Override
+		public <T extends ParserAnnotations.Token> T data(Class<T> typeClass) {
+			if (typeClass != this.getClass())
+				throw new IllegalArgumentException("Couldn't convert " + this.getClass().getSimpleName() + " into " + typeClass.getSimpleName());
+
+			return typeClass.cast(this);
+		}
+	}
+
+	public static final class Sentence implements ParserAnnotations.Sentence {
+		private final int index;
+		private final int start;
+		private final int end;
+		private final String text;
+		private final String[] words;
+		private final String[] lemmas;      // null entries denote missing lemmas
+		private final String[] pos;
+		private final boolean[] stopwords;
+		private final int[] begins;
+		private final int[] ends;
+		private final String parseTree;     // null if not retained
+		private final List<Token> tokens;
+
+		private Sentence(ParserAnnotations.Sentence source, boolean retainTree) {
+			index = source.index();
+			start = source.start();
+			end = source.end();
+			text = source.text();
+
+			int numTokens = source.tokenCount();
+			words = new String[numTokens];
+			lemmas = new String[numTokens];
+			pos = new String[numTokens];
+			stopwords = new boolean[numTokens];
+			begins = new int[numTokens];
+			ends = new int[numTokens];
+
+			int i = 0;
+			for (ParserAnnotations.Token token : source.tokens()) {
+				words[i] = token.word();
+				// lemmas frequently match their words, in which case the word's string is shared
+				String lemma = token.lemma();
+				lemmas[i] = lemma.isEmpty() ? null : lemma.equals(words[i]) ? words[i] : lemma;
+				pos[i] = token.pos() != null ? token.pos().intern() : null;
+				stopwords[i] = token.isStopword();
+
+				if (token instanceof CoreNlpParserAnnotations.Token) {
+					CoreNlpParserAnnotations.Token coreNlpToken = (CoreNlpParserAnnotations.Token) token;
+					begins[i] = coreNlpToken.coreLabel().beginPosition();
+					ends[i] = coreNlpToken.coreLabel().endPosition();
+				} else {
+					begins[i] = -1;
+					ends[i] = -1;
+				}
+				i++;
+			}
+
+			Tree tree = null;
+			if (retainTree && source instanceof CoreNlpParserAnnotations.Sentence)
+				tree = ((CoreNlpParserAnnotations.Sentence) source).parseTree();
+			parseTree = tree != null ? tree.toString() : null;
+
+			tokens = new AbstractList<Token>() {
+				@Override
+				public Token get(int i) {
+					if (i < 0 || i >= words.length)
+						throw new IndexOutOfBoundsException("Invalid token index " + i);
+					return new Token(Sentence.this, i);
+				}
+
+				@Override
+				public int size() {
+					return words.length;
+				}
+			};
+		}
+
+		public boolean hasParseTree() {
+			return parseTree != null;
+		}
+		// re-parses the retained tree on every call
+		public Tree parseTree() {
+			if (parseTree == null)
+				throw new IllegalStateException("Parse tree was not retained");
+
+			return Tree.valueOf(parseTree);
+		}
+
+		@Override
+		public int index() {
+			return index;
+		}
+		@Override
+		public int start() {
+			return start;
+		}
+		@Override
+		public int end() {
+			return end;
+		}
+		@Override
+		public String text() {
+			return text;
+		}
+		@Override
+		public Collection<? extends ParserAnnotations.Token> tokens() {
+			return tokens;
+		}
+		@Override
+		public int tokenCount() {
+			return words.length;
+		}
+		@Override
+		public <T extends ParserAnnotations.Sentence> T data(Class<T> typeClass) {
+			if (typeClass != this.getClass())
+				throw new IllegalArgumentException("Couldn't convert " + this.getClass().getSimpleName() + " into " + typeClass.getSimpleName());
+
+			return typeClass.cast(this);
+		}
+	}
+
+	/*
+	 * Returns the annotations to retain for the given policy
+	 * The source is returned as-is if the policy is FULL or if it's already compact
+	 */
+	public static ParserAnnotations retain(ParserAnnotations source, AnnotationRetention policy) {
+		if (policy == AnnotationRetention.FULL || source instanceof CompactParserAnnotations)
+			return source;
+
+		return new CompactParserAnnotations(source, policy == AnnotationRetention.TOKENS_AND_TREES);
+	}
+
+	private final ParserKind type;
+	private final List<Sentence> sentences;
+
+	private CompactParserAnnotations(ParserAnnotations source, boolean retainTrees) {
+		type = source.type();
+
+		List<Sentence> copy = new ArrayList<>(source.sentences().size());
+		for (ParserAnnotations.Sentence itr : source.sentences())
+			copy.add(new Sentence(itr, retainTrees));
+		sentences = Collections.unmodifiableList(copy);
+	}
+
+	@Override
+	public Collection<? extends ParserAnnotations.Sentence> sentences() {
+		return sentences;
+	}
+
+	@Override
+	public ParserKind type() {
+		return type;
+	}
+	@Override
+	public <T extends ParserAnnotations> T data(Class<T> typeClass) {
+		if (typeClass != this.getClass())
+			throw new IllegalArgumentException("Couldn't convert " + this.getClass().getSimpleName() + " into " + typeClass.getSimpleName());
+
+		return typeClass.cast(this);
+	}
+}
@@ -2,9 +2,17 @@ package com.flair.server.parser;
 
 import com.flair.shared.grammar.Language;
 import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.Annotator;
+import edu.stanford.nlp.pipeline.AnnotatorImplementations;
+import edu.stanford.nlp.pipeline.AnnotatorPool;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.util.Lazy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class CoreNlpParser implements ThreadSafeParser<CoreNlpParser,
 		CoreNlpParsingStrategy<? extends AbstractParser.Input,
@@ -13,22 +21,93 @@ public class CoreNlpParser implements ThreadSafeParser<CoreNlpParser,
 		private Factory() {}
 		@Override
 		public CoreNlpParser create(Language lang, Properties properties) {
-			return new CoreNlpParser(lang, properties);
+			return new CoreNlpParser(lang, properties, false);
+		}
+		// the parser's annotators (and their models) are not shared with any other pipeline
+		public CoreNlpParser createIndependent(Language lang, Properties properties) {
+			return new CoreNlpParser(lang, properties, true);
 		}
 	}
 
 	private final StanfordCoreNLP pipeline;
 	private final Language language;
+	private final Properties properties;
 
-	private CoreNlpParser(Language lang, Properties props) {
+	private CoreNlpParser(Language lang, Properties props, boolean independent) {
 		this.language = lang;
-		this.pipeline = new StanfordCoreNLP(props);
+		this.properties = new Properties();
+		this.properties.putAll(props);
+		this.pipeline = independent ? new StanfordCoreNLP(props, true, createAnnotatorPool(props)) : new StanfordCoreNLP(props);
+	}
+
+	// pipelines created with identical properties share their annotators through CoreNLP's global annotator cache,
+	// so the pipeline is given a pool of its own annotator instances instead
+	private static AnnotatorPool createAnnotatorPool(Properties props) {
+		AnnotatorImplementations implementations = new AnnotatorImplementations();
+		AnnotatorPool pool = new AnnotatorPool();
+		for (String itr : props.getProperty("annotators", "").split(",")) {
+			String name = itr.trim();
+			if (name.isEmpty())
+				continue;
+
+			Supplier<Annotator> annotator;
+			switch (name) {
+			case "tokenize":
+				annotator = () -> implementations.tokenizer(props);
+				break;
+			case "ssplit":
+				annotator = () -> implementations.wordToSentences(props);
+				break;
+			case "pos":
+				annotator = () -> implementations.posTagger(props);
+				break;
+			case "lemma":
+				annotator = () -> implementations.morpha(props, false);
+				break;
+			case "parse":
+				annotator = () -> implementations.parse(props);
+				break;
+			default:
+				if (props.getProperty("customAnnotatorClass." + name) == null)
+					throw new IllegalArgumentException("Unsupported annotator '" + name + "' for independent pipelines");
+
+				annotator = () -> implementations.custom(props, name);
+			}
+
+			pool.register(name, props, Lazy.of(annotator));
+		}
+
+		return pool;
 	}
 
 	public StanfordCoreNLP pipeline() {
 		return pipeline;
 	}
 
+	// returns the pipeline's instances of the selected annotators, in the order in which the pipeline runs them
+	public List<Annotator> annotators(Predicate<String> names) {
+		List<Annotator> out = new ArrayList<>();
+		for (String itr : properties.getProperty("annotators", "").split(",")) {
+			String name = itr.trim();
+			if (name.isEmpty() || !names.test(name))
+				continue;
+
+			Annotator annotator = pipeline.pool.get(name);
+			if (annotator == null)
+				throw new IllegalStateException("Pipeline has no annotator '" + name + "'");
+
+			out.add(annotator);
+		}
+		return out;
+	}
+
+	// returns a copy of the properties the pipeline was created with
+	public Properties properties() {
+		Properties out = new Properties();
+		out.putAll(properties);
+		return out;
+	}
+
 	public CoreNlpParserAnnotations createAnnotations(Annotation parseAnnotations) {
 		return new CoreNlpParserAnnotations(parseAnnotations);
 	}
@@ -0,0 +1,253 @@
+package com.flair.server.parser;
+
+import edu.stanford.nlp.trees.Tree;
+import edu.stanford.nlp.trees.tregex.TregexMatcher;
+import edu.stanford.nlp.trees.tregex.TregexPattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the matches of a fixed set of Tregex patterns in a single traversal of a tree
+ * The patterns are indexed by the label constraint of their root node, so each node is only matched against the patterns
+ * that can start at it. Counts are identical to iterating TregexMatcher.findNextMatchingNode() for each pattern
+ */
+public final class TregexPatternSet {
+	private static final int[] NO_PATTERNS = new int[0];
+
+	/* groups the patterns that share the same root label constraint */
+	private static final class RegexGroup {
+		final Pattern regex;
+		final int[] patterns;
+
+		RegexGroup(Pattern regex, int[] patterns) {
+			this.regex = regex;
+			this.patterns = patterns;
+		}
+	}
+
+	private static final class BasicCategoryGroup {
+		final String category;
+		final int[] patterns;
+
+		BasicCategoryGroup(String category, int[] patterns) {
+			this.category = category;
+			this.patterns = patterns;
+		}
+	}
+
+	/* root label constraint parsed from a pattern's source string - null fields denote an unconstrained root */
+	private static final class RootConstraint {
+		String regex = null;
+		String basicCategory = null;
+		List<String> literals = null;
+
+		static RootConstraint parse(String pattern) {
+			RootConstraint out = new RootConstraint();
+			if (pattern == null)
+				return out;
+
+			// skip the parentheses that group the root node with its relations
+			int start = 0;
+			while (start < pattern.length() && (pattern.charAt(start) == '(' || Character.isWhitespace(pattern.charAt(start))))
+				start++;
+			if (start >= pattern.length())
+				return out;
+
+			char first = pattern.charAt(start);
+			if (first == '/') {
+				int end = start + 1;
+				while (end < pattern.length() && pattern.charAt(end) != '/')
+					end += pattern.charAt(end) == '\\' ? 2 : 1;
+				if (end < pattern.length() && isDescriptionEnd(pattern, end + 1))
+					out.regex = pattern.substring(start + 1, end);
+			} else if (first == '@') {
+				int end = literalEnd(pattern, start + 1);
+				if (end > start + 1 && isDescriptionEnd(pattern, end))
+					out.basicCategory = pattern.substring(start + 1, end);
+			} else {
+				List<String> literals = new ArrayList<>();
+				int end = start;
+				while (true) {
+					int next = literalEnd(pattern, end);
+					if (next == end)
+						return out;
+
+					literals.add(pattern.substring(end, next));
+					if (next < pattern.length() && pattern.charAt(next) == '|')
+						end = next + 1;
+					else {
+						end = next;
+						break;
+					}
+				}
+
+				if (isDescriptionEnd(pattern, end) && !literals.contains("__"))
+					out.literals = literals;
+			}
+
+			return out;
+		}
+
+		private static boolean isSpecial(char c) {
+			return "()[]<>$.,!=|@/&:;~#%?\\{}\"'".indexOf(c) != -1;
+		}
+
+		private static int literalEnd(String pattern, int start) {
+			int end = start;
+			while (end < pattern.length() && !Character.isWhitespace(pattern.charAt(end)) && !isSpecial(pattern.charAt(end)))
+				end++;
+			return end;
+		}
+
+		// modifiers and alternatives after the root description aren't indexed
+		private static boolean isDescriptionEnd(String pattern, int pos) {
+			if (pos >= pattern.length())
+				return true;
+
+			char c = pattern.charAt(pos);
+			return Character.isWhitespace(c) || "()<>$.,!=".indexOf(c) != -1;
+		}
+	}
+
+	public static final class Builder {
+		private final List<TregexPattern> patterns;
+
+		private Builder() {
+			patterns = new ArrayList<>();
+		}
+
+		public Builder add(TregexPattern pattern) {
+			if (pattern == null)
+				throw new IllegalArgumentException("Invalid pattern");
+			if (!patterns.contains(pattern))
+				patterns.add(pattern);
+			return this;
+		}
+
+		public TregexPatternSet build() {
+			return new TregexPatternSet(patterns);
+		}
+	}
+
+	/* per-pattern hit counters for a single tree */
+	public final class Matches {
+		private final int[] counts;
+
+		private Matches(int[] counts) {
+			this.counts = counts;
+		}
+
+		public int count(TregexPattern pattern) {
+			Integer id = ids.get(pattern);
+			if (id == null)
+				throw new IllegalArgumentException("Pattern '" + pattern + "' is not a part of the set");
+			return counts[id];
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private final TregexPattern[] patterns;
+	private final Map<TregexPattern, Integer> ids;
+	private final Map<String, int[]> literalIndex;
+	private final RegexGroup[] regexIndex;
+	private final BasicCategoryGroup[] basicCategoryIndex;
+	private final int[] unconstrained;
+
+	private static int[] toArray(List<Integer> ids) {
+		return ids.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private TregexPatternSet(List<TregexPattern> source) {
+		patterns = source.toArray(new TregexPattern[0]);
+		ids = new IdentityHashMap<>();
+
+		Map<String, List<Integer>> literals = new HashMap<>();
+		Map<String, List<Integer>> regexes = new HashMap<>();
+		Map<String, List<Integer>> basicCategories = new HashMap<>();
+		List<Integer> any = new ArrayList<>();
+
+		for (int i = 0; i < patterns.length; i++) {
+			ids.put(patterns[i], i);
+
+			RootConstraint root = RootConstraint.parse(patterns[i].pattern());
+			if (root.regex != null)
+				regexes.computeIfAbsent(root.regex, k -> new ArrayList<>()).add(i);
+			else if (root.basicCategory != null)
+				basicCategories.computeIfAbsent(root.basicCategory, k -> new ArrayList<>()).add(i);
+			else if (root.literals != null) {
+				for (String literal : root.literals)
+					literals.computeIfAbsent(literal, k -> new ArrayList<>()).add(i);
+			} else
+				any.add(i);
+		}
+
+		literalIndex = new HashMap<>();
+		literals.forEach((k, v) -> literalIndex.put(k, toArray(v)));
+		regexIndex = regexes.entrySet().stream()
+				.map(e -> new RegexGroup(Pattern.compile(e.getKey()), toArray(e.getValue())))
+				.toArray(RegexGroup[]::new);
+		basicCategoryIndex = basicCategories.entrySet().stream()
+				.map(e -> new BasicCategoryGroup(e.getKey(), toArray(e.getValue())))
+				.toArray(BasicCategoryGroup[]::new);
+		unconstrained = toArray(any);
+	}
+
+	private static void matchAt(Tree node, int[] candidates, TregexMatcher[] matchers, int[] counts) {
+		for (int id : candidates) {
+			if (matchers[id].matchesAt(node))
+				counts[id]++;
+		}
+	}
+
+	public Matches countMatches(Tree tree) {
+		int[] counts = new int[patterns.length];
+		TregexMatcher[] matchers = new TregexMatcher[patterns.length];
+		for (int i = 0; i < patterns.length; i++)
+			matchers[i] = patterns[i].matcher(tree);
+
+		// pre-order, same as the matchers' own iteration
+		for (Tree node : tree) {
+			String label = node.value();
+			if (label == null) {
+				// nothing to index on, so every pattern gets a shot
+				for (int i = 0; i < patterns.length; i++) {
+					if (matchers[i].matchesAt(node))
+						counts[i]++;
+				}
+				continue;
+			}
+
+			matchAt(node, literalIndex.getOrDefault(label, NO_PATTERNS), matchers, counts);
+			for (RegexGroup group : regexIndex) {
+				if (group.regex.matcher(label).find())
+					matchAt(node, group.patterns, matchers, counts);
+			}
+			for (BasicCategoryGroup group : basicCategoryIndex) {
+				// the basic category is a prefix of the label
+				if (label.startsWith(group.category))
+					matchAt(node, group.patterns, matchers, counts);
+			}
+			matchAt(node, unconstrained, matchers, counts);
+		}
+
+		return new Matches(counts);
+	}
+
+	public int size() {
+		return patterns.length;
+	}
+
+	@Override
+	public String toString() {
+		return "TregexPatternSet" + Arrays.toString(patterns);
+	}
+}
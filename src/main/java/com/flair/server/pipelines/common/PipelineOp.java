@@ -2,6 +2,7 @@ package com.flair.server.pipelines.common;
 
 import com.flair.server.scheduler.AsyncJob;
 import com.flair.server.scheduler.Cancellable;
+import com.flair.server.scheduler.TaskOwner;
 import com.flair.server.utilities.ServerLogger;
 
 public abstract class PipelineOp<I, O> implements Cancellable {
@@ -19,6 +20,7 @@ public abstract class PipelineOp<I, O> implements Cancellable {
 	protected final O output;
 	protected final TaskSyncHelper taskLinker;
 	protected final String name;
+	private TaskOwner owner;
 	private boolean launched;
 
 	protected synchronized <R> void linkTasks(AsyncJob job, R taskResult) {
@@ -32,6 +34,7 @@ public abstract class PipelineOp<I, O> implements Cancellable {
 		this.output = output;
 		this.taskLinker = new TaskSyncHelper();
 		this.name = name;
+		this.owner = TaskOwner.SYSTEM;
 		this.launched = false;
 	}
 
@@ -43,6 +46,17 @@ public abstract class PipelineOp<I, O> implements Cancellable {
 		}
 	}
 
+	// the owner's tasks are scheduled fairly with respect to those of other owners
+	public PipelineOp<I, O> owner(TaskOwner owner) {
+		if (launched)
+			throw new IllegalStateException(name() + " has already been launched");
+
+		this.owner = owner;
+		return this;
+	}
+	public TaskOwner owner() {
+		return owner;
+	}
 	public PipelineOp<I, O> launch() {
 		if (launched)
 			throw new IllegalStateException(name() + " has already been launched");
@@ -1,19 +1,48 @@
 
 package com.flair.server.pipelines.gramparsing;
 
+import com.flair.server.parser.AnnotationRetention;
+
 import java.util.concurrent.TimeUnit;
 
 class Constants {
+	// upper bounds on concurrently executing tasks
+	// the I/O-bound pools use the larger bounds when they run on virtual threads, and the regular sizes otherwise
 	static final int WEB_SEARCH_TASK_THREADPOOL_SIZE = 50;
+	static final int WEB_SEARCH_TASK_VIRTUAL_THREADPOOL_SIZE = 200;
 	static final int WEB_CRAWL_TASK_THREADPOOL_SIZE = 50;
+	static final int WEB_CRAWL_TASK_VIRTUAL_THREADPOOL_SIZE = 2000;
 	static final int PARSE_DOC_TASK_THREADPOOL_SIZE = com.flair.server.scheduler.Constants.BASELINE_CONCURRENT_THREADS;
+	// no. of pooled parsers per language, each holds its own copy of the models (~800 MB for English)
+	// kept small by default as doc parse workers wait for a free parser, larger pools can be opted into with the system property
+	static final int PARSER_POOL_DEFAULT_SIZE = Math.min(2, PARSE_DOC_TASK_THREADPOOL_SIZE);
+	static final String PARSER_POOL_SIZE_PROPERTY = "flair.parserPool.size";
 
-	// timeouts must be large enough to include waiting time for tasks that have yet to start
+	// timeouts are measured from the moment a task begins executing
 	static final TimeUnit TIMEOUT_UNIT = TimeUnit.SECONDS;
 	static final int WEB_CRAWL_TASK_TIMEOUT = 30;
 	static final int PARSE_DOC_TASK_TIMEOUT = 300;
 
+	// documents at least this long (in characters) are sentence-split upfront and annotated in parallel batches
+	static final int SHARDED_PARSE_MIN_TEXT_LENGTH = 25000;
+	static final int SHARDED_PARSE_SENTENCES_PER_BATCH = 25;
+	// no. of Doc Parse workers that can join the task's thread in annotating a single document, each borrows an idle pooled parser
+	static final int SHARDED_PARSE_MAX_HELPERS = PARSE_DOC_TASK_THREADPOOL_SIZE - 1;
+
 	// results with fewer tokens than this are discarded
 	static final int SEARCH_RESULT_MINIMUM_TOKEN_COUNT = 100;
 	static final int MAX_WEB_CRAWLS_PER_OP = 100;
+
+	// parsed document cache, the on-disk tier's location can be overridden with the system property
+	// the parsing logic's version is a part of every cache key. bump it whenever the constructions (or any other data)
+	// collected from a parsed document change, so that entries stored by earlier revisions are no longer used
+	// 2: constructions are detected on precomputed Penn tag IDs rather than tag strings
+	static final int PARSING_LOGIC_VERSION = 2;
+	static final long PARSE_CACHE_MEMORY_TIER_CAPACITY = 256L * 1024 * 1024;        // in bytes
+	static final long PARSE_CACHE_DISK_TIER_CAPACITY = 4L * 1024 * 1024 * 1024;     // in bytes
+	static final String PARSE_CACHE_DISK_TIER_PATH_PROPERTY = "flair.parseCache.path";
+	static final String PARSE_CACHE_DISK_TIER_DEFAULT_PATH = System.getProperty("java.io.tmpdir") + "/flair/parse-cache";
+
+	// parser annotations kept by parsed documents for the rest of the session (the cache always receives the full annotations)
+	static final AnnotationRetention PARSED_DOC_ANNOTATION_RETENTION = AnnotationRetention.TOKENS;
 }
@@ -2,35 +2,38 @@ package com.flair.server.pipelines.gramparsing;
 
 import com.flair.server.document.AbstractDocument;
 import com.flair.server.parser.AbstractKeywordSearcher;
+import com.flair.server.parser.CompactParserAnnotations;
 import com.flair.server.parser.CoreNlpParser;
 import com.flair.server.parser.KeywordSearcherInput;
 import com.flair.server.parser.KeywordSearcherOutput;
 import com.flair.server.scheduler.AsyncTask;
-import com.flair.server.scheduler.ThreadPool;
 import com.flair.server.utilities.ServerLogger;
-
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.TimeoutException;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
+import com.flair.server.utilities.pool.SimpleObjectPoolResource;
 
 public class DocParseTask implements AsyncTask<DocParseTask.Result> {
 	static DocParseTask factory(ParsingStrategy strategy,
-	                            CoreNlpParser parser,
+	                            ConcurrentObjectPool<CoreNlpParser> parsers,
+	                            ParsedDocumentCache parseCache,
 	                            AbstractKeywordSearcher keywordSearcher,
 	                            KeywordSearcherInput keywordSearcherInput) {
-		return new DocParseTask(strategy, parser, keywordSearcher, keywordSearcherInput);
+		return new DocParseTask(strategy, parsers, parseCache, keywordSearcher, keywordSearcherInput);
 	}
 
 	private final ParsingStrategy strategy;
-	private final CoreNlpParser parser;
+	private final ConcurrentObjectPool<CoreNlpParser> parsers;
+	private final ParsedDocumentCache parseCache;
 	private final AbstractKeywordSearcher keywordSearcher;
 	private final KeywordSearcherInput keywordSearcherInput;
 
 	private DocParseTask(ParsingStrategy strategy,
-	                     CoreNlpParser parser,
+	                     ConcurrentObjectPool<CoreNlpParser> parsers,
+	                     ParsedDocumentCache parseCache,
 	                     AbstractKeywordSearcher keywordSearcher,
 	                     KeywordSearcherInput keywordSearcherInput) {
 		this.strategy = strategy;
-		this.parser = parser;
+		this.parsers = parsers;
+		this.parseCache = parseCache;
 		this.keywordSearcher = keywordSearcher;
 		this.keywordSearcherInput = keywordSearcherInput;
 	}
@@ -43,20 +46,26 @@ public class DocParseTask implements AsyncTask<DocParseTask.Result> {
 
 		try {
 			startTime = System.currentTimeMillis();
-			output = ThreadPool.get().invokeAndWait(new FutureTask<>(() -> {
-				strategy.apply(parser);
-				if (!strategy.output().valid())
-					throw new IllegalStateException("Parser didn't set the document's parsed flag");
+			AbstractDocument parsedDoc = strategy.output().parsedDoc;
+			// the task's timeout is measured from the same moment
+			strategy.deadline(startTime + Constants.TIMEOUT_UNIT.toMillis(Constants.PARSE_DOC_TASK_TIMEOUT));
+			try (SimpleObjectPoolResource<CoreNlpParser> parser = parsers.get()) {
+				String cacheKey = parseCache.key(parser.get(), parsedDoc);
+				if (!parseCache.restore(cacheKey, parsedDoc, parser.get())) {
+					strategy.apply(parser.get());
+					if (!strategy.output().valid())
+						throw new IllegalStateException("Parser didn't set the document's parsed flag");
 
-				AbstractDocument parsedDoc = strategy.output().parsedDoc;
-				KeywordSearcherOutput keywordData = keywordSearcher.search(parsedDoc.getText(), keywordSearcherInput);
-				parsedDoc.setKeywordData(keywordData);
-				return parsedDoc;
-			}), Constants.PARSE_DOC_TASK_TIMEOUT, Constants.TIMEOUT_UNIT);
-		} catch (TimeoutException ex) {
-			ServerLogger.get().error("Document parsing task timed-out for " + strategy.input().source.getDescription());
-			output = null;
-			error = true;
+					parseCache.store(cacheKey, parsedDoc);
+				}
+			}
+
+			parsedDoc.replaceParserAnnotations(CompactParserAnnotations.retain(parsedDoc.getParserAnnotations(),
+					Constants.PARSED_DOC_ANNOTATION_RETENTION));
+
+			KeywordSearcherOutput keywordData = keywordSearcher.search(parsedDoc.getText(), keywordSearcherInput);
+			parsedDoc.setKeywordData(keywordData);
+			output = parsedDoc;
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "Document parsing task encountered an error. Exception: " + ex.toString());
 			output = null;
@@ -70,6 +79,11 @@ public class DocParseTask implements AsyncTask<DocParseTask.Result> {
 		return new Result(output);
 	}
 
+	Result timedOut() {
+		ServerLogger.get().error("Document parsing task timed-out for " + strategy.input().source.getDescription());
+		return new Result(null);
+	}
+
 	static final class Result {
 		final AbstractDocument output;
 
@@ -2,7 +2,7 @@
 package com.flair.server.pipelines.gramparsing;
 
 import com.flair.server.document.AbstractDocument;
-import com.flair.server.document.ConstructionOccurrence;
+import com.flair.server.document.DocumentConstructionData;
 import com.flair.server.grammar.EnglishGrammaticalConstants;
 import com.flair.server.parser.CoreNlpParser;
 import com.flair.shared.grammar.GrammaticalConstruction;
@@ -20,7 +20,6 @@ import edu.stanford.nlp.util.CoreMap;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * Implementation of English language parsing logic for the Stanford parser
@@ -32,6 +31,91 @@ class EnglishParsingLogic implements ParsingLogic {
 		return new EnglishParsingLogic(doc);
 	}
 
+	// a sentence that has a vp that is NOT preceded by a sister NP
+	private static final TregexPattern PATTERN_IMPERATIVE = TregexPattern.compile("/^S.*/ !$ /NP$/ < (VP=imperativeVerb !$-- /^N.*/)");
+
+	/*
+	 * Clause markers collected in a single walk over the syntax tree
+	 * Counts are identical to counting the corresponding substrings in the tree's bracketed string representation
+	 */
+	private static final class ClauseMarkers {
+		int sbar;                   // "SBAR "
+		int sbarWhnp;               // "(sbar (whnp " (case-insensitive)
+		int sbarS;                  // "(sbar (s " (case-insensitive)
+		int sbarIn;                 // "(sbar (in" (case-insensitive)
+		int sbarInThat;             // "(sbar (in that"
+		int sbarInIf;               // "(sbar (in if" (case-insensitive)
+		int sbarInUnless;           // "(sbar (in unless" (case-insensitive)
+		int s;                      // "S "
+		boolean vp;                 // contains "VP"
+		boolean np;                 // contains "NP"
+
+		ClauseMarkers(Tree tree) {
+			visit(tree, !tree.isLeaf());
+		}
+
+		private static String label(Tree node) {
+			String value = node.value();
+			return value == null ? "" : value;
+		}
+
+		// the first child's label, as long as it's printed with an opening bracket
+		private static String firstPhrase(Tree node) {
+			Tree first = node.firstChild();
+			return first == null || first.isLeaf() ? null : label(first);
+		}
+
+		private void visitSbar(Tree node) {
+			String first = firstPhrase(node);
+			if (first == null)
+				return;
+
+			if (first.equalsIgnoreCase("whnp"))
+				sbarWhnp++;
+			else if (first.equalsIgnoreCase("s"))
+				sbarS++;
+
+			if (startsWithIgnoreCase(first, "in"))
+				sbarIn++;
+
+			// the conjunction itself
+			Tree conj = node.firstChild().firstChild();
+			if (!first.equalsIgnoreCase("in") || conj == null || !conj.isLeaf())
+				return;
+
+			String word = label(conj);
+			if (startsWithIgnoreCase(word, "if"))
+				sbarInIf++;
+			else if (startsWithIgnoreCase(word, "unless"))
+				sbarInUnless++;
+
+			if (node.value().equals("sbar") && first.equals("in") && word.startsWith("that"))
+				sbarInThat++;
+		}
+
+		private void visit(Tree node, boolean followedBySpace) {
+			String label = label(node);
+			vp |= label.contains("VP");
+			np |= label.contains("NP");
+
+			if (followedBySpace) {
+				if (label.endsWith("SBAR"))
+					sbar++;
+				if (label.endsWith("S"))
+					s++;
+			}
+
+			if (node.isLeaf())
+				return;
+			else if (label.equalsIgnoreCase("sbar"))
+				visitSbar(node);
+
+			// phrases are always followed by a space, leaves only when they have a right sibling
+			Tree[] children = node.children();
+			for (int i = 0; i < children.length; i++)
+				visit(children[i], !children[i].isLeaf() || i < children.length - 1);
+		}
+	}
 
 	private final AbstractDocument workingDoc;
 
@@ -65,14 +149,34 @@ class EnglishParsingLogic implements ParsingLogic {
 		wordCount = tokenCount = dependencyCount = sentenceCount = depthCount = characterCount = goingToFound = 0;
 	}
 
-	private int countSubstr(String substr, String str) {
-		// ###TODO can be made faster?
-		// the result of split() will contain one more element than the delimiter
-		// the "-1" second argument makes it not discard trailing empty strings
-		return str.split(Pattern.quote(substr), -1).length - 1;
+	// equivalent to str.toLowerCase().startsWith(prefix) for ASCII prefixes
+	private static boolean startsWithIgnoreCase(String str, String prefix) {
+		return str.regionMatches(true, 0, prefix, 0, prefix.length());
+	}
+
+	// equivalent to str.toLowerCase().matches("[a-z]*")
+	private static boolean isLetters(String str) {
+		for (int i = 0; i < str.length(); i++) {
+			char c = Character.toLowerCase(str.charAt(i));
+			if (c < 'a' || c > 'z')
+				return false;
+		}
+
+		return true;
+	}
+
+	// equivalent to str.matches(".*\\d.*") for single-line strings
+	private static boolean containsDigit(String str) {
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9')
+				return true;
+		}
+
+		return false;
 	}
 
-	private void addConstructionOccurrence(GrammaticalConstruction type, int start, int end, String expr) {
+	private void addConstructionOccurrence(GrammaticalConstruction type, int start, int end) {
 		workingDoc.getConstructionData(type).addOccurrence(start, end);
 	}
 
@@ -115,21 +219,24 @@ class EnglishParsingLogic implements ParsingLogic {
 		// independent of type of sentence
 		////// go through the wordsOutput (CoreLabels) for POS tags
 		for (CoreLabel label : wordsOutput) {
-			String labelTag = label.tag().toLowerCase();
+			if (label.tag() == null || label.word() == null)
+				continue;
+
+			// the tag is resolved once per token; the word is only copied if it isn't already in lower case
+			PennTag labelTag = PennTag.of(label.tag());
 			String labelWord = label.word().toLowerCase();
-			if (labelTag != null && labelWord != null
-					&& (!(labelTag.equalsIgnoreCase(".") || labelTag.equalsIgnoreCase(",")))) {
+			if (labelTag != PennTag.PERIOD && labelTag != PennTag.COMMA) {
 
 				// >>> negation (first part; the other part in TypedDependency itr
 				// words that won't occur in a dependency "neg":
 				// "neither", "nobody", "none", "nothing", "nor", "nowhere"
 				// "hardly", "scarcely", "rarely", "seldom", "barely"
-				if (EnglishGrammaticalConstants.NEGATION.contains(labelWord.toLowerCase())) {
+				if (EnglishGrammaticalConstants.NEGATION.contains(labelWord)) {
 					addConstructionOccurrence(GrammaticalConstruction.NEGATION_ALL, label.beginPosition(),
-							label.endPosition(), labelWord);
-				} else if (EnglishGrammaticalConstants.PARTIAL_NEGATION.contains(labelWord.toLowerCase())) {
+							label.endPosition());
+				} else if (EnglishGrammaticalConstants.PARTIAL_NEGATION.contains(labelWord)) {
 					addConstructionOccurrence(GrammaticalConstruction.NEGATION_PARTIAL, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				}
 
 				// >>> "used to"
@@ -143,7 +250,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				}
 
 				// >>> "a lot of" quantifier
-				if (labelWord.equalsIgnoreCase("lot")) {
+				if (labelWord.equals("lot")) {
 					int lotInd = label.index() - 1; // indices start at 1 !!!
 					// conditions:
 					// 1. it is not the first or the last word ("a" and "of" has to surround it)
@@ -154,65 +261,65 @@ class EnglishParsingLogic implements ParsingLogic {
 							&& wordsOutput.get(lotInd + 1).word().equalsIgnoreCase("of")) {
 						addConstructionOccurrence(GrammaticalConstruction.DETERMINER_A_LOT_OF,
 								wordsOutput.get(label.index() - 1).beginPosition(),
-								wordsOutput.get(label.index() + 1).endPosition(), "a " + labelWord + " of");
+								wordsOutput.get(label.index() + 1).endPosition());
 					}
 				}
 
 				//// >>> degrees of comparison of LONG adjectives and adverbs: "more/RBR beautiful/JJ", "most/RBS beautiful/JJ" (PROBLEM ???)
-				if (comparativeMoreFound && (labelTag.equalsIgnoreCase("jj") || labelTag.equalsIgnoreCase("rb"))) {
+				if (comparativeMoreFound && (labelTag == PennTag.JJ || labelTag == PennTag.RB)) {
 					addLongComparative(label, labelWord, labelTag);
-				} else if (superlativeMostFound && (labelTag.equalsIgnoreCase("jj") || labelTag.equalsIgnoreCase("rb"))) {
+				} else if (superlativeMostFound && (labelTag == PennTag.JJ || labelTag == PennTag.RB)) {
 					addLongSuperlative(label, labelWord, labelTag);
 				}
 				//// >>> degrees of comparison of SHORT adverbs
-				else if (labelTag.equalsIgnoreCase("rbr")) {
+				else if (labelTag == PennTag.RBR) {
 					addShortComparativeAdv(label, labelWord);
-				} else if (labelTag.equalsIgnoreCase("rbs")) {
+				} else if (labelTag == PennTag.RBS) {
 					addShortSuperlativeAdv(label, labelWord);
 				}
 				//// >>> forms of adjectives (except for long comparative and superlative forms
-				else if (labelTag.startsWith("jj")) {
+				else if (labelTag.adjective) {
 					addAdjectiveForms(label, labelWord, labelTag);
 				}
 
 				//// >>> pronouns (reflexive or possessive)
-				else if (labelTag.toLowerCase().startsWith("prp")) {
+				else if (labelTag.pronoun) {
 					addReflexiveAndPossessivePronouns(label, labelWord, labelTag);
 				}
 				// Stanford sometimes parses such sentences incorrectly (as PRP$: his, yours, its; as NN: mine, hers; as JJ: theirs): "This is mine/hers."
 				// Therefore, there might be false positives in PRONOUNS ("This is mine." vs. "This is a mine." will both be added)
 				else if (EnglishGrammaticalConstants.POSSESSIVE_ABSOLUTE_PRONOUNS.contains(labelWord)) {
 					addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_POSSESSIVE_ABSOLUTE,
-							label.beginPosition(), label.endPosition(), labelWord);
+							label.beginPosition(), label.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				}
 
 				//// >>> conjunctions (all or simple)
-				else if (labelTag.equalsIgnoreCase("in") || labelTag.equalsIgnoreCase("cc")
-						|| labelTag.equalsIgnoreCase("rb") || labelTag.equalsIgnoreCase("wrb")) {
+				else if (labelTag == PennTag.IN || labelTag == PennTag.CC
+						|| labelTag == PennTag.RB || labelTag == PennTag.WRB) {
 					addConjunctions(label, labelWord, labelTag);
 				}
 
 				//// NOT HERE : determiners (some, any) - see dependencies
 				//// HERE: >>> articles (a, an, the)
-				else if (labelTag.equalsIgnoreCase("dt")) {
+				else if (labelTag == PennTag.DT) {
 					addArticles(label, labelWord);
 				}
 
 				//// >>> ing noun forms
-				else if (labelTag.startsWith("nn")) {
+				else if (labelTag.noun) {
 					findIngNounForms(label, labelWord, labelTag);
 				}
 
 				//// >>> modals
-				else if (labelTag.equalsIgnoreCase("md")) {
+				else if (labelTag == PennTag.MD) {
 					// includes "will"
 					addModalVerb(label, labelWord);
 				}
 
 				//// >>> verb forms
-				else if (labelTag.startsWith("v") || labelTag.equalsIgnoreCase("md")) {
+				else if (labelTag.verb) {
 					// already in lower case // include modals "will" and "would" ++
 					findVerbFormsPOS(label, labelWord, labelTag);
 				}
@@ -267,12 +374,12 @@ class EnglishParsingLogic implements ParsingLogic {
 			}
 
 			//// >>> there is / there are: expl( is-3 , there-2 )
-			else if (rel.toLowerCase().equalsIgnoreCase("expl") && dep.word().equalsIgnoreCase("there")) {
+			else if (rel.equalsIgnoreCase("expl") && dep.word().equalsIgnoreCase("there")) {
 				addExistentialThere(dependency, start, end, gov);
 			}
 
 			//// >>> prepositions (incl. simple)
-			else if (rel.toLowerCase().startsWith("prep")) {
+			else if (startsWithIgnoreCase(rel, "prep")) {
 				findPrepositions(dependency, depBegin, depEnd, rel, dep, gov);
 			}
 
@@ -292,9 +399,9 @@ class EnglishParsingLogic implements ParsingLogic {
 				// >>> emphatic do and to-infinitive
 				findVerbFormsDep(dependency, start, end, gov, dep, depBegin, depEnd);
 			} else if (rel.equalsIgnoreCase("cop")) {
-				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_COPULAR, start, end, dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_COPULAR, start, end);
 			} else if (rel.equalsIgnoreCase("prt") && gov.tag().startsWith("V")) {
-				addConstructionOccurrence(GrammaticalConstruction.VERBS_PHRASAL, start, end, dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.VERBS_PHRASAL, start, end);
 			}
 		}
 
@@ -311,38 +418,36 @@ class EnglishParsingLogic implements ParsingLogic {
 
 	private void identifySentencesAndClauses() {
 		// >>> simple/complex sentence + subordinate clauses
-		String treeStr = treeOutput.toString(); // don't use toLowerCase() here
+		ClauseMarkers markers = new ClauseMarkers(treeOutput);
 
 		int startInd = wordsOutput.get(0).beginPosition();
 		int endInd = wordsOutput.get(wordsOutput.size() - 1).endPosition();
 
-		int numSBAR = countSubstr("SBAR ", treeStr); // the whitespace is important!
+		int numSBAR = markers.sbar;
 		if (numSBAR > 0) {
-			addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPLEX, startInd, endInd, treeStr); // highlight the whole sentence
+			addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPLEX, startInd, endInd); // highlight the whole sentence
 			for (int i = 0; i < numSBAR; i++) {
-				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_SUBORDINATE, startInd, endInd, treeStr); // highlight the whole sentence
+				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_SUBORDINATE, startInd, endInd); // highlight the whole sentence
 			}
 
-			int withCC = countSubstr("(sbar (whnp ", treeStr.toLowerCase()); // with a conjunction // TODO: can be an indirect question: "She asked me what I like" -> check for reporting wordsOutput in dependency?
-			int withoutCC = countSubstr("(sbar (s ", treeStr.toLowerCase()); // reduced relative clauses "The man I saw" // TODO: check
+			int withCC = markers.sbarWhnp; // with a conjunction // TODO: can be an indirect question: "She asked me what I like" -> check for reporting wordsOutput in dependency?
+			int withoutCC = markers.sbarS; // reduced relative clauses "The man I saw" // TODO: check
 			for (int i = 0; i < withCC; i++) {
-				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_RELATIVE, startInd, endInd, treeStr); // highlight the whole sentence
+				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_RELATIVE, startInd, endInd); // highlight the whole sentence
 			}
 			for (int i = 0; i < withoutCC; i++) {
-				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_RELATIVE_REDUCED, startInd, endInd, treeStr); // highlight the whole sentence
+				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_RELATIVE_REDUCED, startInd, endInd); // highlight the whole sentence
 			}
 
-			int numOfAdvCl = countSubstr("(sbar (in", treeStr.toLowerCase());
-			int numOfAdvClWhether = countSubstr("(sbar (in whether", treeStr.toLowerCase()); // indirect questions
-
-			int numOfRelClThat = countSubstr("(sbar (in that", treeStr); // indirect questions
+			int numOfAdvCl = markers.sbarIn;
+			int numOfRelClThat = markers.sbarInThat; // indirect questions
 
-			int numOfAdvClIF = countSubstr("(sbar (in if", treeStr.toLowerCase()); // TODO check: "if" is also IN! -> an indirect question or conditional
-			int numOfAdvUnless = countSubstr("(sbar (in unless", treeStr.toLowerCase());
+			int numOfAdvClIF = markers.sbarInIf; // TODO check: "if" is also IN! -> an indirect question or conditional
+			int numOfAdvUnless = markers.sbarInUnless;
 
 			for (int i = 0; i < numOfAdvCl - numOfRelClThat - numOfAdvClIF - numOfAdvUnless; i++) // don't include the indirect questions and conditionals
 			{
-				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_ADVERBIAL, startInd, endInd, treeStr); // highlight the whole sentence
+				addConstructionOccurrence(GrammaticalConstruction.CLAUSE_ADVERBIAL, startInd, endInd); // highlight the whole sentence
 			}
 			// Indirect questions (disabled for now)
 			// if (numOfAdvClIF > 0 || numOfAdvClWhether > 0) {
@@ -353,23 +458,23 @@ class EnglishParsingLogic implements ParsingLogic {
 				conditionalFound = true;
 			}
 		} else if (numSBAR == 0) {
-			int numOfS = countSubstr("S ", treeStr); // whitespace is important!
+			int numOfS = markers.s;
 			if (numOfS == 1) {
 				// incomplete sentence (no VP or NP)
-				if (!(treeStr.contains("VP") && treeStr.contains("NP"))) {
-					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd, treeStr); // highlight the whole sentence
+				if (!(markers.vp && markers.np)) {
+					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd); // highlight the whole sentence
 				} else {
-					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_SIMPLE, startInd, endInd, treeStr); // highlight the whole sentence
+					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_SIMPLE, startInd, endInd); // highlight the whole sentence
 				}
 			} else if (numOfS > 1) {
 				// changed: also when numOfS > 1, it can be incomplete
-				if (!(treeStr.contains("VP") && treeStr.contains("NP"))) {
-					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd, treeStr); // highlight the whole sentence
+				if (!(markers.vp && markers.np)) {
+					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd); // highlight the whole sentence
 				} else {
-					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPOUND, startInd, endInd, treeStr);
+					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPOUND, startInd, endInd);
 				}
 			} else {
-				addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd, treeStr);
+				addConstructionOccurrence(GrammaticalConstruction.SENTENCE_INCOMPLETE, startInd, endInd);
 			}
 		}
 	}
@@ -422,7 +527,7 @@ class EnglishParsingLogic implements ParsingLogic {
 			// first examine the root (the main verb phrase)
 			if (rel.equalsIgnoreCase("root") && verbIndex != dep.index()) {
 				// roughly identify the aspect (any Time)
-				if (dep.tag().toLowerCase().startsWith("v")) {
+				if (startsWithIgnoreCase(dep.tag(), "v")) {
 					verbIndex = dep.index();
 					theVerb = dep;
 
@@ -443,7 +548,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				}
 			} // don't only look at the root, find other verb phrases
 			else if ((rel.equalsIgnoreCase("nsubj") || rel.equalsIgnoreCase("nsubjpass"))
-					&& gov.tag().toLowerCase().startsWith("v") && gov.index() != verbIndex) {
+					&& startsWithIgnoreCase(gov.tag(), "v") && gov.index() != verbIndex) {
 				// != condition: don't count 1 verb twice: as root() and nsubj()
 				verbIndex = gov.index();
 				theVerb = gov;
@@ -464,7 +569,7 @@ class EnglishParsingLogic implements ParsingLogic {
 
 			} else if (rel.equalsIgnoreCase("aux")) {
 
-				if (dep.word().equalsIgnoreCase("will") && (!gov.tag().toLowerCase().startsWith("v"))) {
+				if (dep.word().equalsIgnoreCase("will") && (!startsWithIgnoreCase(gov.tag(), "v"))) {
 					willCopulaFound = true;
 					willStart = dep.beginPosition();
 				}
@@ -477,29 +582,27 @@ class EnglishParsingLogic implements ParsingLogic {
 							|| (dep.word().equalsIgnoreCase("shall") && dep.index() > 1)) {
 						// Future Simple
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, depBegin,
-								theVerb.endPosition(), dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, depBegin, theVerb.endPosition(),
-								dependency.toString());
+								theVerb.endPosition());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, depBegin, theVerb.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_SIMPLE, depBegin,
-								theVerb.endPosition(), dependency.toString());
+								theVerb.endPosition());
 					} // past (negation or question)
 					else if (dep.word().equalsIgnoreCase("did")) {
 						// Past Simple negation or question
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, depBegin,
-								theVerb.endPosition(), dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, theVerb.endPosition(),
-								dependency.toString());
+								theVerb.endPosition());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, theVerb.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, depBegin,
-								theVerb.endPosition(), dependency.toString());
+								theVerb.endPosition());
 					} // present (negation or question)
 					else if (dep.word().equalsIgnoreCase("do") || dep.word().equalsIgnoreCase("does")) {
 						// no modals!
 						// NOT incl. emphatic do
-						List<ConstructionOccurrence> imperativeOccs = workingDoc
-								.getConstructionData(GrammaticalConstruction.IMPERATIVES).getOccurrences();
+						DocumentConstructionData imperativeOccs = workingDoc
+								.getConstructionData(GrammaticalConstruction.IMPERATIVES);
 						boolean imperativeFound = false;
-						for (ConstructionOccurrence occ : imperativeOccs) {
-							if (occ.getStart() == depBegin) {
+						for (int i = 0; i < imperativeOccs.getFrequency(); i++) {
+							if (imperativeOccs.getOccurrenceStart(i) == depBegin) {
 								imperativeFound = true;
 								break;
 							}
@@ -507,11 +610,11 @@ class EnglishParsingLogic implements ParsingLogic {
 						if (!imperativeFound) {
 							// Present Simple negation or question
 							addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, depBegin,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, depBegin,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, depBegin,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 						}
 					}
 
@@ -529,8 +632,7 @@ class EnglishParsingLogic implements ParsingLogic {
 						haveHasDoneFound = true;
 					} // Passive (simple): just in case: normally under auxpass() dependency
 					else if (dep.word().equalsIgnoreCase("be") || dep.word().equalsIgnoreCase("get")) {
-						addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end,
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end);
 						willDoneFound = false;
 						willHaveDoneFound = false;
 						willStart = -1;
@@ -540,15 +642,11 @@ class EnglishParsingLogic implements ParsingLogic {
 				else if (willHaveDoneFound) {
 					// >>> Passive (perfect): just in case: normally under auxpass() dependency
 					if (dep.word().equalsIgnoreCase("been")) {
-						addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end,
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end);
 					} else if (willStart == -1) {
-						addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, willStart, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, end,
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end);
+						addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, willStart, end);
+						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, end);
 					}
 
 					willHaveDoneFound = false;
@@ -566,8 +664,7 @@ class EnglishParsingLogic implements ParsingLogic {
 					if (dep.word().equalsIgnoreCase("been") || dep.word().equalsIgnoreCase("got")
 							|| dep.word().equalsIgnoreCase("gotten")) {
 						if (gov.tag().equalsIgnoreCase("vbn")) {
-							addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end,
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end);
 						}
 					}
 				} // after aux(done,have/has) is found : Present Perfect, Passive
@@ -576,8 +673,7 @@ class EnglishParsingLogic implements ParsingLogic {
 					if (dep.word().equalsIgnoreCase("been") || dep.word().equalsIgnoreCase("got")
 							|| dep.word().equalsIgnoreCase("gotten")) {
 						if (gov.tag().equalsIgnoreCase("vbn")) {
-							addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end,
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end);
 						}
 					}
 				} // ? right after "done" as main verb is found
@@ -600,11 +696,11 @@ class EnglishParsingLogic implements ParsingLogic {
 						if (pastPartFound && theVerb != null && gov.beginPosition() == theVerb.beginPosition()) {
 							haveStart = dep.beginPosition();
 							addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							// hadDoneFound = false;
 							// haveStart = -1;
 							// pastPartFound = false;
@@ -626,11 +722,11 @@ class EnglishParsingLogic implements ParsingLogic {
 						if (pastPartFound && theVerb != null && gov.beginPosition() == theVerb.beginPosition()) {
 							haveStart = dep.beginPosition();
 							addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart,
-									theVerb.endPosition(), dependency.toString());
+									theVerb.endPosition());
 							// haveHasDoneFound = false;
 							// haveStart = -1;
 							// pastPartFound = false;
@@ -648,19 +744,17 @@ class EnglishParsingLogic implements ParsingLogic {
 					if (willDoingFound) {
 						if (dep.word().equalsIgnoreCase("be")) {
 							// Future Progressive
-							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, gov.endPosition(),
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, gov.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PROGRESSIVE, willStart,
-									gov.endPosition(), dependency.toString());
+									gov.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.ASPECT_PROGRESSIVE, willStart,
-									gov.endPosition(), dependency.toString());
+									gov.endPosition());
 						} else if (dep.word().equalsIgnoreCase("have")) {
-							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, gov.endPosition(),
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, gov.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT_PROGRESSIVE,
-									willStart, gov.endPosition(), dependency.toString());
+									willStart, gov.endPosition());
 							addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT_PROGRESSIVE, willStart,
-									gov.endPosition(), dependency.toString());
+									gov.endPosition());
 						}
 
 						willDoingFound = false;
@@ -674,45 +768,41 @@ class EnglishParsingLogic implements ParsingLogic {
 					} else if (dep.word().equalsIgnoreCase("am") || dep.word().equalsIgnoreCase("are")
 							|| dep.word().equalsIgnoreCase("is")) {
 						// >>> Present Progressive
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, depBegin, gov.endPosition(),
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, depBegin, gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						verbIndex = -1;
 						theVerb = null;
 					} else if (dep.word().equalsIgnoreCase("was") || dep.word().equalsIgnoreCase("were")) {
 						// >>> Past Progressive
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, gov.endPosition(),
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						verbIndex = -1;
 						theVerb = null;
 					} else if ((!willDoingFound)
 							&& (dep.word().equalsIgnoreCase("have") || dep.word().equalsIgnoreCase("has"))) {
 						// >>> Present Perfect Progressive
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, depBegin, gov.endPosition(),
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, depBegin, gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						verbIndex = -1;
 						theVerb = null;
 						haveHasDoneFound = false;
 						haveStart = -1;
 					} else if ((!willDoingFound) && (dep.word().equalsIgnoreCase("had"))) {
 						// >>> Past Perfect Progressive
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, gov.endPosition(),
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, depBegin, gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT_PROGRESSIVE, depBegin,
-								gov.endPosition(), dependency.toString());
+								gov.endPosition());
 						verbIndex = -1;
 						theVerb = null;
 						hadDoneFound = false;
@@ -727,33 +817,29 @@ class EnglishParsingLogic implements ParsingLogic {
 
 				if (dep.word().equalsIgnoreCase("was") || dep.word().equalsIgnoreCase("were")) {
 					addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, dep.beginPosition(),
-							gov.endPosition(), dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, dep.beginPosition(), gov.endPosition(),
-							dependency.toString());
+							gov.endPosition());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, dep.beginPosition(), gov.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, dep.beginPosition(),
-							gov.endPosition(), dependency.toString());
+							gov.endPosition());
 				} else if (dep.word().equalsIgnoreCase("is") || dep.word().equalsIgnoreCase("am")
 						|| dep.word().equalsIgnoreCase("are")) {
 					addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, dep.beginPosition(),
-							gov.endPosition(), dependency.toString());
+							gov.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, dep.beginPosition(),
-							gov.endPosition(), dependency.toString());
+							gov.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, dep.beginPosition(),
-							gov.endPosition(), dependency.toString());
+							gov.endPosition());
 				}
 
-				addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end, dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE, start, end);
 				pastPartFound = false;
 				verbIndex = -1;
 				theVerb = null;
 
 				if (willHaveDoneFound) {
-					addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end,
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, end,
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, willStart, end,
-							dependency.toString());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end);
+					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, end);
+					addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, willStart, end);
 					willHaveDoneFound = false;
 					willDoneFound = false;
 					haveHasDoneFound = false;
@@ -774,23 +860,19 @@ class EnglishParsingLogic implements ParsingLogic {
 			} else if (theVerb != null && verbIndex > 0 && haveHasDoneFound && (!rel.equalsIgnoreCase("auxpass"))) {
 				if (willHaveDoneFound) {
 					// >>> Future Perfect
-					addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, theVerb.endPosition(),
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, theVerb.endPosition(),
-							dependency.toString());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, theVerb.endPosition());
+					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, willStart, theVerb.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, willStart,
-							theVerb.endPosition(), dependency.toString());
+							theVerb.endPosition());
 					willHaveDoneFound = false;
 					willDoneFound = false;
 					willStart = -1;
 				} else {
 					// >>> Present Perfect
-					addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, haveStart, theVerb.endPosition(),
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart, theVerb.endPosition(),
-							dependency.toString());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, haveStart, theVerb.endPosition());
+					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart, theVerb.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT, haveStart,
-							theVerb.endPosition(), dependency.toString());
+							theVerb.endPosition());
 				}
 				haveHasDoneFound = false;
 
@@ -799,55 +881,40 @@ class EnglishParsingLogic implements ParsingLogic {
 				haveStart = -1;
 			} else if (theVerb != null && verbIndex > 0 && hadDoneFound && (!rel.equalsIgnoreCase("auxpass"))) {
 				// >>> Past Perfect
-				addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, haveStart, theVerb.endPosition(),
-						dependency.toString());
-				addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart, theVerb.endPosition(),
-						dependency.toString());
-				addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT, haveStart, theVerb.endPosition(),
-						dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, haveStart, theVerb.endPosition());
+				addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, haveStart, theVerb.endPosition());
+				addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT, haveStart, theVerb.endPosition());
 				hadDoneFound = false;
 				haveStart = -1;
 				verbIndex = -1;
 				theVerb = null;
 			} else if (rel.equalsIgnoreCase("cop")) {
 				if (haveHasDoneFound) {
-					addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, start, end, dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT, start, end,
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, start, end,
-							dependency.toString());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, start, end);
+					addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT, start, end);
+					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, start, end);
 				} else if (hadDoneFound) {
-					addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, start, end, dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT, start, end,
-							dependency.toString());
-					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, start, end,
-							dependency.toString());
+					addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, start, end);
+					addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT, start, end);
+					addConstructionOccurrence(GrammaticalConstruction.ASPECT_PERFECT, start, end);
 				} else {
 					switch (dep.tag().toLowerCase()) {
 					case "vbp":
 					case "vbz":
-						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, start, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, start, end,
-								dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end);
+						addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, start, end);
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, start, end);
 						break;
 					case "vbd":
-						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, start, end,
-								dependency.toString());
-						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, start, end, dependency.toString());
+						addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end);
+						addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, start, end);
+						addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, start, end);
 						break;
 					case "vb":
 						if (willCopulaFound) {
-							addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end,
-									"will " + dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_SIMPLE, willStart, end,
-									"will " + dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end,
-									"will " + dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, start, end);
+							addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_SIMPLE, willStart, end);
+							addConstructionOccurrence(GrammaticalConstruction.TIME_FUTURE, willStart, end);
 						}
 						willCopulaFound = false;
 						willStart = -1;
@@ -884,25 +951,23 @@ class EnglishParsingLogic implements ParsingLogic {
 			// can still be: Past Simple (negation), Future Simple, Present Simple (negation)
 			// cannot be Present Simple : VBP or VBZ instead
 			// examples: I didn't do it // I will do it // I don't know
-			// addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd, dependency.toString());
+			// addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd);
 			ingFound = false;
 			pastPartFound = false;
 			baseFormFound = true;
 		} else if (verb.tag().equalsIgnoreCase("vbp") || verb.tag().equalsIgnoreCase("vbz")) {
 			// single or plural present
-			addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd, dependency.toString());
-			addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, verbBegin, verbEnd, dependency.toString());
-			addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, verbBegin, verbEnd,
-					dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd);
+			addConstructionOccurrence(GrammaticalConstruction.TIME_PRESENT, verbBegin, verbEnd);
+			addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_SIMPLE, verbBegin, verbEnd);
 			ingFound = false;
 			pastPartFound = false;
 			baseFormFound = false;
 		} else if (verb.tag().equalsIgnoreCase("vbd")) {
 			// past form
-			addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd, dependency.toString());
-			addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, verbBegin, verbEnd, dependency.toString());
-			addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, verbBegin, verbEnd,
-					dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.ASPECT_SIMPLE, verbBegin, verbEnd);
+			addConstructionOccurrence(GrammaticalConstruction.TIME_PAST, verbBegin, verbEnd);
+			addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_SIMPLE, verbBegin, verbEnd);
 			ingFound = false;
 			pastPartFound = false;
 			baseFormFound = false;
@@ -946,10 +1011,8 @@ class EnglishParsingLogic implements ParsingLogic {
 						// indices start at 1 !!!
 						if (!((verbInd >= 2 && labeledWords.get(verbInd - 2).word().equalsIgnoreCase("did"))
 								|| ((verbInd >= 3) && labeledWords.get(verbInd - 3).word().equalsIgnoreCase("did")))) {
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break; // don't look at the 'would' clause
 						}
 					} else if (gov.tag().equalsIgnoreCase("vbg")) {
@@ -969,20 +1032,16 @@ class EnglishParsingLogic implements ParsingLogic {
 						would_found = true;
 						if (gov.tag().equalsIgnoreCase("VBN")) {
 							// past participle form: "would have gone"
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break; // with fetch only 1 conditional per sentence - which is fine
 							// but: (won't catch mixedConditionals: If you had done it, you wouldn't regret it now.)
 							// TODO
 						} else if (gov.tag().equalsIgnoreCase("VB")) {
 							// base form: "would go"
 							// constructions.get("condII").incrementCount(docNum, labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break; // with fetch only 1 conditional per sentence - which is fine
 							// but: (won't catch mixedConditionals: If you had done it, you wouldn't regret it now.)
 							// TODO
@@ -992,10 +1051,8 @@ class EnglishParsingLogic implements ParsingLogic {
 							|| dep.tag().equalsIgnoreCase("vbz")) && (dep.lemma().equalsIgnoreCase("have"))) {
 						if (gov.beginPosition() == verbBegin) {
 							mark_found = false;
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break; // don't look at the 'would' clause
 						}
 					} // fetch: continuous (present and past)
@@ -1003,19 +1060,15 @@ class EnglishParsingLogic implements ParsingLogic {
 						if (dep.tag().equalsIgnoreCase("vbd") || dep.tag().equalsIgnoreCase("vbn")) {
 							// past
 							mark_found = false;
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_UNREAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break;
 						} else if (dep.tag().equalsIgnoreCase("vb") || dep.tag().equalsIgnoreCase("vbp")
 								|| dep.tag().equalsIgnoreCase("vbz")) {
 							// present
 							mark_found = false;
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd,
-									labeledWords.toString());
-							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd,
-									labeledWords.toString());
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd);
+							addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 							break;
 						}
 					}
@@ -1025,9 +1078,8 @@ class EnglishParsingLogic implements ParsingLogic {
 
 		// fetch present and past real conditional: "If you didn't go there, you didn't see him"
 		if (mark_found && !would_found) {
-			addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd,
-					labeledWords.toString());
-			addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd, labeledWords.toString());
+			addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS_REAL, startInd, endInd);
+			addConstructionOccurrence(GrammaticalConstruction.CONDITIONALS, startInd, endInd);
 		} else if (continuous) {
 			// TODO ???
 		}
@@ -1037,7 +1089,7 @@ class EnglishParsingLogic implements ParsingLogic {
 		// find the first and the last word (skip bullets, quotes, etc.)
 		CoreLabel firstWord = null;
 		for (CoreLabel w : wordsOutput) {
-			if (w.word() != null && w.word().toLowerCase().matches("[a-z]*")) {
+			if (w.word() != null && isLetters(w.word())) {
 				// first real word
 				firstWord = w;
 				break;
@@ -1066,10 +1118,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				inspectQuestion(firstWord);
 			} else {
 				// use tregex to find imperatives within the sentence
-				// a sentence that has a vp that is NOT preceded by a sister NP
-				String pattern = "/^S.*/ !$ /NP$/ < (VP=imperativeVerb !$-- /^N.*/)";
-				TregexPattern impPattern = TregexPattern.compile(pattern);
-				TregexMatcher tregexImperative = impPattern.matcher(treeOutput);
+				TregexMatcher tregexImperative = PATTERN_IMPERATIVE.matcher(treeOutput);
 				while (tregexImperative.find()) {
 					Tree imperativeVerb = tregexImperative.getNode("imperativeVerb");
 					CoreLabel impFirstWord = imperativeVerb.taggedLabeledYield().get(0);
@@ -1077,8 +1126,7 @@ class EnglishParsingLogic implements ParsingLogic {
 						int impStart = impFirstWord.beginPosition();
 						int impEnd = imperativeVerb.taggedLabeledYield()
 								.get(imperativeVerb.taggedLabeledYield().size() - 1).endPosition();
-						addConstructionOccurrence(GrammaticalConstruction.IMPERATIVES, impStart, impEnd,
-								wordsOutput.toString());
+						addConstructionOccurrence(GrammaticalConstruction.IMPERATIVES, impStart, impEnd);
 					}
 				}
 			}
@@ -1090,7 +1138,7 @@ class EnglishParsingLogic implements ParsingLogic {
 		int endInd = wordsOutput.get(wordsOutput.size() - 1).endPosition();
 
 		//// direct question
-		addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_DIRECT, startInd, endInd, wordsOutput.toString());
+		addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_DIRECT, startInd, endInd);
 
 		if (firstWord == null) {
 			return;
@@ -1103,17 +1151,15 @@ class EnglishParsingLogic implements ParsingLogic {
 		findTagQuestion(endInd);
 
 		//// wh-question
-		if (firstWordTag.toLowerCase().startsWith("w")) {
+		if (startsWithIgnoreCase(firstWordTag, "w")) {
 			findWhQuestion(firstWordWord, startInd, endInd);
 		} //// yesNoQuestions (starts with a verb (or modal))
-		else if (firstWordTag.toLowerCase().startsWith("vb")) {
+		else if (startsWithIgnoreCase(firstWordTag, "vb")) {
 			findYesNoQuestion(firstWord, startInd, endInd);
 		} // modal question
 		else if (firstWordTag.toLowerCase().contains("md")) {
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd,
-					wordsOutput.toString());
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_MODAL, startInd, endInd,
-					wordsOutput.toString());
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_MODAL, startInd, endInd);
 		} else {
 			// it can still be the case that it is a wh- or yes-no question but it doesn't start at the beginning of a sentence
 			// e.g.: That person has to wonder 'What did I do wrong?'
@@ -1144,8 +1190,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				count++;
 			} else if (lastWord != null && tag.equalsIgnoreCase(",")) {
 				if (count < 5) {
-					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TAG, label.beginPosition(), endInd,
-							wordsOutput.toString()); // highlight only the tag
+					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TAG, label.beginPosition(), endInd); // highlight only the tag
 				} else {
 					break;
 				}
@@ -1178,16 +1223,13 @@ class EnglishParsingLogic implements ParsingLogic {
 				if (dep.lemma().equalsIgnoreCase("be") || gov.lemma().equalsIgnoreCase("be")) {
 					// it might not get here
 					addWhQuestion(firstWordWord, startInd, endInd);
-					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd,
-							wordsOutput.toString());
+					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd);
 				} else if (dep.lemma().equalsIgnoreCase("do") || gov.lemma().equalsIgnoreCase("do")) {
 					addWhQuestion(firstWordWord, startInd, endInd);
-					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd,
-							wordsOutput.toString());
+					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd);
 				} else if (dep.lemma().equalsIgnoreCase("have") || gov.lemma().equalsIgnoreCase("have")) {
 					addWhQuestion(firstWordWord, startInd, endInd);
-					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd,
-							wordsOutput.toString());
+					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd);
 				}
 
 				break;
@@ -1196,34 +1238,34 @@ class EnglishParsingLogic implements ParsingLogic {
 	}
 
 	private void addWhQuestion(String qWord, int startInd, int endInd) {
-		addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WH, startInd, endInd, qWord);
+		addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WH, startInd, endInd);
 		switch (qWord.toLowerCase()) {
 		case "what":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHAT, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHAT, startInd, endInd);
 			break;
 		case "how":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_HOW, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_HOW, startInd, endInd);
 			break;
 		case "why":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHY, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHY, startInd, endInd);
 			break;
 		case "who":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHO, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHO, startInd, endInd);
 			break;
 		case "where":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHERE, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHERE, startInd, endInd);
 			break;
 		case "when":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHEN, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHEN, startInd, endInd);
 			break;
 		case "whose":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHOSE, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHOSE, startInd, endInd);
 			break;
 		case "whom":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHOM, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHOM, startInd, endInd);
 			break;
 		case "which":
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHICH, startInd, endInd, qWord);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_WHICH, startInd, endInd);
 			break;
 		default:
 			System.out.println("Unknown wh- word: " + qWord);
@@ -1234,22 +1276,16 @@ class EnglishParsingLogic implements ParsingLogic {
 	private void findYesNoQuestion(CoreLabel firstWord, int startInd, int endInd) {
 		if (firstWord.lemma().equalsIgnoreCase("be")) {
 			// toBeQuestions;
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd,
-					wordsOutput.toString());
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd,
-					wordsOutput.toString());
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd);
 		} else if (firstWord.lemma().equalsIgnoreCase("do")) {
 			// simple
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd,
-					wordsOutput.toString());
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd,
-					wordsOutput.toString());
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd);
 		} else if (firstWord.lemma().equalsIgnoreCase("have")) {
 			// perfect
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd,
-					wordsOutput.toString());
-			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd,
-					wordsOutput.toString());
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_YESNO, startInd, endInd);
+			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd);
 		}
 
 	}
@@ -1258,61 +1294,56 @@ class EnglishParsingLogic implements ParsingLogic {
 		CoreLabel questionWord = null;
 		for (CoreLabel aWord : wordsOutput) {
 			// look for a question word
-			if ((questionWord == null) && (aWord.tag().toLowerCase().startsWith("w"))) {
+			if ((questionWord == null) && (startsWithIgnoreCase(aWord.tag(), "w"))) {
 				questionWord = aWord;
 			} else if (questionWord != null) {
 				// if question word found
-				if (aWord.tag().toLowerCase().startsWith("vb")) {
+				if (startsWithIgnoreCase(aWord.tag(), "vb")) {
 					if (aWord.lemma().equalsIgnoreCase("be")) {
 						// toBeQuestions;
 						addWhQuestion(questionWord.word().toLowerCase(), startInd, endInd);
-						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd,
-								wordsOutput.toString());
+						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_BE, startInd, endInd);
 						break;
 					} else if (aWord.lemma().equalsIgnoreCase("do")) {
 						// simple
 						addWhQuestion(questionWord.word().toLowerCase(), startInd, endInd);
-						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd,
-								wordsOutput.toString());
+						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_DO, startInd, endInd);
 						break;
 					} else if (aWord.lemma().equalsIgnoreCase("have")) {
 						// perfect
 						addWhQuestion(questionWord.word().toLowerCase(), startInd, endInd);
-						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd,
-								wordsOutput.toString());
+						addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TO_HAVE, startInd, endInd);
 						break;
 					}
-				} else if (aWord.tag().toLowerCase().startsWith("md")) {
+				} else if (startsWithIgnoreCase(aWord.tag(), "md")) {
 					addWhQuestion(questionWord.word().toLowerCase(), startInd, endInd);
-					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_MODAL, startInd, endInd,
-							wordsOutput.toString());
+					addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_MODAL, startInd, endInd);
 				}
 			}
 		}
 	}
 
-	private void findUsedTo(CoreLabel label, String labelWord, String labelTag) {
-		if (labelTag.equalsIgnoreCase("to")) // allows for elliptical structures, e.g., "yes, I used to."
+	private void findUsedTo(CoreLabel label, String labelWord, PennTag labelTag) {
+		if (labelTag == PennTag.TO) // allows for elliptical structures, e.g., "yes, I used to."
 		{
 			addConstructionOccurrence(GrammaticalConstruction.VERBCONST_USED_TO,
-					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(), "used " + labelWord);
+					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
 		}
 		usedFound = false;
 	}
 
-	private void findGoingTo(CoreLabel label, String labelWord, String labelTag) {
+	private void findGoingTo(CoreLabel label, String labelWord, PennTag labelTag) {
 		switch (goingToFound) {
 		case 1:
 			// only "going" found
-			if (labelTag.equalsIgnoreCase("to")) {
+			if (labelTag == PennTag.TO) {
 				goingToFound++;
 				// indices start at 1 !!! : wordsOutput.get(label.index()) will be the word following the current "label" word
 				if (label.index() < wordsOutput.size() - 1 && ".,!?;:)".contains(wordsOutput.get(label.index()).tag())) {
 					// catches "yes, I'm going to."
 					// indices start at 1 !!!
 					addConstructionOccurrence(GrammaticalConstruction.VERBCONST_GOING_TO,
-							wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(),
-							"going " + labelWord);
+							wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
 					goingToFound = 0;
 				}
 			} else {
@@ -1321,12 +1352,11 @@ class EnglishParsingLogic implements ParsingLogic {
 			break;
 		case 2:
 			// "going to" found
-			if (labelTag.equalsIgnoreCase("vb")) {
+			if (labelTag == PennTag.VB) {
 				// can tell it from "I'm going to France" // can't catch "I'm going to _slowly_ start packing" - use Tregex?
 				// indices start at 1 !!!
 				addConstructionOccurrence(GrammaticalConstruction.VERBCONST_GOING_TO,
-						wordsOutput.get(label.index() - 3).beginPosition(), label.endPosition(),
-						"going to " + labelWord); // "going to V"
+						wordsOutput.get(label.index() - 3).beginPosition(), label.endPosition()); // "going to V"
 				goingToFound = 0;
 			}
 			break;
@@ -1337,85 +1367,72 @@ class EnglishParsingLogic implements ParsingLogic {
 		}
 	}
 
-	private void findIngNounForms(CoreLabel label, String labelWord, String labelTag) {
+	private void findIngNounForms(CoreLabel label, String labelWord, PennTag labelTag) {
 		if (labelWord.endsWith("ing") && labelWord.length() > 4
 				&& (!EnglishGrammaticalConstants.ING_NOUNS.contains(labelWord))) {
-			addConstructionOccurrence(GrammaticalConstruction.NOUNFORMS_ING, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.NOUNFORMS_ING, label.beginPosition(), label.endPosition());
 		}
 		// plural noun forms
-		if (labelTag.equalsIgnoreCase("nns")) {
+		if (labelTag == PennTag.NNS) {
 			if (labelWord.endsWith("s")) {
 				addConstructionOccurrence(GrammaticalConstruction.PLURAL_REGULAR, label.beginPosition(),
-						label.endPosition(), labelWord);
+						label.endPosition());
 			} else {
 				addConstructionOccurrence(GrammaticalConstruction.PLURAL_IRREGULAR, label.beginPosition(),
-						label.endPosition(), labelWord);
+						label.endPosition());
 			}
 		}
 	}
 
 	private void addModalVerb(CoreLabel label, String labelWord) {
-		addConstructionOccurrence(GrammaticalConstruction.MODALS, label.beginPosition(), label.endPosition(),
-				labelWord);
+		addConstructionOccurrence(GrammaticalConstruction.MODALS, label.beginPosition(), label.endPosition());
 		switch (labelWord) {
 		case "can":
 		case "ca": // for negation: ca/MD n't/RB
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_CAN, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_CAN, label.beginPosition(), label.endPosition());
 			break;
 		case "must":
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_MUST, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_MUST, label.beginPosition(), label.endPosition());
 			break;
 		case "need":
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_NEED, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_NEED, label.beginPosition(), label.endPosition());
 			break;
 		case "may":
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_MAY, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_SIMPLE, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_MAY, label.beginPosition(), label.endPosition());
 			break;
 		case "could":
 			addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-					label.endPosition(), labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_COULD, label.beginPosition(), label.endPosition(),
-					labelWord);
+					label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_COULD, label.beginPosition(), label.endPosition());
 			break;
 		case "might":
 			addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-					label.endPosition(), labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_MIGHT, label.beginPosition(), label.endPosition(),
-					labelWord);
+					label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_MIGHT, label.beginPosition(), label.endPosition());
 			break;
 		case "ought":
 			addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-					label.endPosition(), labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.MODALS_OUGHT, label.beginPosition(), label.endPosition(),
-					labelWord);
+					label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.MODALS_OUGHT, label.beginPosition(), label.endPosition());
 			break;
 		default:
 			if (!(labelWord.equalsIgnoreCase("will") || labelWord.equalsIgnoreCase("shall")
 					|| labelWord.equalsIgnoreCase("wo") || labelWord.equalsIgnoreCase("sha"))) {
 				addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-						label.endPosition(), labelWord);
+						label.endPosition());
 			}
 			break;
 		}
 	}
 
-	private void findVerbFormsPOS(CoreLabel label, String labelWord, String labelTag) {
+	private void findVerbFormsPOS(CoreLabel label, String labelWord, PennTag labelTag) {
 		if (labelWord.startsWith("'")) {
 			addConstructionOccurrence(GrammaticalConstruction.VERBFORM_SHORT, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 			// do NOT add auxiiaries here (can be main verb as well)
 		} else {
 			switch (labelWord) {
@@ -1423,49 +1440,49 @@ class EnglishParsingLogic implements ParsingLogic {
 			case "is":
 			case "am":
 				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_LONG, label.beginPosition(),
-						label.endPosition(), labelWord);
+						label.endPosition());
 				// do NOT add auxiiaries here (can be main verb as well)
 				break;
 			case "has":
 			case "have":
 			case "had":
 				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_LONG, label.beginPosition(),
-						label.endPosition(), labelWord);
+						label.endPosition());
 				// add modal "have to" here if the tag is MD
 				int thisInd = label.index() - 1;
 				if (wordsOutput.size() > thisInd + 1) {
 					if (wordsOutput.get(thisInd + 1).tag().equalsIgnoreCase("to")) {
 						// catch the elliptical "I have to." BUT not "I will give everything I have to John"
 						addConstructionOccurrence(GrammaticalConstruction.MODALS, label.beginPosition(),
-								wordsOutput.get(thisInd + 1).endPosition(), labelWord + " to");
+								wordsOutput.get(thisInd + 1).endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-								wordsOutput.get(thisInd + 1).endPosition(), labelWord + " to");
+								wordsOutput.get(thisInd + 1).endPosition());
 						addConstructionOccurrence(GrammaticalConstruction.MODALS_HAVE_TO, label.beginPosition(),
-								wordsOutput.get(thisInd + 1).endPosition(), labelWord + " to");
+								wordsOutput.get(thisInd + 1).endPosition());
 					}
 				}
 
 				break;
 			case "used":
-				if (labelTag.equalsIgnoreCase("vbd")) // excludes passive "it is used to"
+				if (labelTag == PennTag.VBD) // excludes passive "it is used to"
 				{
 					usedFound = true;
 				}
 			}
 
-			if (labelTag.equalsIgnoreCase("vbg")) {
+			if (labelTag == PennTag.VBG) {
 				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_ING, label.beginPosition(),
-						label.endPosition(), labelWord);
-				if (labelWord.equalsIgnoreCase("going") || labelWord.equalsIgnoreCase("gon")) {
+						label.endPosition());
+				if (labelWord.equals("going") || labelWord.equals("gon")) {
 					goingToFound++;
 				}
-			} else if (labelTag.equalsIgnoreCase("vbd") || labelTag.equalsIgnoreCase("vbn")) {
+			} else if (labelTag == PennTag.VBD || labelTag == PennTag.VBN) {
 				if (!labelWord.endsWith("ed")) {
 					addConstructionOccurrence(GrammaticalConstruction.VERBS_IRREGULAR, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				} else {
 					addConstructionOccurrence(GrammaticalConstruction.VERBS_REGULAR, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				}
 			}
 
@@ -1479,19 +1496,17 @@ class EnglishParsingLogic implements ParsingLogic {
 				&& (gov.tag().equalsIgnoreCase("vb") || gov.tag().equalsIgnoreCase("vbp"))
 				&& (dep.index() == gov.index() - 1))) {
 			// "do" is followed by a verb
-			addConstructionOccurrence(GrammaticalConstruction.VERBFORM_EMPATHIC_DO, start, end, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.VERBFORM_EMPATHIC_DO, start, end);
 		} else if (dep.lemma().equalsIgnoreCase("be") || dep.lemma().equalsIgnoreCase("have")
 				|| dep.lemma().equalsIgnoreCase("do")) {
-			addConstructionOccurrence(GrammaticalConstruction.VERBFORM_AUXILIARIES_BE_DO_HAVE, depBegin, depEnd,
-					dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.VERBFORM_AUXILIARIES_BE_DO_HAVE, depBegin, depEnd);
 		}
 
 		// to-infinitives
 		if (dep.tag().equalsIgnoreCase("to")) {
 			if (gov.tag().equalsIgnoreCase("vb")) {
 				// "He wants to sleep"
-				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_TO_INFINITIVE, start, end,
-						dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.VERBFORM_TO_INFINITIVE, start, end);
 			} else {
 				// "He wants to be a pilot" -> aux ( pilot-6 *!!!* , to-3 ) + cop ( pilot-6 , be-4 ) ** only with "be" as copula **
 				// indices start at 1 !!!
@@ -1499,7 +1514,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				int govInd = gov.index();
 				if (govInd - toInd > 1 && wordsOutput.get(toInd + 1).word().equalsIgnoreCase("be")) {
 					addConstructionOccurrence(GrammaticalConstruction.VERBFORM_TO_INFINITIVE, dep.beginPosition(),
-							wordsOutput.get(toInd + 1).endPosition(), dependency.toString());
+							wordsOutput.get(toInd + 1).endPosition());
 				}
 			}
 		}
@@ -1526,15 +1541,11 @@ class EnglishParsingLogic implements ParsingLogic {
 						// add constructions here: in case of a duplicate, it'll not be added anyway
 						if (l.tag().equalsIgnoreCase("in")
 								&& EnglishGrammaticalConstants.SIMPLE_PREPOSITIONS.contains(prep)) {
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep,
-									dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_SIMPLE, startPrep, endPrep,
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep);
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_SIMPLE, startPrep, endPrep);
 						} else {
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep,
-									dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_ADVANCED, startPrep, endPrep,
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep);
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_ADVANCED, startPrep, endPrep);
 						}
 					}
 				}
@@ -1554,12 +1565,9 @@ class EnglishParsingLogic implements ParsingLogic {
 						endPrep = l.endPosition();
 						if (startPrep > -1 && endPrep > -1 && endPrep > startPrep) {
 							// add constructions here: in case of a duplicate, it'll not be added anyway
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep,
-									dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_COMPLEX, startPrep, endPrep,
-									dependency.toString());
-							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_ADVANCED, startPrep, endPrep,
-									dependency.toString());
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS, startPrep, endPrep);
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_COMPLEX, startPrep, endPrep);
+							addConstructionOccurrence(GrammaticalConstruction.PREPOSITIONS_ADVANCED, startPrep, endPrep);
 							startPrep = -1;
 							endPrep = -1;
 						}
@@ -1572,30 +1580,29 @@ class EnglishParsingLogic implements ParsingLogic {
 		/// objective pronouns after a preposition
 		if (dep.tag().equalsIgnoreCase("prp")
 				&& EnglishGrammaticalConstants.OBJECTIVE_PRONOUNS.contains(dep.word().toLowerCase())) {
-			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd, dep.word());
-			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd, dep.word());
+			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd);
+			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd);
 		}
 	}
 
 	private void addNegation(TypedDependency dependency, IndexedWord dep, int depBegin, int depEnd) {
-		addConstructionOccurrence(GrammaticalConstruction.NEGATION_NO_NOT_NEVER, depBegin, depEnd,
-				dependency.toString());
-		addConstructionOccurrence(GrammaticalConstruction.NEGATION_ALL, depBegin, depEnd, dependency.toString());
+		addConstructionOccurrence(GrammaticalConstruction.NEGATION_NO_NOT_NEVER, depBegin, depEnd);
+		addConstructionOccurrence(GrammaticalConstruction.NEGATION_ALL, depBegin, depEnd);
 
 		if (dep.word().equalsIgnoreCase("n't")) {
-			addConstructionOccurrence(GrammaticalConstruction.NEGATION_NT, depBegin, depEnd, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.NEGATION_NT, depBegin, depEnd);
 		} else if (dep.word().equalsIgnoreCase("not")) {
-			addConstructionOccurrence(GrammaticalConstruction.NEGATION_NOT, depBegin, depEnd, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.NEGATION_NOT, depBegin, depEnd);
 		}
 	}
 
 	private void addExistentialThere(TypedDependency dependency, int start, int end, IndexedWord gov) {
-		addConstructionOccurrence(GrammaticalConstruction.EXISTENTIAL_THERE, start, end, dependency.toString());
+		addConstructionOccurrence(GrammaticalConstruction.EXISTENTIAL_THERE, start, end);
 
 		if (gov.word().equalsIgnoreCase("is") || gov.word().equalsIgnoreCase("are")) {
-			addConstructionOccurrence(GrammaticalConstruction.THERE_IS_ARE, start, end, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.THERE_IS_ARE, start, end);
 		} else if (gov.word().equalsIgnoreCase("was") || gov.word().equalsIgnoreCase("were")) {
-			addConstructionOccurrence(GrammaticalConstruction.THERE_WAS_WERE, start, end, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.THERE_WAS_WERE, start, end);
 		}
 	}
 
@@ -1603,30 +1610,28 @@ class EnglishParsingLogic implements ParsingLogic {
 	                                               IndexedWord dep, int depBegin, int depEnd) {
 		if (rel.equalsIgnoreCase("iobj")) {
 			// indirect object
-			addConstructionOccurrence(GrammaticalConstruction.OBJECT_INDIRECT, start, end, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.OBJECT_INDIRECT, start, end);
 
 			if (dep.tag().equalsIgnoreCase("prp")
 					&& EnglishGrammaticalConstants.OBJECTIVE_PRONOUNS.contains(dep.word().toLowerCase())) {
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd, dependency.toString());
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd,
-						dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd);
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd);
 			}
 		} else if (rel.equalsIgnoreCase("dobj")) {
 			// direct object
-			addConstructionOccurrence(GrammaticalConstruction.OBJECT_DIRECT, start, end, dependency.toString());
+			addConstructionOccurrence(GrammaticalConstruction.OBJECT_DIRECT, start, end);
 
 			if (dep.tag().equalsIgnoreCase("prp")
 					&& EnglishGrammaticalConstants.OBJECTIVE_PRONOUNS.contains(dep.word().toLowerCase())) {
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd, dependency.toString());
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd,
-						dependency.toString());
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd);
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_OBJECTIVE, depBegin, depEnd);
 			}
 		} else if (rel.equalsIgnoreCase("nsubj")) {
 			// subjective pronouns
 			if (dep.tag().equalsIgnoreCase("prp")
 					&& EnglishGrammaticalConstants.SUBJECTIVE_PRONOUNS.contains(dep.word().toLowerCase())) {
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd, dep.word());
-				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_SUBJECTIVE, depBegin, depEnd, dep.word());
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, depBegin, depEnd);
+				addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_SUBJECTIVE, depBegin, depEnd);
 			}
 		}
 	}
@@ -1635,26 +1640,25 @@ class EnglishParsingLogic implements ParsingLogic {
 		if (rel.equalsIgnoreCase("det")) {
 			if (dep.lemma().equalsIgnoreCase("some")) {
 				addConstructionOccurrence(GrammaticalConstruction.DETERMINER_SOME, dep.beginPosition(),
-						gov.endPosition(), dependency.toString());
+						gov.endPosition());
 			} else if (dep.lemma().equalsIgnoreCase("any")) {
 				addConstructionOccurrence(GrammaticalConstruction.DETERMINER_ANY, dep.beginPosition(),
-						gov.endPosition(), dependency.toString());
+						gov.endPosition());
 			}
 		} else if (rel.equalsIgnoreCase("amod")) {
 			if (dep.lemma().equalsIgnoreCase("many")) {
 				addConstructionOccurrence(GrammaticalConstruction.DETERMINER_MANY, dep.beginPosition(),
-						gov.endPosition(), dependency.toString());
+						gov.endPosition());
 			} else if (dep.lemma().equalsIgnoreCase("much")) {
 				addConstructionOccurrence(GrammaticalConstruction.DETERMINER_MUCH, dep.beginPosition(),
-						gov.endPosition(), dependency.toString());
+						gov.endPosition());
 			}
 		}
 	}
 
-	private void addAdjectiveForms(CoreLabel label, String labelWord, String labelTag) {
-		// already in lower case
+	private void addAdjectiveForms(CoreLabel label, String labelWord, PennTag labelTag) {
 		switch (labelTag) {
-		case "jj":
+		case JJ:
 			if (labelWord.equalsIgnoreCase("much") || labelWord.equalsIgnoreCase("many")) {
 				break;
 			} else if (labelWord.equalsIgnoreCase("able") || labelWord.equalsIgnoreCase("unable")) {
@@ -1663,55 +1667,55 @@ class EnglishParsingLogic implements ParsingLogic {
 				if (wordsOutput.size() >= ableInd && wordsOutput.size() > (ableInd + 1)
 						&& wordsOutput.get(ableInd + 1).tag().equalsIgnoreCase("to")) {
 					addConstructionOccurrence(GrammaticalConstruction.MODALS_ADVANCED, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.MODALS, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 					addConstructionOccurrence(GrammaticalConstruction.MODALS_ABLE, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				}
 				// otherwise it's an adjective: He's an able student.
 			} else {
 				// if it doesn't contain numbers
-				if (!labelWord.matches(".*\\d.*")) {
+				if (!containsDigit(labelWord)) {
 					addConstructionOccurrence(GrammaticalConstruction.ADJECTIVE_POSITIVE, label.beginPosition(),
-							label.endPosition(), labelWord);
+							label.endPosition());
 				}
 			}
 
 			break;
-		case "jjr": // "more" is covered above -> not included here
+		case JJR: // "more" is covered above -> not included here
 			addConstructionOccurrence(GrammaticalConstruction.ADJECTIVE_COMPARATIVE_SHORT, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 			break;
-		case "jjs": // "most" is covered above -> not included here
+		case JJS: // "most" is covered above -> not included here
 			addConstructionOccurrence(GrammaticalConstruction.ADJECTIVE_SUPERLATIVE_SHORT, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 			break;
 		}
 	}
 
-	private void addLongComparative(CoreLabel label, String labelWord, String labelTag) {
-		if (labelTag.equalsIgnoreCase("jj") && labelWord.length() > 5) // add comparativeAdjLong
+	private void addLongComparative(CoreLabel label, String labelWord, PennTag labelTag) {
+		if (labelTag == PennTag.JJ && labelWord.length() > 5) // add comparativeAdjLong
 		{
 			addConstructionOccurrence(GrammaticalConstruction.ADJECTIVE_COMPARATIVE_LONG,
-					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(), "more " + labelWord);
-		} else if (labelTag.equalsIgnoreCase("rb") && labelWord.length() > 5) // add comparativeAdvLong
+					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
+		} else if (labelTag == PennTag.RB && labelWord.length() > 5) // add comparativeAdvLong
 		{
 			addConstructionOccurrence(GrammaticalConstruction.ADVERB_COMPARATIVE_LONG,
-					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(), "more " + labelWord);
+					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
 		}
 		comparativeMoreFound = false;
 	}
 
-	private void addLongSuperlative(CoreLabel label, String labelWord, String labelTag) {
-		if (labelTag.equalsIgnoreCase("jj") && labelWord.length() > 5) // add superlativeAdjLong
+	private void addLongSuperlative(CoreLabel label, String labelWord, PennTag labelTag) {
+		if (labelTag == PennTag.JJ && labelWord.length() > 5) // add superlativeAdjLong
 		{
 			addConstructionOccurrence(GrammaticalConstruction.ADJECTIVE_SUPERLATIVE_LONG,
-					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(), "more " + labelWord);
-		} else if (labelTag.equalsIgnoreCase("rb") && labelWord.length() > 5) // add superlativeAdvLong
+					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
+		} else if (labelTag == PennTag.RB && labelWord.length() > 5) // add superlativeAdvLong
 		{
 			addConstructionOccurrence(GrammaticalConstruction.ADVERB_SUPERLATIVE_LONG,
-					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition(), "more " + labelWord);
+					wordsOutput.get(label.index() - 2).beginPosition(), label.endPosition());
 		}
 		superlativeMostFound = false;
 	}
@@ -1722,7 +1726,7 @@ class EnglishParsingLogic implements ParsingLogic {
 		}
 		// it might be any other short adverb in comparative form
 		addConstructionOccurrence(GrammaticalConstruction.ADVERB_COMPARATIVE_SHORT, label.beginPosition(),
-				label.endPosition(), labelWord); // "more" is counted here
+				label.endPosition()); // "more" is counted here
 
 	}
 
@@ -1732,61 +1736,53 @@ class EnglishParsingLogic implements ParsingLogic {
 		}
 		// it might be any other short adverb in superlative form
 		addConstructionOccurrence(GrammaticalConstruction.ADVERB_SUPERLATIVE_SHORT, label.beginPosition(),
-				label.endPosition(), labelWord); // "most" is counted here
+				label.endPosition()); // "most" is counted here
 	}
 
-	private void addConjunctions(CoreLabel label, String labelWord, String labelTag) {
+	private void addConjunctions(CoreLabel label, String labelWord, PennTag labelTag) {
 		if (EnglishGrammaticalConstants.ADVANCED_CONJUNCTIONS.contains(labelWord)) {
 			addConstructionOccurrence(GrammaticalConstruction.CONJUNCTIONS_ADVANCED, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 		} else if (EnglishGrammaticalConstants.SIMPLE_CONJUNCTIONS.contains(labelWord)) {
 			addConstructionOccurrence(GrammaticalConstruction.CONJUNCTIONS_SIMPLE, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 		}
 
-		if (labelTag.equalsIgnoreCase("rb")) {
+		if (labelTag == PennTag.RB) {
 			addConstructionOccurrence(GrammaticalConstruction.ADVERB_POSITIVE, label.beginPosition(),
-					label.endPosition(), labelWord);
+					label.endPosition());
 		}
 	}
 
 	private void addArticles(CoreLabel label, String labelWord) {
 		switch (labelWord) {
 		case "a":
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_A, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_A, label.beginPosition(), label.endPosition());
 			break;
 		case "an":
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_AN, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_AN, label.beginPosition(), label.endPosition());
 			break;
 		case "the":
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition(),
-					labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_THE, label.beginPosition(), label.endPosition(),
-					labelWord);
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLES, label.beginPosition(), label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.ARTICLE_THE, label.beginPosition(), label.endPosition());
 			break;
 		}
 	}
 
-	private void addReflexiveAndPossessivePronouns(CoreLabel label, String labelWord, String labelTag) {
-		if (labelTag.equalsIgnoreCase("prp") && EnglishGrammaticalConstants.REFLEXIVE_PRONOUNS.contains(labelWord)) {
+	private void addReflexiveAndPossessivePronouns(CoreLabel label, String labelWord, PennTag labelTag) {
+		if (labelTag == PennTag.PRP && EnglishGrammaticalConstants.REFLEXIVE_PRONOUNS.contains(labelWord)) {
 			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_REFLEXIVE, label.beginPosition(),
-					label.endPosition(), labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, label.beginPosition(), label.endPosition(),
-					labelWord);
-		} else if (labelTag.equalsIgnoreCase("prp$")
+					label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, label.beginPosition(), label.endPosition());
+		} else if (labelTag == PennTag.PRP_POSSESSIVE
 				&& EnglishGrammaticalConstants.POSSESSIVE_PRONOUNS.contains(labelWord)) {
 			// it can actually be either possessive or objective (stanford parser crashes on that!), or absolute possessive (his)
 			// TODO check if it is followed by a noun or an adj?
 			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS_POSSESSIVE, label.beginPosition(),
-					label.endPosition(), labelWord);
-			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, label.beginPosition(), label.endPosition(),
-					labelWord);
+					label.endPosition());
+			addConstructionOccurrence(GrammaticalConstruction.PRONOUNS, label.beginPosition(), label.endPosition());
 		}
 	}
 
@@ -1794,7 +1790,11 @@ class EnglishParsingLogic implements ParsingLogic {
 	public void apply(CoreNlpParser parser) {
 		Annotation docAnnotation = new Annotation(workingDoc.getText());
 		parser.pipeline().annotate(docAnnotation);
+		apply(parser, docAnnotation);
+	}
 
+	@Override
+	public void apply(CoreNlpParser parser, Annotation docAnnotation) {
 		List<CoreMap> sentences = docAnnotation.get(CoreAnnotations.SentencesAnnotation.class);
 		for (CoreMap itr : sentences) {
 			if (itr.size() > 0) {
@@ -1811,7 +1811,7 @@ class EnglishParsingLogic implements ParsingLogic {
 				// changed: only count words (no punctuation)
 				for (CoreLabel cl : words) {
 					tokenCount++;
-					if (cl.tag().toLowerCase().matches("[a-z]*")) {
+					if (isLetters(cl.tag())) {
 						wordCount++;
 						characterCount += cl.word().length();
 					}
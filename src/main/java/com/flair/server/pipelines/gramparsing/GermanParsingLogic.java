@@ -5,14 +5,13 @@ import com.flair.server.document.AbstractDocument;
 import com.flair.server.grammar.GermanGrammaticalConstants;
 import com.flair.server.grammar.GermanGrammaticalTreePatterns;
 import com.flair.server.parser.CoreNlpParser;
+import com.flair.server.parser.TregexPatternSet;
 import com.flair.shared.grammar.GrammaticalConstruction;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.Annotation;
 import edu.stanford.nlp.trees.Tree;
 import edu.stanford.nlp.trees.TreeCoreAnnotations;
-import edu.stanford.nlp.trees.tregex.TregexMatcher;
-import edu.stanford.nlp.trees.tregex.TregexPattern;
 import edu.stanford.nlp.util.CoreMap;
 
 import java.util.List;
@@ -38,19 +37,44 @@ class GermanParsingLogic implements ParsingLogic {
 
 	private static final String WORD_PATTERN = "[a-z\\u00e4\\u00f6\\u00fc\\u00df]+";
 
+	// all tree patterns are counted in a single traversal of each sentence
+	private static final TregexPatternSet SENTENCE_PATTERNS = TregexPatternSet.builder()
+			.add(GermanGrammaticalTreePatterns.patternVerb)
+			.add(GermanGrammaticalTreePatterns.patternNounOrPronounOrAnswerParticle)
+			.add(GermanGrammaticalTreePatterns.patternClausesPerSentence)
+			.add(GermanGrammaticalTreePatterns.patternDPronounRelativeClauses)
+			.add(GermanGrammaticalTreePatterns.patternWPronounRelativeClauses)
+			.add(GermanGrammaticalTreePatterns.patternAdverbialClauses)
+			.add(GermanGrammaticalTreePatterns.patternDassClauses)
+			.add(GermanGrammaticalTreePatterns.patternClausalSubordination)
+			.add(GermanGrammaticalTreePatterns.patternCoordinatedSubordinateClauses)
+			.add(GermanGrammaticalTreePatterns.patternCoordinatedMainClauses)
+			.add(GermanGrammaticalTreePatterns.patternPerfectHaben)
+			.add(GermanGrammaticalTreePatterns.patternPerfectSein)
+			.add(GermanGrammaticalTreePatterns.patternPlusquamperfectHaben)
+			.add(GermanGrammaticalTreePatterns.patternPlusquamperfectSein)
+			.add(GermanGrammaticalTreePatterns.patternFuture1)
+			.add(GermanGrammaticalTreePatterns.patternFuture2)
+			.add(GermanGrammaticalTreePatterns.patternPassiveWerden)
+			.add(GermanGrammaticalTreePatterns.patternPassiveSein)
+			.add(GermanGrammaticalTreePatterns.patternVerbBracket)
+			.add(GermanGrammaticalTreePatterns.patternParticiple1AttributeA)
+			.add(GermanGrammaticalTreePatterns.patternParticiple1AttributeB)
+			.add(GermanGrammaticalTreePatterns.patternParticiple2Attribute_A)
+			.add(GermanGrammaticalTreePatterns.patternParticiple2Attribute_B)
+			.add(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_A)
+			.add(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_B)
+			.add(GermanGrammaticalTreePatterns.patternPrepositionalAttributes)
+			.add(GermanGrammaticalTreePatterns.patternQuestionMark)
+			.add(GermanGrammaticalTreePatterns.patternObClauses)
+			.add(GermanGrammaticalTreePatterns.patternTagQuestion)
+			.build();
+
 	private GermanParsingLogic(AbstractDocument doc) {
 		workingDoc = doc;
 		wordCount = tokenCount = dependencyCount = sentenceCount = depthCount = characterCount = 0;
 	}
 
-	private int countMatches(TregexPattern pattern, Tree tree) {
-		int matches = 0;
-		TregexMatcher matcher = pattern.matcher(tree);
-		while (matcher.findNextMatchingNode()) {
-			matches++;
-		}
-		return matches;
-	}
 
 	private void addConstructionOccurrence(GrammaticalConstruction type, int start, int end, String expr) {
 		workingDoc.getConstructionData(type).addOccurrence(start, end);
@@ -64,12 +88,12 @@ class GermanParsingLogic implements ParsingLogic {
 		String treeStr = tree.toString(); // don't use toLowerCase() here
 		int startInd = words.get(0).beginPosition();
 		int endInd = words.get(words.size() - 1).endPosition();
+		TregexPatternSet.Matches matches = SENTENCE_PATTERNS.countMatches(tree);
 
 		// get sentential counts ************************************************************************************************
 		// check if it is an incomplete sentence
-		int numVPs = countMatches(GermanGrammaticalTreePatterns.patternVerb, tree);
-		int numNounsPronounsAnswerParticles = countMatches(
-				GermanGrammaticalTreePatterns.patternNounOrPronounOrAnswerParticle, tree);
+		int numVPs = matches.count(GermanGrammaticalTreePatterns.patternVerb);
+		int numNounsPronounsAnswerParticles = matches.count(GermanGrammaticalTreePatterns.patternNounOrPronounOrAnswerParticle);
 		if (numVPs < 1) {
 			// an incomplete sentence contains no verb, but some sort of noun, pronoun or answering particle
 			if (numNounsPronounsAnswerParticles > 0) {
@@ -78,17 +102,15 @@ class GermanParsingLogic implements ParsingLogic {
 		} // if there is at least one verb, count clausal features
 		else {
 			// calculate number of clauses in a tree
-			int numClausesPerSentence = countMatches(GermanGrammaticalTreePatterns.patternClausesPerSentence, tree);
+			int numClausesPerSentence = matches.count(GermanGrammaticalTreePatterns.patternClausesPerSentence);
 
 			// complex sentences contain more than one clause
 			if (numClausesPerSentence > 1) {
 				addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPLEX, startInd, endInd, treeStr); // highlight the whole sentence
 
 				// relative clauses
-				int numDPronounRelativeClauses = countMatches(
-						GermanGrammaticalTreePatterns.patternDPronounRelativeClauses, tree);
-				int numWPronounRelativeClauses = countMatches(
-						GermanGrammaticalTreePatterns.patternWPronounRelativeClauses, tree);
+				int numDPronounRelativeClauses = matches.count(GermanGrammaticalTreePatterns.patternDPronounRelativeClauses);
+				int numWPronounRelativeClauses = matches.count(GermanGrammaticalTreePatterns.patternWPronounRelativeClauses);
 				int numRelativeClauses = numDPronounRelativeClauses + numWPronounRelativeClauses;
 				for (int i = 0; i < numRelativeClauses; i++) {
 					addConstructionOccurrence(GrammaticalConstruction.CLAUSE_RELATIVE, startInd, endInd, treeStr); // highlight the whole sentence
@@ -98,20 +120,20 @@ class GermanParsingLogic implements ParsingLogic {
 				// ***************************************************************************************************************
 
 				// adverbial clauses, i.e. clauses with subordinating conjunctions disregarding 'dass' and 'ob'
-				int numAdverbialClauses = countMatches(GermanGrammaticalTreePatterns.patternAdverbialClauses, tree);
+				int numAdverbialClauses = matches.count(GermanGrammaticalTreePatterns.patternAdverbialClauses);
 				for (int i = 0; i < numAdverbialClauses; i++) {
 					addConstructionOccurrence(GrammaticalConstruction.CLAUSE_ADVERBIAL, startInd, endInd, treeStr); // highlight the whole sentence
 				}
 
 				// dass clauses
-				int numDassClauses = countMatches(GermanGrammaticalTreePatterns.patternDassClauses, tree);
+				int numDassClauses = matches.count(GermanGrammaticalTreePatterns.patternDassClauses);
 				for (int i = 0; i < numDassClauses; i++) {
 					addConstructionOccurrence(GrammaticalConstruction.CLAUSE_DASS, startInd, endInd, treeStr); // highlight the whole sentence
 				}
 
 				// general subordinate clauses, i.e. relative clauses and adverbial clauses + 'dass'/'ob' clauses
 				int numClausalSubordination = numRelativeClauses
-						+ countMatches(GermanGrammaticalTreePatterns.patternClausalSubordination, tree);
+						+ matches.count(GermanGrammaticalTreePatterns.patternClausalSubordination);
 				for (int i = 0; i < numClausalSubordination; i++) {
 					addConstructionOccurrence(GrammaticalConstruction.CLAUSE_SUBORDINATE, startInd, endInd, treeStr); // highlight the whole sentence
 				}
@@ -120,10 +142,8 @@ class GermanParsingLogic implements ParsingLogic {
 				// ***************************************************************************************************************
 
 				// clausal coordination
-				int numCoordinationSubClauses = countMatches(
-						GermanGrammaticalTreePatterns.patternCoordinatedSubordinateClauses, tree);
-				int numCoordinationMainClauses = countMatches(
-						GermanGrammaticalTreePatterns.patternCoordinatedMainClauses, tree);
+				int numCoordinationSubClauses = matches.count(GermanGrammaticalTreePatterns.patternCoordinatedSubordinateClauses);
+				int numCoordinationMainClauses = matches.count(GermanGrammaticalTreePatterns.patternCoordinatedMainClauses);
 				for (int i = 0; i < (numCoordinationSubClauses + numCoordinationMainClauses); i++) {
 					addConstructionOccurrence(GrammaticalConstruction.SENTENCE_COMPOUND, startInd, endInd, treeStr); // highlight the whole sentence
 				}
@@ -137,47 +157,47 @@ class GermanParsingLogic implements ParsingLogic {
 		 * Periphrastic constructions
 		 */
 		// perfect tense
-		int numPerfectHaben = countMatches(GermanGrammaticalTreePatterns.patternPerfectHaben, tree);
+		int numPerfectHaben = matches.count(GermanGrammaticalTreePatterns.patternPerfectHaben);
 		for (int i = 0; i < numPerfectHaben; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT_HABEN, startInd, endInd, treeStr);
 		}
-		int numPerfectSein = countMatches(GermanGrammaticalTreePatterns.patternPerfectSein, tree);
+		int numPerfectSein = matches.count(GermanGrammaticalTreePatterns.patternPerfectSein);
 		for (int i = 0; i < numPerfectSein; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_PRESENT_PERFECT_SEIN, startInd, endInd, treeStr);
 		}
 
 		// plusquamperfect
-		int numPlsqmHaben = countMatches(GermanGrammaticalTreePatterns.patternPlusquamperfectHaben, tree);
+		int numPlsqmHaben = matches.count(GermanGrammaticalTreePatterns.patternPlusquamperfectHaben);
 		for (int i = 0; i < numPlsqmHaben; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT_HABEN, startInd, endInd, treeStr);
 		}
-		int numPlsqmSein = countMatches(GermanGrammaticalTreePatterns.patternPlusquamperfectSein, tree);
+		int numPlsqmSein = matches.count(GermanGrammaticalTreePatterns.patternPlusquamperfectSein);
 		for (int i = 0; i < numPlsqmSein; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_PAST_PERFECT_SEIN, startInd, endInd, treeStr);
 		}
 
 		// futur
-		int numFuture1 = countMatches(GermanGrammaticalTreePatterns.patternFuture1, tree);
+		int numFuture1 = matches.count(GermanGrammaticalTreePatterns.patternFuture1);
 		for (int i = 0; i < numFuture1; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_SIMPLE, startInd, endInd, treeStr);
 		}
-		int numFuture2 = countMatches(GermanGrammaticalTreePatterns.patternFuture2, tree);
+		int numFuture2 = matches.count(GermanGrammaticalTreePatterns.patternFuture2);
 		for (int i = 0; i < numFuture2; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.TENSE_FUTURE_PERFECT, startInd, endInd, treeStr);
 		}
 
 		// passive
-		int numPassiveWerden = countMatches(GermanGrammaticalTreePatterns.patternPassiveWerden, tree);
+		int numPassiveWerden = matches.count(GermanGrammaticalTreePatterns.patternPassiveWerden);
 		for (int i = 0; i < numPassiveWerden; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE_WERDEN, startInd, endInd, treeStr);
 		}
-		int numPassiveSein = countMatches(GermanGrammaticalTreePatterns.patternPassiveSein, tree);
+		int numPassiveSein = matches.count(GermanGrammaticalTreePatterns.patternPassiveSein);
 		for (int i = 0; i < numPassiveSein; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.PASSIVE_VOICE_SEIN, startInd, endInd, treeStr);
 		}
 
 		// verb brackets
-		int numVerbBrackets = countMatches(GermanGrammaticalTreePatterns.patternVerbBracket, tree);
+		int numVerbBrackets = matches.count(GermanGrammaticalTreePatterns.patternVerbBracket);
 		for (int i = 0; i < numVerbBrackets; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.VERB_BRACKETS, startInd, endInd, treeStr);
 		}
@@ -187,26 +207,26 @@ class GermanParsingLogic implements ParsingLogic {
 		 */
 
 		// participle attributes
-		int numParticiple1Attributes = countMatches(GermanGrammaticalTreePatterns.patternParticiple1AttributeA, tree)
-				+ countMatches(GermanGrammaticalTreePatterns.patternParticiple1AttributeB, tree);
+		int numParticiple1Attributes = matches.count(GermanGrammaticalTreePatterns.patternParticiple1AttributeA)
+				+ matches.count(GermanGrammaticalTreePatterns.patternParticiple1AttributeB);
 		for (int i = 0; i < numParticiple1Attributes; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.ATTRIBUTES_PARTICIPLE_1, startInd, endInd, treeStr);
 		}
-		int numParticiple2Attributes = countMatches(GermanGrammaticalTreePatterns.patternParticiple2Attribute_A, tree)
-				+ countMatches(GermanGrammaticalTreePatterns.patternParticiple2Attribute_B, tree);
+		int numParticiple2Attributes = matches.count(GermanGrammaticalTreePatterns.patternParticiple2Attribute_A)
+				+ matches.count(GermanGrammaticalTreePatterns.patternParticiple2Attribute_B);
 		for (int i = 0; i < numParticiple2Attributes; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.ATTRIBUTES_PARTICIPLE_2, startInd, endInd, treeStr);
 		}
 
 		// adjective attributes
-		int numAdjectiveAttributes = countMatches(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_A, tree)
-				+ countMatches(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_B, tree);
+		int numAdjectiveAttributes = matches.count(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_A)
+				+ matches.count(GermanGrammaticalTreePatterns.patternAdjectiveAttributes_B);
 		for (int i = 0; i < numAdjectiveAttributes; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.ATTRIBUTES_ADJECTIVE, startInd, endInd, treeStr);
 		}
 
 		// preposition attributes
-		int numPrepositionAttributes = countMatches(GermanGrammaticalTreePatterns.patternPrepositionalAttributes, tree);
+		int numPrepositionAttributes = matches.count(GermanGrammaticalTreePatterns.patternPrepositionalAttributes);
 		for (int i = 0; i < numPrepositionAttributes; i++) {
 			addConstructionOccurrence(GrammaticalConstruction.ATTRIBUTES_PREPOSITION, startInd, endInd, treeStr);
 		}
@@ -215,11 +235,11 @@ class GermanParsingLogic implements ParsingLogic {
 		 * Questions ********************************************************************************************************
 		 */
 		// get questions
-		int numQuestions = countMatches(GermanGrammaticalTreePatterns.patternQuestionMark, tree);
+		int numQuestions = matches.count(GermanGrammaticalTreePatterns.patternQuestionMark);
 		if (numQuestions > 0) {
-			inspectQuestion(words, tree);
+			inspectQuestion(words, matches);
 		} else {
-			int numIndirectObQuestions = countMatches(GermanGrammaticalTreePatterns.patternObClauses, tree);
+			int numIndirectObQuestions = matches.count(GermanGrammaticalTreePatterns.patternObClauses);
 			for (int i = 0; i < numIndirectObQuestions; i++) {
 				addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_INDIRECT, startInd, endInd, treeStr);
 			}
@@ -493,14 +513,14 @@ class GermanParsingLogic implements ParsingLogic {
 
 	}
 
-	private void inspectQuestion(List<CoreLabel> labeledWords, Tree tree) {
+	private void inspectQuestion(List<CoreLabel> labeledWords, TregexPatternSet.Matches matches) {
 		int startInd = labeledWords.get(0).beginPosition();
 		int endInd = labeledWords.get(labeledWords.size() - 1).endPosition();
 
 		// direct question
 		addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_DIRECT, startInd, endInd, labeledWords.toString());
 		// tag questions
-		int numTagQuestions = countMatches(GermanGrammaticalTreePatterns.patternTagQuestion, tree);
+		int numTagQuestions = matches.count(GermanGrammaticalTreePatterns.patternTagQuestion);
 		if (numTagQuestions > 0) {
 			addConstructionOccurrence(GrammaticalConstruction.QUESTIONS_TAG, startInd, endInd, labeledWords.toString());
 		}
@@ -591,7 +611,11 @@ class GermanParsingLogic implements ParsingLogic {
 	public void apply(CoreNlpParser parser) {
 		Annotation docAnnotation = new Annotation(workingDoc.getText());
 		parser.pipeline().annotate(docAnnotation);
+		apply(parser, docAnnotation);
+	}
 
+	@Override
+	public void apply(CoreNlpParser parser, Annotation docAnnotation) {
 		List<CoreMap> sentences = docAnnotation.get(CoreAnnotations.SentencesAnnotation.class);
 		for (CoreMap itr : sentences) {
 			if (itr.size() > 0) {
@@ -5,16 +5,19 @@ import com.flair.server.document.AbstractDocumentSource;
 import com.flair.server.document.Document;
 import com.flair.server.grammar.StopwordsList;
 import com.flair.server.parser.AbstractKeywordSearcher;
+import com.flair.server.parser.AhoCorasickKeywordSearcher;
 import com.flair.server.parser.CoreNlpParser;
 import com.flair.server.parser.KeywordSearcherInput;
-import com.flair.server.parser.SimpleSubstringKeywordSearcher;
 import com.flair.server.parser.corenlp.StopwordAnnotator;
 import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.scheduler.AsyncExecutorService;
 import com.flair.server.scheduler.ThreadPool;
+import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
 import com.flair.shared.grammar.Language;
 import edu.stanford.nlp.util.Lazy;
 
+import java.nio.file.Paths;
 import java.util.*;
 
 /*
@@ -47,45 +50,87 @@ public final class GramParsingPipeline {
 
 	private final AbstractDocumentFactory docFactory;
 	private final AbstractKeywordSearcher.Factory keywordSearchers;
-	private final Map<Language, Lazy<CoreNlpParser>> parsers;
+	private final Map<Language, Lazy<ConcurrentObjectPool<CoreNlpParser>>> parsers;
+	private final ParsedDocumentCache parseCache;
+	private final ShardedAnnotator shardedAnnotator;
 
 	private GramParsingPipeline() {
 		ThreadPool.Builder threadPoolBuilder = ThreadPool.get().builder();
+		// searching and crawling are I/O-bound, parsing is CPU-bound and shared fairly between clients
 		webSearchExecutor = threadPoolBuilder
 				.poolSize(Constants.WEB_SEARCH_TASK_THREADPOOL_SIZE)
 				.poolName("Web Search")
+				.virtualThreads(true)
+				.virtualPoolSize(Constants.WEB_SEARCH_TASK_VIRTUAL_THREADPOOL_SIZE)
 				.build();
 		webCrawlExecutor = threadPoolBuilder
 				.poolSize(Constants.WEB_CRAWL_TASK_THREADPOOL_SIZE)
 				.poolName("Web Crawl")
+				.virtualThreads(true)
+				.virtualPoolSize(Constants.WEB_CRAWL_TASK_VIRTUAL_THREADPOOL_SIZE)
 				.build();
 		docParseExecutor = threadPoolBuilder
 				.poolSize(Constants.PARSE_DOC_TASK_THREADPOOL_SIZE)
 				.poolName("Doc Parse")
+				.virtualThreads(false)
+				.fairShare(true)
 				.build();
 
-		keywordSearchers = SimpleSubstringKeywordSearcher.factory();
+		keywordSearchers = AhoCorasickKeywordSearcher.factory();
 		docFactory = Document.factory();
 
 		parsers = new EnumMap<>(Language.class);
 		CoreNlpParser.Factory parserFactory = CoreNlpParser.factory();
 		for (Language lang : Language.values())
-			parsers.put(lang, Lazy.of(() -> parserFactory.create(lang, createDefaultPipelineProperties(lang))));
+			parsers.put(lang, Lazy.of(() -> createParserPool(parserFactory, lang)));
+
+		parseCache = new ParsedDocumentCache(Constants.PARSE_CACHE_MEMORY_TIER_CAPACITY,
+				Paths.get(System.getProperty(Constants.PARSE_CACHE_DISK_TIER_PATH_PROPERTY, Constants.PARSE_CACHE_DISK_TIER_DEFAULT_PATH)),
+				Constants.PARSE_CACHE_DISK_TIER_CAPACITY);
+		shardedAnnotator = new ShardedAnnotator(docParseExecutor, this::getParserPool);
 	}
 
 	private void shutdown() {
 		// the thread pools are shutdown elsewhere
-		// nothing else to do here
+		ServerLogger.get().info("Parsed document cache: " + parseCache.stats());
+		ServerLogger.get().info("Sharded annotation: " + shardedAnnotator.cancelledBatches() + " batches cancelled");
+	}
+
+	private static ConcurrentObjectPool<CoreNlpParser> createParserPool(CoreNlpParser.Factory parserFactory, Language lang) {
+		// each parser has its own annotators so that concurrent parses don't contend on them
+		int poolSize = Integer.getInteger(Constants.PARSER_POOL_SIZE_PROPERTY, Constants.PARSER_POOL_DEFAULT_SIZE);
+		if (poolSize < 1)
+			throw new IllegalArgumentException("Invalid parser pool size " + poolSize);
+
+		Properties props = createDefaultPipelineProperties(lang);
+		ConcurrentObjectPool<CoreNlpParser> pool = new ConcurrentObjectPool<>(poolSize,
+				() -> parserFactory.createIndependent(lang, props));
+
+		ServerLogger.get().info("Initialized " + pool.size() + " " + lang + " parser instances");
+		return pool;
 	}
 
-	private CoreNlpParser getParser(Language lang) {
+	private ConcurrentObjectPool<CoreNlpParser> getParserPool(Language lang) {
 		if (!parsers.containsKey(lang))
 			throw new IllegalArgumentException("Invalid lang " + lang);
 		else
 			return parsers.get(lang).get();
 	}
 
-	private static Properties createDefaultPipelineProperties(Language lang) {
+	// eagerly initializes the language's parser pool, blocking until it's ready
+	public void warmUp(Language lang) {
+		getParserPool(lang);
+	}
+
+	public ConcurrentObjectPool.Stats parserPoolStats(Language lang) {
+		return getParserPool(lang).stats();
+	}
+
+	public ParsedDocumentCache.Stats parseCacheStats() {
+		return parseCache.stats();
+	}
+
+	static Properties createDefaultPipelineProperties(Language lang) {
 		Properties pipelineProps = new Properties();
 		switch (lang) {
 		case ENGLISH:
@@ -181,9 +226,10 @@ public final class GramParsingPipeline {
 					webCrawlExecutor,
 					docParseExecutor,
 					docFactory,
-					getParser(lang),
-					ParsingStrategy.factory(),
-					keywordSearchers,
+					getParserPool(lang),
+					parseCache,
+					ParsingStrategy.factory(shardedAnnotator),
+					keywordSearchers.create(),
 					new KeywordSearcherInput(keywords),
 					crawlComplete,
 					parseComplete,
@@ -255,9 +301,10 @@ public final class GramParsingPipeline {
 					new ArrayList<>(sourceDocs),
 					docParseExecutor,
 					docFactory,
-					getParser(lang),
-					ParsingStrategy.factory(),
-					keywordSearchers,
+					getParserPool(lang),
+					parseCache,
+					ParsingStrategy.factory(shardedAnnotator),
+					keywordSearchers.create(),
 					new KeywordSearcherInput(keywords),
 					jobBegin,
 					parseComplete,
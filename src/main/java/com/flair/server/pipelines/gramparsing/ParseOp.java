@@ -10,6 +10,7 @@ import com.flair.server.parser.KeywordSearcherInput;
 import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.scheduler.AsyncExecutorService;
 import com.flair.server.scheduler.AsyncJob;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
 import com.flair.shared.grammar.Language;
 
 import java.util.List;
@@ -28,9 +29,10 @@ public class ParseOp extends PipelineOp<ParseOp.Input, ParseOp.Output> {
 		final AsyncExecutorService docParseExecutor;
 
 		final AbstractDocumentFactory docFactory;
-		final CoreNlpParser docParser;
+		final ConcurrentObjectPool<CoreNlpParser> docParsers;
+		final ParsedDocumentCache parseCache;
 		final ParsingStrategy.Factory docParsingStrategy;
-		final AbstractKeywordSearcher.Factory keywordSearcher;
+		final AbstractKeywordSearcher keywordSearcher;        // shared by all the op's tasks
 		final KeywordSearcherInput keywordSearcherInput;
 
 		final ParseOp.JobBegin jobBegin;
@@ -41,9 +43,10 @@ public class ParseOp extends PipelineOp<ParseOp.Input, ParseOp.Output> {
 		      List<AbstractDocumentSource> sourceDocs,
 		      AsyncExecutorService docParseExecutor,
 		      AbstractDocumentFactory docFactory,
-		      CoreNlpParser docParser,
+		      ConcurrentObjectPool<CoreNlpParser> docParsers,
+		      ParsedDocumentCache parseCache,
 		      ParsingStrategy.Factory strategy,
-		      AbstractKeywordSearcher.Factory keywordSearcher,
+		      AbstractKeywordSearcher keywordSearcher,
 		      KeywordSearcherInput keywordSearcherInput,
 		      JobBegin jobBegin,
 		      ParseComplete parseComplete,
@@ -54,7 +57,8 @@ public class ParseOp extends PipelineOp<ParseOp.Input, ParseOp.Output> {
 			this.docParseExecutor = docParseExecutor;
 
 			this.docFactory = docFactory;
-			this.docParser = docParser;
+			this.docParsers = docParsers;
+			this.parseCache = parseCache;
 			this.docParsingStrategy = strategy;
 			this.keywordSearcher = keywordSearcher;
 			this.keywordSearcherInput = keywordSearcherInput;
@@ -101,7 +105,7 @@ public class ParseOp extends PipelineOp<ParseOp.Input, ParseOp.Output> {
 	public PipelineOp<Input, Output> launch() {
 		super.launch();
 
-		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(j -> {
+		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(owner(), j -> {
 			if (j.isCancelled())
 				return;
 
@@ -111,13 +115,14 @@ public class ParseOp extends PipelineOp<ParseOp.Input, ParseOp.Output> {
 
 		for (AbstractDocumentSource itr : input.sourceDocs) {
 			AbstractDocument docToParse = input.docFactory.create(itr);
-			scheduler.newTask(
-					DocParseTask.factory(input.docParsingStrategy.create(new ParserInput(docToParse)),
-							input.docParser,
-							input.keywordSearcher.create(),
-							input.keywordSearcherInput)
-			)
+			DocParseTask parseTask = DocParseTask.factory(input.docParsingStrategy.create(new ParserInput(docToParse)),
+					input.docParsers,
+					input.parseCache,
+					input.keywordSearcher,
+					input.keywordSearcherInput);
+			scheduler.newTask(parseTask)
 					.with(input.docParseExecutor)
+					.timeout(Constants.PARSE_DOC_TASK_TIMEOUT, Constants.TIMEOUT_UNIT, parseTask::timedOut)
 					.then(this::linkTasks)
 					.queue();
 		}
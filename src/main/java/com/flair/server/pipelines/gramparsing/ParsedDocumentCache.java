@@ -0,0 +1,438 @@
+package com.flair.server.pipelines.gramparsing;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.document.DocumentConstructionData;
+import com.flair.server.parser.CoreNlpParser;
+import com.flair.server.parser.CoreNlpParserAnnotations;
+import com.flair.server.utilities.ServerLogger;
+import com.flair.shared.grammar.GrammaticalConstruction;
+import edu.stanford.nlp.pipeline.Annotation;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Content-addressed cache of parsed documents, keyed by the language, parser configuration and source text
+ * Entries are kept in a bounded in-memory tier that's backed by an (optional) on-disk tier
+ */
+public final class ParsedDocumentCache {
+	public static final class Stats {
+		public final long memoryHits;
+		public final long diskHits;
+		public final long misses;
+		public final long stores;
+		public final long evictions;
+		public final int memoryEntries;
+		public final long memoryBytes;
+		public final long diskBytes;
+
+		private Stats(long memoryHits, long diskHits, long misses, long stores, long evictions,
+		              int memoryEntries, long memoryBytes, long diskBytes) {
+			this.memoryHits = memoryHits;
+			this.diskHits = diskHits;
+			this.misses = misses;
+			this.stores = stores;
+			this.evictions = evictions;
+			this.memoryEntries = memoryEntries;
+			this.memoryBytes = memoryBytes;
+			this.diskBytes = diskBytes;
+		}
+
+		public double hitRatio() {
+			long lookups = memoryHits + diskHits + misses;
+			return lookups == 0 ? 0 : (double) (memoryHits + diskHits) / lookups;
+		}
+
+		@Override
+		public String toString() {
+			return "Hits[Memory: " + memoryHits + ", Disk: " + diskHits + "] Misses[" + misses + "] Stores["
+					+ stores + "] Evictions[" + evictions + "] Memory[" + memoryEntries + " entries, " + memoryBytes
+					+ " bytes] Disk[" + diskBytes + " bytes]";
+		}
+	}
+
+	private static final class Entry {
+		int numCharacters;
+		int numSentences;
+		int numDependencies;
+		int numWords;
+		int numTokens;
+		double avgWordLength;
+		double avgSentenceLength;
+		double avgTreeDepth;
+		final Map<GrammaticalConstruction, int[]> occurrences = new EnumMap<>(GrammaticalConstruction.class);
+		Annotation annotation;
+	}
+
+	// bump whenever the serialized layout changes, changes to the parsing logic are tracked by Constants.PARSING_LOGIC_VERSION
+	private static final int FORMAT_VERSION = 2;
+	private static final String FILE_EXTENSION = ".bin";
+
+	private final long memoryTierCapacity;
+	private final LinkedHashMap<String, byte[]> memoryTier;
+	private long memoryTierSize;
+
+	private final Path diskTierRoot;
+	private final long diskTierCapacity;
+	private final AtomicLong diskTierSize;
+	// serializes evictions without holding the memory tier's monitor during disk I/O
+	private final Object diskTierEvictionLock;
+
+	private final AtomicLong memoryHits;
+	private final AtomicLong diskHits;
+	private final AtomicLong misses;
+	private final AtomicLong stores;
+	private final AtomicLong evictions;
+
+	ParsedDocumentCache(long memoryTierCapacity, Path diskTierRoot, long diskTierCapacity) {
+		this.memoryTierCapacity = memoryTierCapacity;
+		this.memoryTier = new LinkedHashMap<>(16, 0.75f, true);
+		this.memoryTierSize = 0;
+		this.diskTierCapacity = diskTierCapacity;
+		this.diskTierSize = new AtomicLong(0);
+		this.diskTierEvictionLock = new Object();
+		this.memoryHits = new AtomicLong(0);
+		this.diskHits = new AtomicLong(0);
+		this.misses = new AtomicLong(0);
+		this.stores = new AtomicLong(0);
+		this.evictions = new AtomicLong(0);
+
+		Path root = null;
+		if (diskTierRoot != null && diskTierCapacity > 0) {
+			try {
+				Files.createDirectories(diskTierRoot);
+				try (Stream<Path> files = listDiskTier(diskTierRoot)) {
+					diskTierSize.set(files.mapToLong(ParsedDocumentCache::fileSize).sum());
+				}
+				root = diskTierRoot;
+				ServerLogger.get().info("Parsed document cache on-disk tier: " + root + " (" + diskTierSize.get() + " bytes)");
+			} catch (IOException ex) {
+				ServerLogger.get().error(ex, "Couldn't initialize the parsed document cache's on-disk tier at "
+						+ diskTierRoot + ". Exception: " + ex.toString());
+			}
+		}
+		this.diskTierRoot = root;
+	}
+
+	private static Stream<Path> listDiskTier(Path root) throws IOException {
+		return Files.list(root).filter(e -> e.getFileName().toString().endsWith(FILE_EXTENSION));
+	}
+
+	private static long fileSize(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException ex) {
+			return 0;
+		}
+	}
+
+	private static FileTime lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException ex) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private Path diskTierPath(String key) {
+		return diskTierRoot.resolve(key + FILE_EXTENSION);
+	}
+
+	private synchronized byte[] memoryTierGet(String key) {
+		return memoryTier.get(key);
+	}
+
+	private synchronized void memoryTierPut(String key, byte[] data) {
+		if (data.length > memoryTierCapacity)
+			return;
+
+		byte[] previous = memoryTier.put(key, data);
+		if (previous != null)
+			memoryTierSize -= previous.length;
+		memoryTierSize += data.length;
+
+		Iterator<Map.Entry<String, byte[]>> itr = memoryTier.entrySet().iterator();
+		while (memoryTierSize > memoryTierCapacity && itr.hasNext()) {
+			Map.Entry<String, byte[]> eldest = itr.next();
+			memoryTierSize -= eldest.getValue().length;
+			itr.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	private synchronized void memoryTierRemove(String key) {
+		byte[] previous = memoryTier.remove(key);
+		if (previous != null)
+			memoryTierSize -= previous.length;
+	}
+
+	private byte[] diskTierGet(String key) {
+		if (diskTierRoot == null)
+			return null;
+
+		Path file = diskTierPath(key);
+		try {
+			byte[] data = Files.readAllBytes(file);
+			// touch the file so that eviction drops the least recently used entries first
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return data;
+		} catch (NoSuchFileException ex) {
+			return null;
+		} catch (IOException ex) {
+			ServerLogger.get().error(ex, "Couldn't read parsed document cache entry " + file + ". Exception: " + ex.toString());
+			return null;
+		}
+	}
+
+	private void diskTierPut(String key, byte[] data) {
+		if (diskTierRoot == null || data.length > diskTierCapacity)
+			return;
+
+		Path file = diskTierPath(key);
+		Path temp = null;
+		try {
+			long previousSize = Files.exists(file) ? fileSize(file) : 0;
+			temp = Files.createTempFile(diskTierRoot, key, ".tmp");
+			Files.write(temp, data);
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			temp = null;
+
+			if (diskTierSize.addAndGet(data.length - previousSize) > diskTierCapacity)
+				diskTierEvict();
+		} catch (IOException ex) {
+			ServerLogger.get().error(ex, "Couldn't write parsed document cache entry " + file + ". Exception: " + ex.toString());
+		} finally {
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignored) {}
+			}
+		}
+	}
+
+	private void diskTierRemove(String key) {
+		if (diskTierRoot == null)
+			return;
+
+		Path file = diskTierPath(key);
+		long size = fileSize(file);
+		try {
+			if (Files.deleteIfExists(file))
+				diskTierSize.addAndGet(-size);
+		} catch (IOException ignored) {}
+	}
+
+	private void diskTierEvict() {
+		synchronized (diskTierEvictionLock) {
+			if (diskTierSize.get() <= diskTierCapacity)
+				return;
+
+			// evict the least recently used entries until we're back under 90% of the capacity
+			long target = diskTierCapacity - diskTierCapacity / 10;
+			List<Path> files;
+			try (Stream<Path> listing = listDiskTier(diskTierRoot)) {
+				files = listing.sorted(Comparator.comparing(ParsedDocumentCache::lastModified)).collect(Collectors.toList());
+			} catch (IOException ex) {
+				ServerLogger.get().error(ex, "Couldn't list the parsed document cache's on-disk tier. Exception: " + ex.toString());
+				return;
+			}
+
+			for (Path file : files) {
+				if (diskTierSize.get() <= target)
+					break;
+
+				long size = fileSize(file);
+				try {
+					if (Files.deleteIfExists(file)) {
+						diskTierSize.addAndGet(-size);
+						evictions.incrementAndGet();
+					}
+				} catch (IOException ignored) {}
+			}
+		}
+	}
+
+	private static byte[] serialize(AbstractDocument doc) throws IOException {
+		CoreNlpParserAnnotations annotations = doc.getParserAnnotations().data(CoreNlpParserAnnotations.class);
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(buffer))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(doc.getNumCharacters());
+			out.writeInt(doc.getNumSentences());
+			out.writeInt(doc.getNumDependencies());
+			out.writeInt(doc.getNumWords());
+			out.writeInt(doc.getNumTokens());
+			out.writeDouble(doc.getAvgWordLength());
+			out.writeDouble(doc.getAvgSentenceLength());
+			out.writeDouble(doc.getAvgTreeDepth());
+
+			List<DocumentConstructionData> constructions = new ArrayList<>();
+			for (GrammaticalConstruction itr : doc.getSupportedConstructions()) {
+				DocumentConstructionData data = doc.getConstructionData(itr);
+				if (data.hasConstruction())
+					constructions.add(data);
+			}
+
+			out.writeInt(constructions.size());
+			for (DocumentConstructionData data : constructions) {
+				// persist the construction's name rather than its ordinal so that entries survive reorderings
+				out.writeUTF(data.getParentConstruction().name());
+				out.writeInt(data.getFrequency());
+				for (int i = 0; i < data.getFrequency(); i++) {
+					out.writeInt(data.getOccurrenceStart(i));
+					out.writeInt(data.getOccurrenceEnd(i));
+				}
+			}
+
+			// written as a regular object, GenericAnnotationSerializer would wrap the stream in another object stream
+			out.writeObject(annotations.getAnnotation());
+		}
+
+		return buffer.toByteArray();
+	}
+
+	private static Entry deserialize(byte[] data) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+			int version = in.readInt();
+			if (version != FORMAT_VERSION)
+				throw new InvalidObjectException("Unexpected format version " + version);
+
+			Entry entry = new Entry();
+			entry.numCharacters = in.readInt();
+			entry.numSentences = in.readInt();
+			entry.numDependencies = in.readInt();
+			entry.numWords = in.readInt();
+			entry.numTokens = in.readInt();
+			entry.avgWordLength = in.readDouble();
+			entry.avgSentenceLength = in.readDouble();
+			entry.avgTreeDepth = in.readDouble();
+
+			int numConstructions = in.readInt();
+			for (int i = 0; i < numConstructions; i++) {
+				GrammaticalConstruction construction = GrammaticalConstruction.valueOf(in.readUTF());
+				int[] spans = new int[in.readInt() * 2];
+				for (int j = 0; j < spans.length; j++)
+					spans[j] = in.readInt();
+
+				entry.occurrences.put(construction, spans);
+			}
+
+			entry.annotation = (Annotation) in.readObject();
+			return entry;
+		} catch (IllegalArgumentException ex) {
+			throw new InvalidObjectException("Unknown construction: " + ex.getMessage());
+		}
+	}
+
+	String key(CoreNlpParser parser, AbstractDocument doc) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+
+		StringBuilder config = new StringBuilder();
+		config.append(FORMAT_VERSION).append('\n').append(Constants.PARSING_LOGIC_VERSION).append('\n')
+				.append(doc.getLanguage()).append('\n');
+		Properties props = parser.properties();
+		props.stringPropertyNames().stream().sorted()
+				.forEach(e -> config.append(e).append('=').append(props.getProperty(e)).append('\n'));
+		config.append('\0');
+
+		digest.update(config.toString().getBytes(StandardCharsets.UTF_8));
+		digest.update(doc.getText().getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest())
+			hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+
+	/*
+	 * Restores a cache entry into the given (unparsed) document
+	 * Returns false if there was no usable entry, in which case the document remains unmodified
+	 */
+	boolean restore(String key, AbstractDocument doc, CoreNlpParser parser) {
+		boolean fromDisk = false;
+		byte[] data = memoryTierGet(key);
+		if (data == null) {
+			data = diskTierGet(key);
+			fromDisk = data != null;
+		}
+
+		if (data == null) {
+			misses.incrementAndGet();
+			return false;
+		}
+
+		Entry entry;
+		try {
+			entry = deserialize(data);
+		} catch (Throwable ex) {
+			ServerLogger.get().warn("Discarding stale/corrupt parsed document cache entry " + key + ". Exception: " + ex.toString());
+			memoryTierRemove(key);
+			diskTierRemove(key);
+			misses.incrementAndGet();
+			return false;
+		}
+
+		if (fromDisk) {
+			memoryTierPut(key, data);
+			diskHits.incrementAndGet();
+		} else
+			memoryHits.incrementAndGet();
+
+		doc.setNumCharacters(entry.numCharacters);
+		doc.setNumSentences(entry.numSentences);
+		doc.setNumDependencies(entry.numDependencies);
+		doc.setNumWords(entry.numWords);
+		doc.setNumTokens(entry.numTokens);
+		doc.setAvgWordLength(entry.avgWordLength);
+		doc.setAvgSentenceLength(entry.avgSentenceLength);
+		doc.setAvgTreeDepth(entry.avgTreeDepth);
+
+		for (Map.Entry<GrammaticalConstruction, int[]> itr : entry.occurrences.entrySet()) {
+			DocumentConstructionData constructionData = doc.getConstructionData(itr.getKey());
+			int[] spans = itr.getValue();
+			for (int i = 0; i < spans.length; i += 2)
+				constructionData.addOccurrence(spans[i], spans[i + 1]);
+		}
+
+		doc.flagAsParsed(parser.createAnnotations(entry.annotation));
+		return true;
+	}
+
+	void store(String key, AbstractDocument doc) {
+		if (!doc.isParsed())
+			throw new IllegalArgumentException("Document hasn't been parsed");
+
+		byte[] data;
+		try {
+			data = serialize(doc);
+		} catch (Throwable ex) {
+			ServerLogger.get().error(ex, "Couldn't serialize parsed document " + doc.getDescription() + ". Exception: " + ex.toString());
+			return;
+		}
+
+		memoryTierPut(key, data);
+		diskTierPut(key, data);
+		stores.incrementAndGet();
+	}
+
+	public synchronized Stats stats() {
+		return new Stats(memoryHits.get(), diskHits.get(), misses.get(), stores.get(), evictions.get(),
+				memoryTier.size(), memoryTierSize, diskTierSize.get());
+	}
+}
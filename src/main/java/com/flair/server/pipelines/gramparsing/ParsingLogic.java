@@ -1,7 +1,10 @@
 package com.flair.server.pipelines.gramparsing;
 
 import com.flair.server.parser.CoreNlpParser;
+import edu.stanford.nlp.pipeline.Annotation;
 
 interface ParsingLogic {
 	void apply(CoreNlpParser parser);
+	// collects constructions from an annotation that was generated by the given parser
+	void apply(CoreNlpParser parser, Annotation docAnnotation);
 }
@@ -2,21 +2,38 @@ package com.flair.server.pipelines.gramparsing;
 
 import com.flair.server.parser.CoreNlpParser;
 import com.flair.server.parser.CoreNlpParsingStrategy;
+import edu.stanford.nlp.pipeline.Annotation;
+
+import java.util.concurrent.TimeoutException;
 
 final class ParsingStrategy extends CoreNlpParsingStrategy<ParserInput, ParserOutput> {
 	static final class Factory implements CoreNlpParsingStrategy.Factory<CoreNlpParsingStrategy, ParserInput> {
+		private final ShardedAnnotator shardedAnnotator;
+
+		private Factory(ShardedAnnotator shardedAnnotator) {
+			this.shardedAnnotator = shardedAnnotator;
+		}
+
 		@Override
 		public ParsingStrategy create(ParserInput input) {
-			return new ParsingStrategy(input);
+			return new ParsingStrategy(input, shardedAnnotator);
 		}
 	}
 
 	private final ParserInput input;
 	private final ParserOutput output;
+	private final ShardedAnnotator shardedAnnotator;      // null if long documents aren't to be sharded
+	private long deadline;                                // wall-clock time in milliseconds, only honoured when sharding
 
-	private ParsingStrategy(ParserInput input) {
+	private ParsingStrategy(ParserInput input, ShardedAnnotator shardedAnnotator) {
 		this.input = input;
 		this.output = new ParserOutput(input.source);
+		this.shardedAnnotator = shardedAnnotator;
+		this.deadline = Long.MAX_VALUE;
+	}
+
+	void deadline(long deadline) {
+		this.deadline = deadline;
 	}
 
 	@Override
@@ -29,17 +46,37 @@ final class ParsingStrategy extends CoreNlpParsingStrategy<ParserInput, ParserOu
 	}
 	@Override
 	public void apply(CoreNlpParser parser) {
+		ParsingLogic logic;
 		switch (input.language()) {
 		case ENGLISH:
-			EnglishParsingLogic.factory(input.source).apply(parser);
+			logic = EnglishParsingLogic.factory(input.source);
 			break;
 		case GERMAN:
-			GermanParsingLogic.factory(input.source).apply(parser);
+			logic = GermanParsingLogic.factory(input.source);
 			break;
 		default:
 			throw new IllegalStateException("GramParsingPipeline doesn't support the language " + input.language());
 		}
+
+		String text = input.source.getText();
+		if (shardedAnnotator == null || !shardedAnnotator.shouldShard(text)) {
+			logic.apply(parser);
+			return;
+		}
+
+		Annotation docAnnotation;
+		try {
+			docAnnotation = shardedAnnotator.annotate(parser, text, deadline);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while annotating " + input.source.getDescription());
+		} catch (TimeoutException ex) {
+			throw new IllegalStateException("Timed-out while annotating " + input.source.getDescription());
+		}
+
+		logic.apply(parser, docAnnotation);
 	}
 
-	static Factory factory() { return new Factory(); }
+	static Factory factory() { return new Factory(null); }
+	static Factory factory(ShardedAnnotator shardedAnnotator) { return new Factory(shardedAnnotator); }
 }
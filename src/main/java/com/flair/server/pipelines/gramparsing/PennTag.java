@@ -0,0 +1,99 @@
+package com.flair.server.pipelines.gramparsing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Penn Treebank part-of-speech tags produced by the English tagger
+ * Each token's tag is resolved once, so the parsing logic can switch on it instead of repeatedly lower-casing and comparing strings
+ */
+enum PennTag {
+	CC("CC"),
+	CD("CD"),
+	DT("DT"),
+	EX("EX"),
+	FW("FW"),
+	IN("IN"),
+	JJ("JJ"),
+	JJR("JJR"),
+	JJS("JJS"),
+	LS("LS"),
+	MD("MD"),
+	NN("NN"),
+	NNS("NNS"),
+	NNP("NNP"),
+	NNPS("NNPS"),
+	PDT("PDT"),
+	POS("POS"),
+	PRP("PRP"),
+	PRP_POSSESSIVE("PRP$"),
+	RB("RB"),
+	RBR("RBR"),
+	RBS("RBS"),
+	RP("RP"),
+	SYM("SYM"),
+	TO("TO"),
+	UH("UH"),
+	VB("VB"),
+	VBD("VBD"),
+	VBG("VBG"),
+	VBN("VBN"),
+	VBP("VBP"),
+	VBZ("VBZ"),
+	WDT("WDT"),
+	WP("WP"),
+	WP_POSSESSIVE("WP$"),
+	WRB("WRB"),
+	PERIOD("."),
+	COMMA(","),
+	COLON(":"),
+	DOLLAR("$"),
+	HASH("#"),
+	OPENING_QUOTE("``"),
+	CLOSING_QUOTE("''"),
+	LEFT_BRACKET("-LRB-"),
+	RIGHT_BRACKET("-RRB-"),
+	OTHER("");
+
+	private static final Map<String, PennTag> LOOKUP = new HashMap<>();
+
+	static {
+		for (PennTag itr : values()) {
+			if (itr != OTHER)
+				LOOKUP.put(itr.tag, itr);
+		}
+	}
+
+	final String tag;
+	final boolean adjective;    // JJ*
+	final boolean noun;         // NN*
+	final boolean pronoun;      // PRP*
+	final boolean verb;         // V*
+
+	PennTag(String tag) {
+		this.tag = tag;
+		this.adjective = tag.startsWith("JJ");
+		this.noun = tag.startsWith("NN");
+		this.pronoun = tag.startsWith("PRP");
+		this.verb = tag.startsWith("V");
+	}
+
+	// returns OTHER for unknown and null tags
+	static PennTag of(String tag) {
+		if (tag == null)
+			return OTHER;
+
+		PennTag out = LOOKUP.get(tag);
+		if (out == null) {
+			// tags are matched case-insensitively
+			for (int i = 0; i < tag.length(); i++) {
+				if (Character.isLowerCase(tag.charAt(i)))
+					return LOOKUP.getOrDefault(tag.toUpperCase(), OTHER);
+			}
+
+			return OTHER;
+		}
+
+		return out;
+	}
+}
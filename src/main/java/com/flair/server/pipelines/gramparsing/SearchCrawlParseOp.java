@@ -14,6 +14,7 @@ import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.scheduler.AsyncExecutorService;
 import com.flair.server.scheduler.AsyncJob;
 import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
 import com.flair.shared.grammar.Language;
 
 import java.util.ArrayList;
@@ -38,9 +39,10 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 		final AsyncExecutorService docParseExecutor;
 
 		final AbstractDocumentFactory docFactory;
-		final CoreNlpParser docParser;
+		final ConcurrentObjectPool<CoreNlpParser> docParsers;
+		final ParsedDocumentCache parseCache;
 		final ParsingStrategy.Factory docParsingStrategy;
-		final AbstractKeywordSearcher.Factory keywordSearcher;
+		final AbstractKeywordSearcher keywordSearcher;        // shared by all the op's tasks
 		final KeywordSearcherInput keywordSearcherInput;
 
 		final SearchCrawlParseOp.CrawlComplete crawlComplete;
@@ -54,9 +56,10 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 		      AsyncExecutorService webCrawlExecutor,
 		      AsyncExecutorService docParseExecutor,
 		      AbstractDocumentFactory docFactory,
-		      CoreNlpParser docParser,
+		      ConcurrentObjectPool<CoreNlpParser> docParsers,
+		      ParsedDocumentCache parseCache,
 		      ParsingStrategy.Factory strategy,
-		      AbstractKeywordSearcher.Factory keywordSearcher,
+		      AbstractKeywordSearcher keywordSearcher,
 		      KeywordSearcherInput keywordSearcherInput,
 		      CrawlComplete crawlComplete,
 		      ParseComplete parseComplete,
@@ -70,7 +73,8 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 			this.docParseExecutor = docParseExecutor;
 
 			this.docFactory = docFactory;
-			this.docParser = docParser;
+			this.docParsers = docParsers;
+			this.parseCache = parseCache;
 			this.docParsingStrategy = strategy;
 			this.keywordSearcher = keywordSearcher;
 			this.keywordSearcherInput = keywordSearcherInput;
@@ -107,8 +111,10 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 		taskLinker.addHandler(WebSearchTask.Result.class, (j, r) -> {
 			AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.existingJob(j);
 			for (SearchResult itr : r.output) {
-				scheduler.newTask(WebCrawlTask.factory(itr))
+				WebCrawlTask crawlTask = WebCrawlTask.factory(itr);
+				scheduler.newTask(crawlTask)
 						.with(input.webCrawlExecutor)
+						.timeout(Constants.WEB_CRAWL_TASK_TIMEOUT, Constants.TIMEOUT_UNIT, crawlTask::timedOut)
 						.then(this::linkTasks)
 						.queue();
 
@@ -138,13 +144,14 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 
 					// parse the document
 					AbstractDocument docToParse = input.docFactory.create(new SearchResultDocumentSource(sr));
-					scheduler.newTask(
-							DocParseTask.factory(input.docParsingStrategy.create(new ParserInput(docToParse)),
-									input.docParser,
-									input.keywordSearcher.create(),
-									input.keywordSearcherInput)
-					)
+					DocParseTask parseTask = DocParseTask.factory(input.docParsingStrategy.create(new ParserInput(docToParse)),
+							input.docParsers,
+							input.parseCache,
+							input.keywordSearcher,
+							input.keywordSearcherInput);
+					scheduler.newTask(parseTask)
 							.with(input.docParseExecutor)
+							.timeout(Constants.PARSE_DOC_TASK_TIMEOUT, Constants.TIMEOUT_UNIT, parseTask::timedOut)
 							.then(this::linkTasks)
 							.queue();
 				} else
@@ -196,7 +203,7 @@ public class SearchCrawlParseOp extends PipelineOp<SearchCrawlParseOp.Input, Sea
 	public PipelineOp<Input, Output> launch() {
 		super.launch();
 
-		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(j -> {
+		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(owner(), j -> {
 			if (j.isCancelled())
 				return;
 
@@ -0,0 +1,175 @@
+package com.flair.server.pipelines.gramparsing;
+
+import com.flair.server.parser.CoreNlpParser;
+import com.flair.server.scheduler.AsyncExecutorService;
+import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
+import com.flair.server.utilities.pool.SimpleObjectPoolResource;
+import com.flair.shared.grammar.Language;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.AnnotationPipeline;
+import edu.stanford.nlp.util.CoreMap;
+import edu.stanford.nlp.util.RuntimeInterruptedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+ * Annotates long documents by tokenizing and sentence-splitting them once and then running the remaining
+ * (sentence-level) annotators over batches of sentences in parallel
+ * The batches annotate the document's sentences in-place, so the result is identical to annotating the whole document at once.
+ * The calling thread uses its own parser's annotators, helpers borrow idle parsers from the language's pool
+ */
+final class ShardedAnnotator {
+	private static final List<String> SEGMENTATION_ANNOTATORS = Arrays.asList("tokenize", "ssplit");
+
+	private static final class Job {
+		final String text;
+		final List<List<CoreMap>> batches;
+		final long deadline;                // wall-clock time in milliseconds
+		final AtomicInteger nextBatch;
+		final CountDownLatch pendingBatches;
+		volatile boolean cancelled;
+		volatile Throwable error;
+
+		Job(String text, List<List<CoreMap>> batches, long deadline) {
+			this.text = text;
+			this.batches = batches;
+			this.deadline = deadline;
+			this.nextBatch = new AtomicInteger(0);
+			this.pendingBatches = new CountDownLatch(batches.size());
+			this.cancelled = false;
+			this.error = null;
+		}
+
+		private boolean annotateNextBatch(AnnotationPipeline sentenceAnnotator) {
+			int index = nextBatch.getAndIncrement();
+			if (index >= batches.size())
+				return false;
+
+			try {
+				if (!cancelled && error == null) {
+					List<CoreMap> sentences = batches.get(index);
+					List<CoreLabel> tokens = new ArrayList<>();
+					sentences.forEach(s -> tokens.addAll(s.get(CoreAnnotations.TokensAnnotation.class)));
+
+					Annotation batch = new Annotation(text);
+					batch.set(CoreAnnotations.SentencesAnnotation.class, sentences);
+					batch.set(CoreAnnotations.TokensAnnotation.class, tokens);
+					sentenceAnnotator.annotate(batch);
+				}
+			} catch (RuntimeInterruptedException ex) {
+				// the annotators clear the interrupt flag when they bail out
+				Thread.currentThread().interrupt();
+				error = ex;
+			} catch (Throwable ex) {
+				error = ex;
+			} finally {
+				pendingBatches.countDown();
+			}
+
+			return true;
+		}
+
+		// annotates batches until there are none left, or until the job is cancelled, its deadline passes or the thread is interrupted
+		// the parser annotator swallows interrupts that arrive mid-sentence, so the deadline is checked independently
+		void drain(AnnotationPipeline sentenceAnnotator) {
+			while (!cancelled && !Thread.currentThread().isInterrupted() && System.currentTimeMillis() < deadline) {
+				if (!annotateNextBatch(sentenceAnnotator))
+					break;
+			}
+		}
+
+		void help(ConcurrentObjectPool<CoreNlpParser> parsers) {
+			if (cancelled || nextBatch.get() >= batches.size())
+				return;
+
+			// parsers that are busy with other documents aren't waited for
+			try (SimpleObjectPoolResource<CoreNlpParser> parser = parsers.tryGet()) {
+				if (parser != null)
+					drain(sentenceAnnotator(parser.get()));
+			}
+		}
+
+		// returns the no. of batches that were never claimed
+		int cancel() {
+			cancelled = true;
+			return batches.size() - Math.min(nextBatch.getAndSet(batches.size()), batches.size());
+		}
+	}
+
+	private final AsyncExecutorService executor;
+	private final Function<Language, ConcurrentObjectPool<CoreNlpParser>> parsers;
+	private final AtomicLong cancelledBatches;
+
+	ShardedAnnotator(AsyncExecutorService executor, Function<Language, ConcurrentObjectPool<CoreNlpParser>> parsers) {
+		this.executor = executor;
+		this.parsers = parsers;
+		this.cancelledBatches = new AtomicLong(0);
+	}
+
+	private static AnnotationPipeline sentenceAnnotator(CoreNlpParser parser) {
+		return new AnnotationPipeline(parser.annotators(a -> !SEGMENTATION_ANNOTATORS.contains(a)));
+	}
+
+	boolean shouldShard(String text) {
+		return text.length() >= Constants.SHARDED_PARSE_MIN_TEXT_LENGTH;
+	}
+
+	// the parser must be checked out of the language's pool by the caller
+	Annotation annotate(CoreNlpParser parser, String text, long deadline) throws InterruptedException, TimeoutException {
+		Annotation docAnnotation = new Annotation(text);
+		new AnnotationPipeline(parser.annotators(SEGMENTATION_ANNOTATORS::contains)).annotate(docAnnotation);
+
+		List<CoreMap> sentences = docAnnotation.get(CoreAnnotations.SentencesAnnotation.class);
+		List<List<CoreMap>> batches = new ArrayList<>();
+		for (int i = 0; i < sentences.size(); i += Constants.SHARDED_PARSE_SENTENCES_PER_BATCH)
+			batches.add(sentences.subList(i, Math.min(i + Constants.SHARDED_PARSE_SENTENCES_PER_BATCH, sentences.size())));
+
+		Job job = new Job(text, batches, deadline);
+		ConcurrentObjectPool<CoreNlpParser> helperParsers = parsers.apply(parser.language());
+
+		// the calling thread works through the batches as well, so the job completes even if none of the helpers get to run
+		int numHelpers = Math.min(Math.min(batches.size(), helperParsers.size()) - 1, Constants.SHARDED_PARSE_MAX_HELPERS);
+		for (int i = 0; i < numHelpers; i++)
+			executor.submit(new FutureTask<>(() -> job.help(helperParsers), null));
+
+		job.drain(sentenceAnnotator(parser));
+		try {
+			if (Thread.interrupted())
+				throw new InterruptedException();
+
+			// waits for the batches that the helpers are still annotating
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0 || !job.pendingBatches.await(remaining, TimeUnit.MILLISECONDS))
+				throw new TimeoutException("Deadline passed while annotating");
+		} catch (InterruptedException | TimeoutException ex) {
+			int skipped = job.cancel();
+			cancelledBatches.addAndGet(skipped);
+			ServerLogger.get().trace("Cancelled annotation (" + ex.getClass().getSimpleName() + "), skipped " + skipped
+					+ " of " + batches.size() + " batches");
+			throw ex;
+		}
+
+		if (job.error != null)
+			throw new IllegalStateException("Couldn't annotate sentence batch. Exception: " + job.error.toString(), job.error);
+
+		ServerLogger.get().trace("Annotated " + sentences.size() + " sentences in " + batches.size() + " batches");
+		return docAnnotation;
+	}
+
+	// no. of batches skipped as their documents' annotation was interrupted or timed-out
+	long cancelledBatches() {
+		return cancelledBatches.get();
+	}
+}
@@ -2,12 +2,8 @@ package com.flair.server.pipelines.gramparsing;
 
 import com.flair.server.crawler.SearchResult;
 import com.flair.server.scheduler.AsyncTask;
-import com.flair.server.scheduler.ThreadPool;
 import com.flair.server.utilities.ServerLogger;
 
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.TimeoutException;
-
 public class WebCrawlTask implements AsyncTask<WebCrawlTask.Result> {
 	public static WebCrawlTask factory(SearchResult source) {
 		return new WebCrawlTask(source);
@@ -24,14 +20,8 @@ public class WebCrawlTask implements AsyncTask<WebCrawlTask.Result> {
 	public Result run() {
 		Result result = new Result(input);
 		try {
-			ThreadPool.get().invokeAndWait(new FutureTask<>(() -> {
-				if (!input.isTextFetched())
-					return input.fetchPageText(false);
-				else
-					return true;
-			}), Constants.WEB_CRAWL_TASK_TIMEOUT, Constants.TIMEOUT_UNIT);
-		} catch (TimeoutException ex) {
-			ServerLogger.get().error("Fetch text timed out for URL: " + input.getDisplayURL());
+			if (!input.isTextFetched())
+				input.fetchPageText(false);
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "Fetch text encountered an exception for URL: " + input.getDisplayURL()
 					+ ". Exception: " + ex.toString());
@@ -40,6 +30,11 @@ public class WebCrawlTask implements AsyncTask<WebCrawlTask.Result> {
 		return result;
 	}
 
+	Result timedOut() {
+		ServerLogger.get().error("Fetch text timed out for URL: " + input.getDisplayURL());
+		return new Result(input);
+	}
+
 	static final class Result {
 		final SearchResult output;
 
@@ -1,5 +1,7 @@
 package com.flair.server.pipelines.questgen;
 
+import com.flair.server.sentencesel.SentenceSelector;
+
 import java.util.concurrent.TimeUnit;
 
 class Constants {
@@ -33,4 +35,7 @@ class Constants {
 	// total number of tokens in the given sentence. if this ratio is higher than the
 	// one below, the sentence is dropped from the ranked list
 	static final double SENTENCESEL_DUPLICATE_COOCCURRENCE_THRESHOLD = 0.60;
+	// question generation ranks sentences with the CSR engine rather than the selector's default (jgrapht)
+	// both compute the same scores, the former is faster on documents with many sentences
+	static final SentenceSelector.RankingEngine SENTENCESEL_RANKING_ENGINE = SentenceSelector.RankingEngine.CSR;
 }
@@ -3,12 +3,8 @@ package com.flair.server.pipelines.questgen;
 import com.flair.server.document.AbstractDocument;
 import com.flair.server.parser.CoreNlpParser;
 import com.flair.server.scheduler.AsyncTask;
-import com.flair.server.scheduler.ThreadPool;
 import com.flair.server.utilities.ServerLogger;
 
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.TimeoutException;
-
 public class NerCorefParseTask implements AsyncTask<NerCorefParseTask.Result> {
 	static NerCorefParseTask factory(ParsingStrategy strategy,
 	                                 CoreNlpParser parser) {
@@ -31,18 +27,12 @@ public class NerCorefParseTask implements AsyncTask<NerCorefParseTask.Result> {
 
 		try {
 			startTime = System.currentTimeMillis();
-			output = ThreadPool.get().invokeAndWait(new FutureTask<>(() -> {
-				ServerLogger.get().trace("NER/Coref parsing task has begun for " + strategy.input().source.getDescription());
-				strategy.apply(parser);
-				if (!strategy.output().valid())
-					throw new IllegalStateException("Parser didn't set the document's parsed flag");
+			ServerLogger.get().trace("NER/Coref parsing task has begun for " + strategy.input().source.getDescription());
+			strategy.apply(parser);
+			if (!strategy.output().valid())
+				throw new IllegalStateException("Parser didn't set the document's parsed flag");
 
-				return strategy.output().parsedDoc;
-			}), Constants.NERCOREF_PARSE_TASK_TIMEOUT, Constants.TIMEOUT_UNIT);
-		} catch (TimeoutException ex) {
-			ServerLogger.get().error("NER/Coref parsing task timed-out for " + strategy.input().source.getDescription());
-			output = null;
-			error = true;
+			output = strategy.output().parsedDoc;
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "NER/Coref parsing task encountered an error. Exception: " + ex.toString());
 			output = null;
@@ -56,6 +46,11 @@ public class NerCorefParseTask implements AsyncTask<NerCorefParseTask.Result> {
 		return new Result(output);
 	}
 
+	Result timedOut() {
+		ServerLogger.get().error("NER/Coref parsing task timed-out for " + strategy.input().source.getDescription());
+		return new Result(null);
+	}
+
 	static final class Result {
 		final AbstractDocument output;
 
@@ -6,6 +6,8 @@ import com.flair.server.parser.CoreNlpParserAnnotations;
 import com.flair.server.parser.ParserAnnotations;
 import com.flair.server.scheduler.AsyncTask;
 import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
+import com.flair.server.utilities.pool.SimpleObjectPoolResource;
 import edu.cmu.ark.InitialTransformationStep;
 import edu.cmu.ark.Question;
 import edu.cmu.ark.QuestionRanker;
@@ -20,17 +22,31 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class QuestGenTask implements AsyncTask<QuestGenTask.Result> {
-	static QuestGenTask factory(ParserAnnotations.Sentence sourceSentence, QuestionGeneratorParams qgParams) {
-		return new QuestGenTask(sourceSentence, qgParams);
+	static QuestGenTask factory(ParserAnnotations.Sentence sourceSentence,
+	                            QuestionGeneratorParams qgParams,
+	                            QuestionRanker questionRanker,
+	                            ConcurrentObjectPool<QuestionTransducer> questionTransducers,
+	                            ConcurrentObjectPool<InitialTransformationStep> initTransformers) {
+		return new QuestGenTask(sourceSentence, qgParams, questionRanker, questionTransducers, initTransformers);
 	}
 
 	private final ParserAnnotations.Sentence sourceSentence;
 	private final QuestionGeneratorParams qgParams;
+	private final QuestionRanker questionRanker;
+	private final ConcurrentObjectPool<QuestionTransducer> questionTransducers;
+	private final ConcurrentObjectPool<InitialTransformationStep> initTransformers;
 	private final TokenSequencePattern simpleQuestionPattern;
 
-	private QuestGenTask(ParserAnnotations.Sentence sourceSentence, QuestionGeneratorParams qgParams) {
+	private QuestGenTask(ParserAnnotations.Sentence sourceSentence,
+	                     QuestionGeneratorParams qgParams,
+	                     QuestionRanker questionRanker,
+	                     ConcurrentObjectPool<QuestionTransducer> questionTransducers,
+	                     ConcurrentObjectPool<InitialTransformationStep> initTransformers) {
 		this.sourceSentence = sourceSentence;
 		this.qgParams = qgParams;
+		this.questionRanker = questionRanker;
+		this.questionTransducers = questionTransducers;
+		this.initTransformers = initTransformers;
 		this.simpleQuestionPattern = TokenSequencePattern.compile("^[{tag:/W.?.?/}] [{tag:/VB.?/}] []? [{tag:/\\./}]$");
 	}
 
@@ -179,30 +195,32 @@ public class QuestGenTask implements AsyncTask<QuestGenTask.Result> {
 		Result out = new Result(qgParams, sourceSentence);
 
 		try {
-			QuestionTransducer questionTransducer = new QuestionTransducer();
-			InitialTransformationStep initTransformer = new InitialTransformationStep();
-			QuestionRanker questionRanker = null;
-			if (!qgParams.rankerModelPath.isEmpty()) {
-				questionRanker = new QuestionRanker();
-				questionRanker.loadModel(qgParams.rankerModelPath);
-			}
-
-			questionTransducer.setAvoidPronouns(qgParams.dropPronouns);
-			questionTransducer.setAvoidDemonstratives(qgParams.avoidDemonstratives);
-
 			List<Tree> inputTrees = Collections.singletonList(getQuestionTree());
-			List<Question> transformationOutput = initTransformer.transform(inputTrees);
 			List<Question> outputQuestionList = new ArrayList<>();
 
-			for (Question question : transformationOutput) {
-				questionTransducer.generateQuestionsFromParse(question);
-				outputQuestionList.addAll(questionTransducer.getQuestions());
+			try (SimpleObjectPoolResource<QuestionTransducer> transducerResource = questionTransducers.get();
+			     SimpleObjectPoolResource<InitialTransformationStep> transformerResource = initTransformers.get()) {
+				QuestionTransducer questionTransducer = transducerResource.get();
+				InitialTransformationStep initTransformer = transformerResource.get();
+
+				// pooled instances retain the settings of the previous task
+				questionTransducer.setAvoidPronouns(qgParams.dropPronouns);
+				questionTransducer.setAvoidDemonstratives(qgParams.avoidDemonstratives);
+
+				List<Question> transformationOutput = initTransformer.transform(inputTrees);
+				for (Question question : transformationOutput) {
+					questionTransducer.generateQuestionsFromParse(question);
+					outputQuestionList.addAll(questionTransducer.getQuestions());
+				}
 			}
 
 			QuestionTransducer.removeDuplicateQuestions(outputQuestionList);
 
 			if (questionRanker != null && !outputQuestionList.isEmpty()) {
-				questionRanker.scoreGivenQuestions(outputQuestionList);
+				// the ranker is shared between tasks
+				synchronized (questionRanker) {
+					questionRanker.scoreGivenQuestions(outputQuestionList);
+				}
 				QuestionRanker.adjustScores(outputQuestionList,
 						inputTrees,
 						qgParams.downweighFrequentWords,
@@ -8,6 +8,10 @@ import com.flair.server.scheduler.AsyncExecutorService;
 import com.flair.server.scheduler.AsyncJob;
 import com.flair.server.sentencesel.SentenceSelector;
 import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
+import edu.cmu.ark.InitialTransformationStep;
+import edu.cmu.ark.QuestionRanker;
+import edu.cmu.ark.QuestionTransducer;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
@@ -32,6 +36,9 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 		final AsyncExecutorService qgExecutor;
 
 		final QuestionGeneratorParams qgParams;
+		final QuestionRanker questionRanker;        // null if the questions aren't to be ranked
+		final ConcurrentObjectPool<QuestionTransducer> questionTransducers;
+		final ConcurrentObjectPool<InitialTransformationStep> initTransformers;
 		final SentenceSelector.Builder sentSelBuilder;
 		final int numQuestions;
 		final boolean randomizedSelection;
@@ -47,6 +54,9 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 		      AsyncExecutorService sentSelExecutor,
 		      AsyncExecutorService qgExecutor,
 		      QuestionGeneratorParams qgParams,
+		      QuestionRanker questionRanker,
+		      ConcurrentObjectPool<QuestionTransducer> questionTransducers,
+		      ConcurrentObjectPool<InitialTransformationStep> initTransformers,
 		      SentenceSelector.Builder sentSelBuilder,
 		      int numQuestions,
 		      boolean randomizedSelection,
@@ -60,6 +70,9 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 			this.sentSelExecutor = sentSelExecutor;
 			this.qgExecutor = qgExecutor;
 			this.qgParams = qgParams;
+			this.questionRanker = questionRanker;
+			this.questionTransducers = questionTransducers;
+			this.initTransformers = initTransformers;
 			this.sentSelBuilder = sentSelBuilder;
 			this.numQuestions = numQuestions;
 			this.randomizedSelection = randomizedSelection;
@@ -95,6 +108,7 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 				.stemWords(true)
 				.ignoreStopwords(true)
 				.useSynsets(false)
+				.rankingEngine(Constants.SENTENCESEL_RANKING_ENGINE)
 				.dropDuplicates(true)
 				.duplicateCooccurrenceThreshold(Constants.SENTENCESEL_DUPLICATE_COOCCURRENCE_THRESHOLD);
 
@@ -118,7 +132,11 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 		int delta = Math.min((int) ((Constants.QUESTGEN_OVERGENERATION_PERCENTAGE - percentProcessedSents) * rankedSentences.size()),
 				rankedSentences.size() - numProcessedSentences) + 1;
 		for (int i = 0; i < delta && nextSentenceIndex < rankedSentences.size(); ++i) {
-			scheduler.newTask(QuestGenTask.factory(rankedSentences.get(nextSentenceIndex).annotation(), input.qgParams))
+			scheduler.newTask(QuestGenTask.factory(rankedSentences.get(nextSentenceIndex).annotation(),
+					input.qgParams,
+					input.questionRanker,
+					input.questionTransducers,
+					input.initTransformers))
 					.with(input.qgExecutor)
 					.then(this::linkTasks)
 					.queue();
@@ -263,7 +281,7 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 	public PipelineOp<Input, Output> launch() {
 		super.launch();
 
-		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(j -> {
+		AsyncJob.Scheduler scheduler = AsyncJob.Scheduler.newJob(owner(), j -> {
 			if (j.isCancelled())
 				return;
 
@@ -271,8 +289,10 @@ public class QuestionGenerationOp extends PipelineOp<QuestionGenerationOp.Input,
 					"Exception in job complete handler");
 		});
 
-		scheduler.newTask(NerCorefParseTask.factory(input.parsingStrategy, input.parser))
+		NerCorefParseTask parseTask = NerCorefParseTask.factory(input.parsingStrategy, input.parser);
+		scheduler.newTask(parseTask)
 				.with(input.parseExecutor)
+				.timeout(Constants.NERCOREF_PARSE_TASK_TIMEOUT, Constants.TIMEOUT_UNIT, parseTask::timedOut)
 				.then(this::linkTasks)
 				.queue();
 
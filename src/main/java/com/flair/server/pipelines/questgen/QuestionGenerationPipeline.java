@@ -9,8 +9,13 @@ import com.flair.server.parser.corenlp.StopwordAnnotator;
 import com.flair.server.pipelines.common.PipelineOp;
 import com.flair.server.scheduler.AsyncExecutorService;
 import com.flair.server.scheduler.ThreadPool;
+import com.flair.server.sentencesel.SentenceGraphCache;
 import com.flair.server.sentencesel.SentenceSelectorFactory;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
 import com.flair.shared.grammar.Language;
+import edu.cmu.ark.InitialTransformationStep;
+import edu.cmu.ark.QuestionRanker;
+import edu.cmu.ark.QuestionTransducer;
 import edu.stanford.nlp.util.Lazy;
 
 import java.util.Properties;
@@ -41,20 +46,26 @@ public final class QuestionGenerationPipeline {
 	private final AsyncExecutorService questGenExecutor;
 	private final AbstractDocumentFactory docFactory;
 	private final Lazy<CoreNlpParser> nerCorefParser;
+	private final QuestionRankerRegistry rankerModels;
+	private final Lazy<ConcurrentObjectPool<QuestionTransducer>> questionTransducers;
+	private final Lazy<ConcurrentObjectPool<InitialTransformationStep>> initTransformers;
 
 	private QuestionGenerationPipeline() {
 		ThreadPool.Builder threadPoolBuilder = ThreadPool.get().builder();
 		nerCorefParseExecutor = threadPoolBuilder
 				.poolSize(Constants.PARSE_TASK_THREADPOOL_SIZE)
 				.poolName("NER/Coref Parse")
+				.fairShare(true)
 				.build();
 		sentenceSelExecutor = threadPoolBuilder
 				.poolSize(Constants.SENTENCESEL_TASK_THREADPOOL_SIZE)
 				.poolName("Sentence Sel")
+				.fairShare(true)
 				.build();
 		questGenExecutor = threadPoolBuilder
 				.poolSize(Constants.QUESTGEN_TASK_THREADPOOL_SIZE)
 				.poolName("Question Gen")
+				.fairShare(true)
 				.build();
 
 		docFactory = Document.factory();
@@ -79,6 +90,11 @@ public final class QuestionGenerationPipeline {
 		pipelineProps.setProperty(StopwordAnnotator.IGNORE_STOPWORD_CASE, "true");
 
 		this.nerCorefParser = Lazy.of(() -> CoreNlpParser.factory().create(Language.ENGLISH, pipelineProps));
+
+		// the transducers and transformers are stateful, so each question gen worker gets its own instance
+		this.rankerModels = new QuestionRankerRegistry();
+		this.questionTransducers = Lazy.of(() -> new ConcurrentObjectPool<>(Constants.QUESTGEN_TASK_THREADPOOL_SIZE, QuestionTransducer::new));
+		this.initTransformers = Lazy.of(() -> new ConcurrentObjectPool<>(Constants.QUESTGEN_TASK_THREADPOOL_SIZE, InitialTransformationStep::new));
 	}
 
 	private void shutdown() {
@@ -86,6 +102,20 @@ public final class QuestionGenerationPipeline {
 		// nothing else to do here
 	}
 
+	// the following eagerly initialize the pipeline's lazily-loaded models, blocking until they are ready
+	public void warmUpParser() {
+		nerCorefParser.get();
+	}
+
+	public void warmUpTransducers() {
+		questionTransducers.get();
+		initTransformers.get();
+	}
+
+	public void warmUpDefaultRanker() {
+		rankerModels.get(QuestionGeneratorParams.Builder.factory().rankerModelPath);
+	}
+
 	public final class QuestionGenerationOpBuilder implements PipelineOp.PipelineOpBuilder<QuestionGenerationOp.Input, QuestionGenerationOp.Output> {
 		AbstractDocument sourceDoc;
 		int numQuestions;
@@ -99,6 +129,7 @@ public final class QuestionGenerationPipeline {
 
 		QuestionGeneratorParams.Builder qgParams = QuestionGeneratorParams.Builder.factory();
 		boolean sourceDocParsed = false;
+		SentenceGraphCache sentenceGraphs = null;
 
 		private QuestionGenerationOpBuilder() {}
 
@@ -126,6 +157,12 @@ public final class QuestionGenerationPipeline {
 			return this;
 		}
 
+		// optional, reuses the sentence graphs of earlier ops on the same (parsed) document
+		public QuestionGenerationOpBuilder sentenceGraphCache(SentenceGraphCache cache) {
+			this.sentenceGraphs = cache;
+			return this;
+		}
+
 		public QuestionGenerationOpBuilder sentenceSelectorType(SentenceSelectorFactory.Type type) {
 			this.sentSelType = type;
 			return this;
@@ -167,14 +204,20 @@ public final class QuestionGenerationPipeline {
 				newDoc = sourceDoc;
 			}
 
+			QuestionGeneratorParams params = qgParams.build();
+			QuestionRanker ranker = params.rankerModelPath.isEmpty() ? null : rankerModels.get(params.rankerModelPath);
+
 			QuestionGenerationOp.Input input = new QuestionGenerationOp.Input(newDoc,
 					ParsingStrategy.factory().create(new ParsingStrategy.ParserInput(newDoc)),
 					nerCorefParser.get(),
 					nerCorefParseExecutor,
 					sentenceSelExecutor,
 					questGenExecutor,
-					qgParams.build(),
-					SentenceSelectorFactory.create(sentSelType),
+					params,
+					ranker,
+					questionTransducers.get(),
+					initTransformers.get(),
+					SentenceSelectorFactory.create(sentSelType).graphCache(sentenceGraphs),
 					numQuestions,
 					randomizeSelection,
 					parseComplete,
@@ -0,0 +1,42 @@
+package com.flair.server.pipelines.questgen;
+
+import com.flair.server.utilities.ServerLogger;
+import edu.cmu.ark.QuestionRanker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Deserializes each question ranker model once and hands out the same instance to all question generation tasks
+ * The underlying Weka classifiers run their input filters in-place, so scoring must be synchronized on the returned ranker
+ */
+final class QuestionRankerRegistry {
+	private final ConcurrentMap<String, QuestionRanker> models;
+
+	QuestionRankerRegistry() {
+		this.models = new ConcurrentHashMap<>();
+	}
+
+	private static QuestionRanker load(String modelPath) {
+		long start = System.currentTimeMillis();
+		QuestionRanker ranker = new QuestionRanker();
+		ranker.loadModel(modelPath);
+		if (ranker.getRanker() == null)
+			throw new IllegalStateException("Couldn't load question ranker model from " + modelPath);
+
+		ServerLogger.get().info("Loaded question ranker model " + modelPath + " in " + (System.currentTimeMillis() - start) + " ms");
+		return ranker;
+	}
+
+	QuestionRanker get(String modelPath) {
+		if (modelPath == null || modelPath.isEmpty())
+			throw new IllegalArgumentException("Invalid ranker model path");
+
+		// failed loads aren't cached, so they will be retried by the next op
+		return models.computeIfAbsent(modelPath, QuestionRankerRegistry::load);
+	}
+
+	int size() {
+		return models.size();
+	}
+}
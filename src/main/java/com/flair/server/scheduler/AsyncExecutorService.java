@@ -4,4 +4,9 @@ import java.util.concurrent.FutureTask;
 
 public interface AsyncExecutorService {
 	void submit(FutureTask<?> task);
+
+	// executors that don't schedule by owner ignore the tag
+	default void submit(FutureTask<?> task, TaskOwner owner) {
+		submit(task);
+	}
 }
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public final class AsyncJob implements Cancellable {
 	public interface NoMoreTasks {
@@ -17,7 +19,13 @@ public final class AsyncJob implements Cancellable {
 		final FutureTask<R> wrapper;
 		final AsyncTask<R> wrapped;
 		final AsyncContinuation<R> continuation;
+		final long timeout;
+		final TimeUnit timeoutUnit;
+		final AsyncTimeoutHandler<R> timeoutHandler;
 		boolean executing;
+		boolean completed;          // set by whoever delivers the result to the continuation
+		Thread runner;
+		ScheduledFuture<?> deadline;
 
 		synchronized boolean isExecuting() {
 			return executing;
@@ -33,24 +41,88 @@ public final class AsyncJob implements Cancellable {
 			wrapper.cancel(false);
 		}
 
-		ExecutingTask(AsyncTask<R> wrapped, AsyncContinuation<R> continuation) {
+		private synchronized void begin() {
+			runner = Thread.currentThread();
+			if (timeoutHandler != null)
+				deadline = ThreadPool.get().scheduleDeadline(this::expire, timeout, timeoutUnit);
+		}
+
+		// returns true if the executing thread gets to deliver its result
+		private synchronized boolean end() {
+			runner = null;
+			if (deadline != null)
+				deadline.cancel(false);
+
+			if (completed)
+				return false;
+
+			completed = true;
+			return true;
+		}
+
+		private void expire() {
+			synchronized (this) {
+				if (completed)
+					return;
+
+				completed = true;
+				if (runner != null)
+					runner.interrupt();
+			}
+
+			try {
+				R output = timeoutHandler.timedOut();
+				if (!AsyncJob.this.isCancelled())
+					this.continuation.then(AsyncJob.this, output);
+			} catch (Throwable ex) {
+				ServerLogger.get().error(ex, "Uncaught exception in timed-out task: " + ex.toString());
+			} finally {
+				AsyncJob.this.deregisterTask(this);
+			}
+		}
+
+		ExecutingTask(AsyncTask<R> wrapped,
+		              AsyncContinuation<R> continuation,
+		              long timeout,
+		              TimeUnit timeoutUnit,
+		              AsyncTimeoutHandler<R> timeoutHandler) {
 			this.wrapped = wrapped;
 			this.continuation = continuation;
+			this.timeout = timeout;
+			this.timeoutUnit = timeoutUnit;
+			this.timeoutHandler = timeoutHandler;
 
 			AsyncJob.this.registerTask(this);
 			this.wrapper = new FutureTask<>(() -> {
 				R output = null;
+				boolean deliver = true;
 				try {
 					setExecuting(true);
 					if (!AsyncJob.this.isCancelled()) {
-						output = this.wrapped.run();
-						if (!AsyncJob.this.isCancelled())
+						begin();
+						try {
+							output = this.wrapped.run();
+						} finally {
+							deliver = end();
+						}
+
+						if (!deliver)
+							output = null;
+						else if (!AsyncJob.this.isCancelled())
 							this.continuation.then(AsyncJob.this, output);
 					}
 				} catch (Throwable ex) {
-					ServerLogger.get().error(ex, "Uncaught exception in executing task: " + ex.toString());
+					if (deliver)
+						ServerLogger.get().error(ex, "Uncaught exception in executing task: " + ex.toString());
 				} finally {
-					AsyncJob.this.deregisterTask(this);
+					if (deliver)
+						AsyncJob.this.deregisterTask(this);
+					else {
+						// the deadline has already delivered the timeout handler's result
+						// clear the interrupt so that it doesn't leak into the next task on this thread
+						Thread.interrupted();
+					}
+
 					setExecuting(false);
 				}
 
@@ -62,19 +134,29 @@ public final class AsyncJob implements Cancellable {
 	private final List<ExecutingTask<?>> registeredTasks;
 	private boolean cancelled;
 	private final NoMoreTasks noMoreTasksHandler;
+	private final TaskOwner owner;
 
-	private AsyncJob(NoMoreTasks noMoreTasksHandler) {
+	private AsyncJob(TaskOwner owner, NoMoreTasks noMoreTasksHandler) {
 		this.registeredTasks = new ArrayList<>();
 		this.cancelled = false;
 		this.noMoreTasksHandler = noMoreTasksHandler;
+		this.owner = owner;
+	}
+
+	public TaskOwner owner() {
+		return owner;
 	}
 
 	public synchronized boolean isExecuting() {
 		return !cancelled && !registeredTasks.isEmpty();
 	}
 
-	private synchronized <R> ExecutingTask<R> createTaskWrapper(AsyncTask<R> task, AsyncContinuation<R> continuation) {
-		return new ExecutingTask<>(task, continuation);
+	private synchronized <R> ExecutingTask<R> createTaskWrapper(AsyncTask<R> task,
+	                                                           AsyncContinuation<R> continuation,
+	                                                           long timeout,
+	                                                           TimeUnit timeoutUnit,
+	                                                           AsyncTimeoutHandler<R> timeoutHandler) {
+		return new ExecutingTask<>(task, continuation, timeout, timeoutUnit, timeoutHandler);
 	}
 
 	private synchronized void registerTask(ExecutingTask<?> task) {
@@ -139,14 +221,17 @@ public final class AsyncJob implements Cancellable {
 			final AsyncTask<R> task;
 			AsyncExecutorService executor = null;
 			AsyncContinuation<R> continuation = null;
+			long timeout = 0;
+			TimeUnit timeoutUnit = null;
+			AsyncTimeoutHandler<R> timeoutHandler = null;
 
 			private Context(AsyncTask<R> task) {
 				this.task = task;
 			}
 
 			private void execute() {
-				ExecutingTask<R> wrappedTask = parent.createTaskWrapper(task, continuation);
-				executor.submit(wrappedTask.wrapper);
+				ExecutingTask<R> wrappedTask = parent.createTaskWrapper(task, continuation, timeout, timeoutUnit, timeoutHandler);
+				executor.submit(wrappedTask.wrapper, parent.owner);
 			}
 
 			public Context<R> with(AsyncExecutorService executor) {
@@ -159,6 +244,20 @@ public final class AsyncJob implements Cancellable {
 				return this;
 			}
 
+			// the deadline is measured from the moment the task begins executing
+			// on expiry, the task's thread is interrupted and the continuation receives the handler's result
+			public Context<R> timeout(long timeout, TimeUnit unit, AsyncTimeoutHandler<R> handler) {
+				if (timeout <= 0)
+					throw new IllegalArgumentException("Invalid timeout " + timeout);
+				else if (unit == null || handler == null)
+					throw new IllegalArgumentException("Invalid timeout unit/handler");
+
+				this.timeout = timeout;
+				this.timeoutUnit = unit;
+				this.timeoutHandler = handler;
+				return this;
+			}
+
 			public Scheduler queue() {
 				if (executor == null)
 					throw new IllegalStateException("Invalid task executor service");
@@ -179,8 +278,8 @@ public final class AsyncJob implements Cancellable {
 			this.parent = parent;
 		}
 
-		private Scheduler(AsyncJob.NoMoreTasks noMoreTasks) {
-			this.parent = new AsyncJob(noMoreTasks);
+		private Scheduler(TaskOwner owner, AsyncJob.NoMoreTasks noMoreTasks) {
+			this.parent = new AsyncJob(owner, noMoreTasks);
 		}
 
 		public <R> Context<R> newTask(AsyncTask<R> task) {
@@ -211,7 +310,12 @@ public final class AsyncJob implements Cancellable {
 
 
 		public static Scheduler newJob(AsyncJob.NoMoreTasks noMoreTasks) {
-			return new Scheduler(noMoreTasks);
+			return new Scheduler(TaskOwner.SYSTEM, noMoreTasks);
+		}
+
+		// all of the job's tasks, including those scheduled later with existingJob(), are tagged with the owner
+		public static Scheduler newJob(TaskOwner owner, AsyncJob.NoMoreTasks noMoreTasks) {
+			return new Scheduler(owner, noMoreTasks);
 		}
 
 		public static Scheduler existingJob(AsyncJob job) {
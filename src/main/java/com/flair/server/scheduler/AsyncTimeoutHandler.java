@@ -0,0 +1,8 @@
+package com.flair.server.scheduler;
+
+/*
+ * Provides the result of a task whose execution exceeded its deadline
+ */
+public interface AsyncTimeoutHandler<R> {
+	R timedOut();
+}
@@ -2,8 +2,11 @@ package com.flair.server.scheduler;
 
 public class Constants {
 	public static final int PRIMARY_THREAD_POOL_SIZE = 150;
-	public static final int TIMEOUTABLE_THREAD_POOL_SIZE = 50;
 
 	public static final int BASELINE_CONCURRENT_THREADS = Runtime.getRuntime().availableProcessors() + 1;
 
+	// fair-share executors give the next slot to a lower priority with queued tasks once it has been passed over this often
+	// i.e., each lower priority gets at least one in every (n + 1) dispatches while it has queued tasks
+	public static final int FAIR_SHARE_MAX_SKIPPED_DISPATCHES = 4;
+
 }
@@ -0,0 +1,165 @@
+package com.flair.server.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/*
+ * Executes at most 'poolSize' tasks concurrently on a shared executor, queueing the rest per owner
+ * Free slots go to the highest priority with queued tasks, and are handed out round-robin between that priority's owners
+ * Lower priorities that were passed over too often get the next slot, so that they aren't starved by higher ones
+ * Untagged tasks submitted from within an executing task inherit its owner
+ */
+public final class FairShareExecutorService implements AsyncExecutorService {
+	public static final class Stats {
+		public final int poolSize;
+		public final int executing;
+		public final int queued;
+		public final Map<String, Integer> queueDepths;     // owner ID > no. of queued tasks
+		public final long dispatched;
+
+		private Stats(int poolSize, int executing, int queued, Map<String, Integer> queueDepths, long dispatched) {
+			this.poolSize = poolSize;
+			this.executing = executing;
+			this.queued = queued;
+			this.queueDepths = Collections.unmodifiableMap(queueDepths);
+			this.dispatched = dispatched;
+		}
+
+		@Override
+		public String toString() {
+			return "Size[" + poolSize + "] Executing[" + executing + "] Queued[" + queued + ", Owners: " + queueDepths
+					+ "] Dispatched[" + dispatched + "]";
+		}
+	}
+
+	private static final class QueuedTask {
+		final FutureTask<?> task;
+		final TaskOwner owner;
+
+		QueuedTask(FutureTask<?> task, TaskOwner owner) {
+			this.task = task;
+			this.owner = owner;
+		}
+	}
+
+	private static final ThreadLocal<TaskOwner> CURRENT_OWNER = new ThreadLocal<>();
+
+	private final Executor executor;
+	private final int poolSize;
+	// priority > owner ID > queued tasks, owners are moved to the back of their map after each dispatch
+	private final Map<TaskOwner.Priority, LinkedHashMap<String, Queue<QueuedTask>>> queues;
+	private final Map<String, Integer> queueDepths;
+	private final int[] skippedDispatches;      // per priority, no. of consecutive dispatches that went to another priority
+	private int executing;
+	private int queued;
+	private long dispatched;
+
+	FairShareExecutorService(Executor executor, int poolSize) {
+		if (poolSize < 1)
+			throw new IllegalArgumentException("Invalid pool size " + poolSize);
+
+		this.executor = executor;
+		this.poolSize = poolSize;
+		this.queues = new EnumMap<>(TaskOwner.Priority.class);
+		for (TaskOwner.Priority itr : TaskOwner.Priority.values())
+			queues.put(itr, new LinkedHashMap<>());
+		this.queueDepths = new HashMap<>();
+		this.skippedDispatches = new int[TaskOwner.Priority.values().length];
+		this.executing = 0;
+		this.queued = 0;
+		this.dispatched = 0;
+	}
+
+	@Override
+	public void submit(FutureTask<?> task) {
+		TaskOwner owner = CURRENT_OWNER.get();
+		submit(task, owner != null ? owner : TaskOwner.SYSTEM);
+	}
+
+	@Override
+	public void submit(FutureTask<?> task, TaskOwner owner) {
+		synchronized (this) {
+			queues.get(owner.priority()).computeIfAbsent(owner.id(), k -> new ArrayDeque<>()).add(new QueuedTask(task, owner));
+			queueDepths.merge(owner.id(), 1, Integer::sum);
+			queued++;
+		}
+
+		dispatch();
+	}
+
+	// the highest priority with queued tasks, unless a lower one has been passed over too often
+	private TaskOwner.Priority nextPriority() {
+		TaskOwner.Priority out = null;
+		for (Map.Entry<TaskOwner.Priority, LinkedHashMap<String, Queue<QueuedTask>>> level : queues.entrySet()) {
+			if (level.getValue().isEmpty())
+				continue;
+			else if (out == null || skippedDispatches[level.getKey().ordinal()] >= Constants.FAIR_SHARE_MAX_SKIPPED_DISPATCHES)
+				out = level.getKey();
+		}
+		return out;
+	}
+
+	// returns the next task to execute, or null if there are none or if no slots are free
+	private synchronized QueuedTask next() {
+		while (executing < poolSize && queued > 0) {
+			TaskOwner.Priority priority = nextPriority();
+			LinkedHashMap<String, Queue<QueuedTask>> level = queues.get(priority);
+			Iterator<Map.Entry<String, Queue<QueuedTask>>> owners = level.entrySet().iterator();
+
+			Map.Entry<String, Queue<QueuedTask>> owner = owners.next();
+			QueuedTask next = owner.getValue().poll();
+			owners.remove();
+			if (!owner.getValue().isEmpty())
+				level.put(owner.getKey(), owner.getValue());
+
+			queued--;
+			if (queueDepths.merge(owner.getKey(), -1, Integer::sum) == 0)
+				queueDepths.remove(owner.getKey());
+
+			// cancelled tasks are dropped without taking up a slot
+			if (next.task.isCancelled())
+				continue;
+
+			for (Map.Entry<TaskOwner.Priority, LinkedHashMap<String, Queue<QueuedTask>>> itr : queues.entrySet()) {
+				int ordinal = itr.getKey().ordinal();
+				skippedDispatches[ordinal] = itr.getKey() == priority || itr.getValue().isEmpty() ? 0 : skippedDispatches[ordinal] + 1;
+			}
+
+			executing++;
+			dispatched++;
+			return next;
+		}
+
+		return null;
+	}
+
+	private void dispatch() {
+		for (QueuedTask next = next(); next != null; next = next()) {
+			QueuedTask dispatchedTask = next;
+			executor.execute(() -> {
+				CURRENT_OWNER.set(dispatchedTask.owner);
+				try {
+					dispatchedTask.task.run();
+				} finally {
+					CURRENT_OWNER.remove();
+					synchronized (this) {
+						executing--;
+					}
+					dispatch();
+				}
+			});
+		}
+	}
+
+	synchronized Stats stats() {
+		return new Stats(poolSize, executing, queued, new HashMap<>(queueDepths), dispatched);
+	}
+}
@@ -0,0 +1,44 @@
+package com.flair.server.scheduler;
+
+/*
+ * Identifies the client (session) on whose behalf a job's tasks execute, along with their priority
+ * Fair-share executors round-robin between the owners of queued tasks, starting with those of the highest priority
+ * Lower priorities still get a minimum share of the slots while higher ones are busy
+ */
+public final class TaskOwner {
+	public enum Priority {
+		// in descending order of precedence
+		INTERACTIVE,        // the client is actively waiting on the results
+		NORMAL,
+		BULK
+	}
+
+	// owner of tasks that don't belong to any client
+	public static final TaskOwner SYSTEM = new TaskOwner("system", Priority.NORMAL);
+
+	private final String id;
+	private final Priority priority;
+
+	public TaskOwner(String id, Priority priority) {
+		if (id == null || id.isEmpty())
+			throw new IllegalArgumentException("Invalid task owner ID");
+		else if (priority == null)
+			throw new IllegalArgumentException("Invalid task priority");
+
+		this.id = id;
+		this.priority = priority;
+	}
+
+	// fair-share executors queue tasks per priority and owner ID, so the tasks of an owner that submits at several
+	// priorities get a separate turn at each of them
+	public String id() {
+		return id;
+	}
+	public Priority priority() {
+		return priority;
+	}
+	@Override
+	public String toString() {
+		return id + " (" + priority + ")";
+	}
+}
@@ -5,14 +5,19 @@ import org.threadly.concurrent.PriorityScheduler;
 import org.threadly.concurrent.SchedulerService;
 import org.threadly.concurrent.SubmitterExecutor;
 import org.threadly.concurrent.wrapper.limiter.SchedulerServiceLimiter;
-import org.threadly.concurrent.wrapper.traceability.ThreadRenamingRunnable;
 import org.threadly.concurrent.wrapper.traceability.ThreadRenamingSchedulerService;
 
 import java.lang.management.ManagementFactory;
-import java.util.concurrent.ExecutionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 public class ThreadPool {
 	private static ThreadPool SINGLETON = null;
@@ -36,14 +41,30 @@ public class ThreadPool {
 	}
 
 	private final PriorityScheduler primaryThreadPool;
-	private final PriorityScheduler timeoutThreadPool;
+	private final ScheduledThreadPoolExecutor deadlineTimer;
+	private final List<VirtualThreadExecutorService> virtualThreadExecutors;
+	private final Map<String, FairShareExecutorService> fairShareExecutors;     // pool name > executor
+	private final Map<String, ForkJoinPool> forkJoinPools;                      // pool name > pool
+	private final boolean debuggerAttached;
 
 	private ThreadPool() {
 		this.primaryThreadPool = new PriorityScheduler(Constants.PRIMARY_THREAD_POOL_SIZE);
-		this.timeoutThreadPool = new PriorityScheduler(Constants.TIMEOUTABLE_THREAD_POOL_SIZE);
+		// a single timer thread enforces the deadlines of all executing tasks
+		this.deadlineTimer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "Task Deadline Timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.deadlineTimer.setRemoveOnCancelPolicy(true);
+		this.virtualThreadExecutors = new ArrayList<>();
+		this.fairShareExecutors = new LinkedHashMap<>();
+		this.forkJoinPools = new LinkedHashMap<>();
+		this.debuggerAttached = isDebuggerAttached();
 	}
 
 	private void shutdown() {
+		fairShareStats().forEach((k, v) -> ServerLogger.get().info(k + " thread pool: " + v));
+
 		try {
 			primaryThreadPool.shutdown();
 			if (!primaryThreadPool.awaitTermination(2 * 60 * 1000))
@@ -52,16 +73,29 @@ public class ThreadPool {
 			ServerLogger.get().error(ex, "Couldn't shutdown primary thread pool. Exception: " + ex.toString());
 		}
 
-		try {
-			timeoutThreadPool.shutdown();
-			if (!timeoutThreadPool.awaitTermination(2 * 60 * 1000))
-				timeoutThreadPool.shutdownNow();
-		} catch (InterruptedException ex) {
-			ServerLogger.get().error(ex, "Couldn't shutdown timeout thread pool. Exception: " + ex.toString());
+		synchronized (virtualThreadExecutors) {
+			for (VirtualThreadExecutorService itr : virtualThreadExecutors)
+				itr.shutdown(2, TimeUnit.MINUTES);
+			virtualThreadExecutors.clear();
+		}
+
+		synchronized (forkJoinPools) {
+			for (ForkJoinPool itr : forkJoinPools.values()) {
+				itr.shutdown();
+				try {
+					if (!itr.awaitTermination(2, TimeUnit.MINUTES))
+						itr.shutdownNow();
+				} catch (InterruptedException ex) {
+					ServerLogger.get().error(ex, "Couldn't shutdown fork-join pool. Exception: " + ex.toString());
+				}
+			}
+			forkJoinPools.clear();
 		}
+
+		deadlineTimer.shutdownNow();
 	}
 
-	private boolean isDebuggerAttached() {
+	private static boolean isDebuggerAttached() {
 		// not 100% fool-proof but does the job
 		return ManagementFactory.getRuntimeMXBean().getInputArguments().toString().indexOf("-agentlib:jdwp") > 0;
 	}
@@ -70,21 +104,33 @@ public class ThreadPool {
 		return new Builder();
 	}
 
-	public <R> R invokeAndWait(FutureTask<R> task, long timeout, TimeUnit unit)
-			throws InterruptedException, ExecutionException, TimeoutException {
-		// a rather wasteful way of implementing timeouts for executing tasks
-		// unfortunately, Java currently provides no way to assign a timeout to a task on submission
-		String callingThreadName = Thread.currentThread().getName();
-		timeoutThreadPool.submit(new ThreadRenamingRunnable(task, callingThreadName, true));
-		if (isDebuggerAttached()) {
-			// disable timeouts when debugging
-			timeout = 1000000;
-			unit = TimeUnit.DAYS;
+	// for data-parallel computations, the pool is created on first use and shared by all callers with the same name
+	public ForkJoinPool forkJoinPool(String name, int parallelism) {
+		synchronized (forkJoinPools) {
+			return forkJoinPools.computeIfAbsent(name, k -> new ForkJoinPool(parallelism, pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName(name + " " + thread.getPoolIndex());
+				return thread;
+			}, null, false));
 		}
+	}
 
-		return task.get(timeout, unit);
+	public Map<String, FairShareExecutorService.Stats> fairShareStats() {
+		Map<String, FairShareExecutorService.Stats> out = new LinkedHashMap<>();
+		synchronized (fairShareExecutors) {
+			fairShareExecutors.forEach((k, v) -> out.put(k, v.stats()));
+		}
+		return out;
 	}
 
+	ScheduledFuture<?> scheduleDeadline(Runnable onExpiry, long timeout, TimeUnit unit) {
+		// disable timeouts when debugging
+		if (debuggerAttached)
+			return null;
+
+		// expiry handlers are run on the primary pool to keep the timer thread responsive
+		return deadlineTimer.schedule(() -> primaryThreadPool.execute(onExpiry), timeout, unit);
+	}
 
 	private static final class ExecutorService implements AsyncExecutorService {
 		final SubmitterExecutor wrapped;
@@ -102,6 +148,9 @@ public class ThreadPool {
 	public final class Builder {
 		int poolSize = Constants.BASELINE_CONCURRENT_THREADS;
 		String poolName = "Default Thread Pool";
+		boolean virtualThreads = false;
+		int virtualPoolSize = -1;
+		boolean fairShare = false;
 
 		public Builder poolSize(int size) {
 			poolSize = size;
@@ -113,7 +162,49 @@ public class ThreadPool {
 			return this;
 		}
 
+		// intended for I/O-bound tasks, the pool size then only limits the number of concurrently executing tasks
+		public Builder virtualThreads(boolean enable) {
+			virtualThreads = enable;
+			return this;
+		}
+
+		// limit on concurrently executing tasks when virtual threads are available, defaults to the pool size
+		// the pool size applies to the platform threads that are used otherwise
+		public Builder virtualPoolSize(int size) {
+			virtualPoolSize = size;
+			return this;
+		}
+
+		// round-robins between the owners of queued tasks, prioritized by their owners' priority
+		// ignored by virtual thread pools
+		public Builder fairShare(boolean enable) {
+			fairShare = enable;
+			return this;
+		}
+
 		public AsyncExecutorService build() {
+			if (virtualThreads) {
+				VirtualThreadExecutorService executor = new VirtualThreadExecutorService(
+						virtualPoolSize > 0 ? virtualPoolSize : poolSize, poolSize, poolName);
+				synchronized (virtualThreadExecutors) {
+					virtualThreadExecutors.add(executor);
+				}
+
+				if (!executor.isVirtual())
+					ServerLogger.get().info("Virtual threads unavailable, " + poolName + " uses dedicated platform threads");
+				return executor;
+			}
+
+			if (fairShare) {
+				// the fair-share executor does its own limiting
+				FairShareExecutorService executor = new FairShareExecutorService(
+						new ThreadRenamingSchedulerService(primaryThreadPool, poolName, true), poolSize);
+				synchronized (fairShareExecutors) {
+					fairShareExecutors.put(poolName, executor);
+				}
+				return executor;
+			}
+
 			SchedulerService executor = new SchedulerServiceLimiter(primaryThreadPool, poolSize);
 			executor = new ThreadRenamingSchedulerService(executor, poolName, true);
 
@@ -0,0 +1,104 @@
+package com.flair.server.scheduler;
+
+import com.flair.server.utilities.ServerLogger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Executor for I/O-bound tasks that runs each task on its own virtual thread, with at most 'virtualPoolSize' tasks running concurrently
+ * Falls back to a dedicated pool of 'platformPoolSize' small-stack platform threads on runtimes without virtual threads (pre-JDK 21)
+ */
+final class VirtualThreadExecutorService implements AsyncExecutorService {
+	private static final long FALLBACK_THREAD_STACK_SIZE = 256 * 1024;
+	private static final long FALLBACK_THREAD_KEEP_ALIVE = 60;     // in seconds
+
+	private final String poolName;
+	private final ExecutorService executor;
+	private final Semaphore concurrencyLimiter;     // null when the executor is itself bounded
+	private final boolean virtual;
+
+	VirtualThreadExecutorService(int virtualPoolSize, int platformPoolSize, String poolName) {
+		this.poolName = poolName;
+
+		ExecutorService virtualExecutor = createVirtualThreadExecutor(poolName);
+		if (virtualExecutor != null) {
+			this.executor = virtualExecutor;
+			this.concurrencyLimiter = new Semaphore(virtualPoolSize);
+			this.virtual = true;
+		} else {
+			AtomicInteger threadCounter = new AtomicInteger(0);
+			ThreadPoolExecutor fallback = new ThreadPoolExecutor(platformPoolSize, platformPoolSize,
+					FALLBACK_THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					r -> {
+						Thread thread = new Thread(null, r, poolName + " " + threadCounter.incrementAndGet(), FALLBACK_THREAD_STACK_SIZE);
+						thread.setDaemon(true);
+						return thread;
+					});
+			fallback.allowCoreThreadTimeOut(true);
+
+			this.executor = fallback;
+			this.concurrencyLimiter = null;
+			this.virtual = false;
+		}
+	}
+
+	private static ExecutorService createVirtualThreadExecutor(String poolName) {
+		// resolved reflectively as the project targets Java 8
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, poolName + " ", 1L);
+			ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+			Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) newExecutor.invoke(null, factory);
+		} catch (NoSuchMethodException | ClassNotFoundException ex) {
+			return null;
+		} catch (Throwable ex) {
+			ServerLogger.get().warn("Couldn't create virtual thread executor for " + poolName + ". Exception: " + ex.toString());
+			return null;
+		}
+	}
+
+	boolean isVirtual() {
+		return virtual;
+	}
+
+	@Override
+	public void submit(FutureTask<?> task) {
+		if (concurrencyLimiter == null) {
+			executor.execute(task);
+			return;
+		}
+
+		// blocking a virtual thread is cheap, so waiting tasks simply park until a slot frees up
+		executor.execute(() -> {
+			try {
+				concurrencyLimiter.acquire();
+			} catch (InterruptedException ex) {
+				task.cancel(false);
+				return;
+			}
+
+			try {
+				task.run();
+			} finally {
+				concurrencyLimiter.release();
+			}
+		});
+	}
+
+	void shutdown(long timeout, TimeUnit unit) {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(timeout, unit))
+				executor.shutdownNow();
+		} catch (InterruptedException ex) {
+			ServerLogger.get().error(ex, "Couldn't shutdown " + poolName + " executor. Exception: " + ex.toString());
+			executor.shutdownNow();
+		}
+	}
+}
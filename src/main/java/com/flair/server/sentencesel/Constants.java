@@ -5,6 +5,25 @@ class Constants {
 	static final int SELECTOR_MIN_UNIQUE_TOKEN_COUNT = 5;
 	// sentences that have more terms than this will be discarded
 	static final int SELECTOR_MAX_TOKEN_COUNT = 25;
+	// sentence graphs with fewer nodes than this have their edges scored sequentially
+	static final int SELECTOR_PARALLEL_EDGE_SCORING_MIN_NODES = 128;
+	// sentence graphs with fewer nodes than this are ranked sequentially by the CSR engine
+	static final int SELECTOR_PARALLEL_PAGERANK_MIN_NODES = 512;
+	// no. of vertex ranges per worker thread in each parallel PageRank iteration
+	static final int SELECTOR_PAGERANK_CHUNKS_PER_THREAD = 4;
+	// worker threads shared by all sentence graphs, bounded as concurrent selections and parse tasks compete for the same cores
+	static final int SELECTOR_GRAPH_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+	static final String SELECTOR_GRAPH_POOL_NAME = "Sentence Graph Worker";
+	// same as jgrapht's PageRank defaults
+	static final double SELECTOR_PAGERANK_DAMPING_FACTOR = 0.85;
+	static final int SELECTOR_PAGERANK_MAX_ITERATIONS = 100;
+	static final double SELECTOR_PAGERANK_TOLERANCE = 0.0001;
+
+	// MinHash signatures used to find candidate duplicates, split into bands of consecutive rows
+	// sentences that share at least one band are compared
+	static final int SELECTOR_DUPLICATE_MINHASH_SIGNATURE_SIZE = 64;
+	static final int SELECTOR_DUPLICATE_MINHASH_ROWS_PER_BAND = 2;
+	static final long SELECTOR_DUPLICATE_MINHASH_SEED = 0x5EED;
 
 	static final double SIMILARITY_BM25_PARAM_EPSILON = 0.25;
 	static final double SIMILARITY_BM25_PARAM_K = 1.2;
@@ -0,0 +1,86 @@
+package com.flair.server.sentencesel;
+
+import java.util.List;
+
+/*
+ * Immutable, undirected weighted graph in compressed sparse row form
+ * The neighbours of vertex v are stored in targets[offsets[v]...offsets[v + 1]), every edge is stored in both directions
+ */
+final class CsrGraph<V> {
+	private final List<V> vertices;
+	private final int[] offsets;
+	private final int[] targets;
+	private final double[] weights;
+	private final double[] weightedDegrees;     // sum of the weights of each vertex's edges
+
+	private CsrGraph(List<V> vertices, int[] offsets, int[] targets, double[] weights, double[] weightedDegrees) {
+		this.vertices = vertices;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.weightedDegrees = weightedDegrees;
+	}
+
+	/*
+	 * Builds a graph with the given edges, where sources[i] and targets[i] are the indices of the i'th edge's vertices
+	 * Edges are expected to be unique and without self-loops
+	 */
+	static <V> CsrGraph<V> undirected(List<V> vertices, int[] sources, int[] targets, double[] weights, int numEdges) {
+		int numVertices = vertices.size();
+		int[] offsets = new int[numVertices + 1];
+		for (int i = 0; i < numEdges; i++) {
+			if (sources[i] == targets[i])
+				throw new IllegalArgumentException("Self-loop on vertex " + sources[i]);
+
+			offsets[sources[i] + 1]++;
+			offsets[targets[i] + 1]++;
+		}
+		for (int v = 0; v < numVertices; v++)
+			offsets[v + 1] += offsets[v];
+
+		int[] outTargets = new int[numEdges * 2];
+		double[] outWeights = new double[numEdges * 2];
+		double[] weightedDegrees = new double[numVertices];
+		int[] next = new int[numVertices];
+		System.arraycopy(offsets, 0, next, 0, numVertices);
+
+		// the neighbours of each vertex remain in the order in which their edges were given
+		for (int i = 0; i < numEdges; i++) {
+			int a = sources[i], b = targets[i];
+			outTargets[next[a]] = b;
+			outWeights[next[a]++] = weights[i];
+			outTargets[next[b]] = a;
+			outWeights[next[b]++] = weights[i];
+			weightedDegrees[a] += weights[i];
+			weightedDegrees[b] += weights[i];
+		}
+
+		return new CsrGraph<>(vertices, offsets, outTargets, outWeights, weightedDegrees);
+	}
+
+	int numVertices() {
+		return vertices.size();
+	}
+	int numEdges() {
+		return targets.length / 2;
+	}
+	V vertex(int v) {
+		return vertices.get(v);
+	}
+	int degree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+	double weightedDegree(int v) {
+		return weightedDegrees[v];
+	}
+
+	int[] offsets() {
+		return offsets;
+	}
+	int[] targets() {
+		return targets;
+	}
+	double[] weights() {
+		return weights;
+	}
+}
@@ -0,0 +1,121 @@
+package com.flair.server.sentencesel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * Power-iteration PageRank over a CSR graph
+ * Computes the same scores as jgrapht's PageRank on undirected weighted graphs. Each iteration pulls the scores of
+ * the vertices' neighbours, so vertex ranges are updated in parallel without any synchronization
+ */
+final class CsrPageRank {
+	private final double dampingFactor;
+	private final int maxIterations;
+	private final double tolerance;
+	private final ForkJoinPool pool;            // null if the iterations are sequential
+	private int iterations;
+
+	CsrPageRank(double dampingFactor, int maxIterations, double tolerance, ForkJoinPool pool) {
+		if (dampingFactor < 0 || dampingFactor > 1)
+			throw new IllegalArgumentException("Invalid damping factor " + dampingFactor);
+		else if (maxIterations < 1)
+			throw new IllegalArgumentException("Invalid max. iterations " + maxIterations);
+		else if (tolerance <= 0)
+			throw new IllegalArgumentException("Invalid tolerance " + tolerance);
+
+		this.dampingFactor = dampingFactor;
+		this.maxIterations = maxIterations;
+		this.tolerance = tolerance;
+		this.pool = pool;
+		this.iterations = 0;
+	}
+
+	// returns the max. change in the scores of the range [start, end)
+	private double iterate(CsrGraph<?> graph, double r, double[] normalized, double[] next, double[] scores, int start, int end) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		double[] weights = graph.weights();
+
+		double maxChange = 0;
+		for (int v = start; v < end; v++) {
+			double contribution = 0;
+			for (int e = offsets[v]; e < offsets[v + 1]; e++)
+				contribution += normalized[targets[e]] * weights[e];
+
+			next[v] = r + dampingFactor * contribution;
+			maxChange = Math.max(maxChange, Math.abs(next[v] - scores[v]));
+		}
+
+		return maxChange;
+	}
+
+	/*
+	 * Returns the scores of the graph's vertices, indexed by vertex
+	 * If not null, the iteration starts from the given scores (NaN entries denote vertices without a score), which
+	 * are renormalized as the graph may have changed since they were computed
+	 */
+	double[] compute(CsrGraph<?> graph, double[] initialScores) {
+		int numVertices = graph.numVertices();
+		double[] scores = new double[numVertices];
+		double[] next = new double[numVertices];
+		double[] normalized = new double[numVertices];
+		iterations = 0;
+		if (numVertices == 0)
+			return scores;
+
+		double total = 0;
+		boolean warmStart = false;
+		for (int v = 0; v < numVertices; v++) {
+			boolean hasInitial = initialScores != null && !Double.isNaN(initialScores[v]);
+			warmStart |= hasInitial;
+			scores[v] = hasInitial ? initialScores[v] : 1.0 / numVertices;
+			total += scores[v];
+		}
+		if (warmStart && total > 0) {
+			for (int v = 0; v < numVertices; v++)
+				scores[v] /= total;
+		}
+
+		int numChunks = pool == null ? 1 : Math.min(numVertices, pool.getParallelism() * Constants.SELECTOR_PAGERANK_CHUNKS_PER_THREAD);
+		int chunkSize = (numVertices + numChunks - 1) / numChunks;
+		double[] chunkChanges = new double[numChunks];
+
+		double maxChange = tolerance;
+		while (iterations < maxIterations && maxChange >= tolerance) {
+			double r = 0;
+			for (int v = 0; v < numVertices; v++) {
+				if (graph.degree(v) > 0) {
+					r += (1 - dampingFactor) * scores[v];
+					normalized[v] = scores[v] / graph.weightedDegree(v);
+				} else {
+					r += scores[v];
+					normalized[v] = 0;
+				}
+			}
+			r /= numVertices;
+
+			if (numChunks == 1)
+				maxChange = iterate(graph, r, normalized, next, scores, 0, numVertices);
+			else {
+				double rankSink = r;
+				double[] current = scores, updated = next;
+				pool.submit(() -> IntStream.range(0, numChunks).parallel().forEach(c -> chunkChanges[c] = iterate(graph,
+						rankSink, normalized, updated, current, c * chunkSize, Math.min(numVertices, (c + 1) * chunkSize)))).join();
+				maxChange = Arrays.stream(chunkChanges).max().orElse(0);
+			}
+
+			double[] swap = scores;
+			scores = next;
+			next = swap;
+			iterations++;
+		}
+
+		return scores;
+	}
+
+	// no. of iterations performed by the last call to compute()
+	int iterations() {
+		return iterations;
+	}
+}
@@ -0,0 +1,216 @@
+package com.flair.server.sentencesel;
+
+import com.flair.server.parser.ParserAnnotations;
+import com.flair.server.utilities.ServerLogger;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/*
+ * Drops ranked sentences whose tokens co-occur in a higher-ranked sentence
+ * Each sentence's token set is normalized once into interned term IDs and checked against an inverted index of the
+ * higher-ranked sentences, so only sentences that share at least one term are compared. Optionally, candidates are
+ * restricted to sentences with similar MinHash signatures, which scales better but may miss some duplicates
+ */
+final class DuplicateSentenceFilter {
+	static final Pattern PUNCTUATION = Pattern.compile("\\p{P}");
+
+	private static final long[] MINHASH_SEEDS;
+	static {
+		Random rand = new Random(Constants.SELECTOR_DUPLICATE_MINHASH_SEED);
+		MINHASH_SEEDS = new long[Constants.SELECTOR_DUPLICATE_MINHASH_SIGNATURE_SIZE];
+		for (int i = 0; i < MINHASH_SEEDS.length; i++)
+			MINHASH_SEEDS[i] = rand.nextLong();
+	}
+
+	private final double threshold;
+	private final boolean approximate;
+	private final TObjectIntMap<String> termIds;
+	private final List<TIntArrayList> postings;         // term ID -> indexed sentences, only used if exact
+	private final List<int[]> sentenceTerms;            // sorted, unique term IDs of each indexed sentence
+	private final TLongObjectMap<TIntArrayList> bands;  // MinHash band -> indexed sentences, only used if approximate
+	private final int[] cooccurrences;                  // scratch space, no. of shared terms per indexed sentence
+	private final TIntArrayList candidates;
+
+	private DuplicateSentenceFilter(double threshold, boolean approximate, int numSentences) {
+		this.threshold = threshold;
+		this.approximate = approximate;
+		this.termIds = new TObjectIntHashMap<>(numSentences * 8, 0.5f, -1);
+		this.postings = new ArrayList<>();
+		this.sentenceTerms = new ArrayList<>(numSentences);
+		this.bands = new TLongObjectHashMap<>();
+		this.cooccurrences = new int[numSentences];
+		this.candidates = new TIntArrayList();
+	}
+
+	private int[] normalize(ParserAnnotations.Sentence sent) {
+		TIntArrayList out = new TIntArrayList(sent.tokenCount());
+		for (ParserAnnotations.Token token : sent.tokens()) {
+			String term = PUNCTUATION.matcher(token.lemmaOrWord()).replaceAll("").trim().toLowerCase();
+			if (term.isEmpty())
+				continue;
+
+			int id = termIds.get(term);
+			if (id == -1) {
+				id = termIds.size();
+				termIds.put(term, id);
+				if (!approximate)
+					postings.add(new TIntArrayList());
+			}
+			out.add(id);
+		}
+
+		int[] terms = out.toArray();
+		Arrays.sort(terms);
+		int numUnique = 0;
+		for (int i = 0; i < terms.length; i++) {
+			if (i == 0 || terms[i] != terms[i - 1])
+				terms[numUnique++] = terms[i];
+		}
+		return Arrays.copyOf(terms, numUnique);
+	}
+
+	private boolean isDuplicate(int cooccurrences, int numTerms) {
+		return cooccurrences / (double) numTerms >= threshold;
+	}
+
+	private static int countIntersections(int[] sorted1, int[] sorted2) {
+		int count = 0;
+		for (int i = 0, j = 0; i < sorted1.length && j < sorted2.length; ) {
+			if (sorted1[i] < sorted2[j])
+				i++;
+			else if (sorted1[i] > sorted2[j])
+				j++;
+			else {
+				count++;
+				i++;
+				j++;
+			}
+		}
+		return count;
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static long[] bandKeys(int[] terms) {
+		int rowsPerBand = Constants.SELECTOR_DUPLICATE_MINHASH_ROWS_PER_BAND;
+		long[] signature = new long[MINHASH_SEEDS.length];
+		Arrays.fill(signature, Long.MAX_VALUE);
+		for (int term : terms) {
+			for (int i = 0; i < signature.length; i++)
+				signature[i] = Math.min(signature[i], mix(term ^ MINHASH_SEEDS[i]));
+		}
+
+		long[] keys = new long[signature.length / rowsPerBand];
+		for (int b = 0; b < keys.length; b++) {
+			long key = b;
+			for (int r = 0; r < rowsPerBand; r++)
+				key = 31 * key + signature[b * rowsPerBand + r];
+			keys[b] = mix(key);
+		}
+		return keys;
+	}
+
+	private boolean checkIndexed(int[] terms) {
+		for (int term : terms) {
+			TIntArrayList sentences = postings.get(term);
+			for (int i = 0; i < sentences.size(); i++) {
+				int sent = sentences.getQuick(i);
+				if (cooccurrences[sent]++ == 0)
+					candidates.add(sent);
+				if (isDuplicate(cooccurrences[sent], terms.length))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean checkSignatures(int[] terms, long[] keys) {
+		for (long key : keys) {
+			TIntArrayList sentences = bands.get(key);
+			if (sentences == null)
+				continue;
+
+			for (int i = 0; i < sentences.size(); i++) {
+				int sent = sentences.getQuick(i);
+				if (cooccurrences[sent] != 0)
+					continue;
+
+				// marks the sentence as visited
+				cooccurrences[sent] = 1;
+				candidates.add(sent);
+				if (isDuplicate(countIntersections(terms, sentenceTerms.get(sent)), terms.length))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean checkAndIndex(ParserAnnotations.Sentence sent) {
+		int[] terms = normalize(sent);
+		long[] keys = approximate ? bandKeys(terms) : null;
+
+		// sentences without any terms are never duplicates
+		boolean duplicate = false;
+		if (terms.length > 0)
+			duplicate = approximate ? checkSignatures(terms, keys) : checkIndexed(terms);
+
+		for (int i = 0; i < candidates.size(); i++)
+			cooccurrences[candidates.getQuick(i)] = 0;
+		candidates.resetQuick();
+
+		// every higher-ranked sentence is compared against, regardless of whether it was dropped itself
+		int id = sentenceTerms.size();
+		sentenceTerms.add(terms);
+		if (approximate) {
+			for (long key : keys) {
+				TIntArrayList sentences = bands.get(key);
+				if (sentences == null) {
+					sentences = new TIntArrayList();
+					bands.put(key, sentences);
+				}
+				sentences.add(id);
+			}
+		} else {
+			for (int term : terms)
+				postings.get(term).add(id);
+		}
+		return duplicate;
+	}
+
+	/*
+	 * Returns the given (ranked) sentences without those whose ratio of terms that co-occur in any higher-ranked
+	 * sentence is at least the given threshold, which must be in (0, 1]
+	 */
+	static List<SentenceSelector.SelectedSentence> filter(List<? extends SentenceSelector.SelectedSentence> rankedSents,
+	                                                      double threshold, boolean approximate) {
+		if (!(threshold > 0 && threshold <= 1))
+			throw new IllegalArgumentException("Invalid duplicate co-occurrence threshold " + threshold);
+
+		DuplicateSentenceFilter filter = new DuplicateSentenceFilter(threshold, approximate, rankedSents.size());
+		List<SentenceSelector.SelectedSentence> out = new ArrayList<>();
+		for (SentenceSelector.SelectedSentence sent : rankedSents) {
+			if (!filter.checkAndIndex(sent.annotation()))
+				out.add(sent);
+			else
+				ServerLogger.get().trace("Dropping duplicate sentence '" + sent.annotation().text() + "' during selection");
+		}
+
+		return out;
+	}
+}
@@ -0,0 +1,432 @@
+package com.flair.server.sentencesel;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.scheduler.ThreadPool;
+import com.flair.server.utilities.InvertedIndex;
+import com.flair.server.utilities.ServerLogger;
+import com.flair.server.utilities.SparseDoubleVector;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleWeightedGraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/*
+ * Sentence similarity graph over a set of documents that can be updated incrementally
+ * Documents are preprocessed once, sentence vectors and edge scores are retained between rankings and PageRank is
+ * warm-started from the previous ranking's scores. Unchanged graphs return their previous ranking as-is
+ * Scored edges are retained as-is and converted into the ranking engine's graph representation when ranking
+ * Not thread-safe, callers must synchronize on the graph
+ */
+final class SentenceGraph {
+	static final class Node implements SimilarityScorer.HasVector, SimilarityScorer.HasInvertedIndexTerms {
+		final SentenceSelectorPreprocessor.PreprocessedSentence source;
+		final InvIdxDocument baseDoc;
+		final int index;
+		final TObjectIntMap<InvIdxTerm> termFreqs;
+		SparseDoubleVector vector;      // only used by the cosine similarity measure, updated when the index changes
+
+		Node(SentenceSelectorPreprocessor.PreprocessedSentence s, InvIdxDocument baseDoc, int i) {
+			source = s;
+			this.baseDoc = baseDoc;
+			index = i;
+			termFreqs = new TObjectIntHashMap<>();
+			s.terms.forEach(t -> termFreqs.adjustOrPutValue(t, 1, 1));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			Node node = (Node) o;
+			return source == node.source;
+		}
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(source);
+		}
+		@Override
+		public SparseDoubleVector vec() {
+			return vector;
+		}
+		@Override
+		public Collection<InvIdxTerm> terms() {
+			return source.terms;
+		}
+		@Override
+		public int termFrequency(InvIdxTerm term) {
+			return termFreqs.get(term);
+		}
+		Set<InvIdxTerm> uniqueTerms() {
+			return termFreqs.keySet();
+		}
+	}
+
+	private static final class Edge {
+		final Node first;
+		final Node second;
+		final double score;
+
+		Edge(Node first, Node second, double score) {
+			this.first = first;
+			this.second = second;
+			this.score = score;
+		}
+	}
+
+	private static final class DocumentEntry {
+		final Set<InvIdxDocument> baseDocs;
+		final List<Node> nodes;         // empty if the document's sentences aren't ranked
+		final boolean ranked;
+
+		DocumentEntry(boolean ranked) {
+			this.baseDocs = new LinkedHashSet<>();
+			this.nodes = new ArrayList<>();
+			this.ranked = ranked;
+		}
+	}
+
+	private final SentenceSelectorParams params;
+	private final InvertedIndex<InvIdxTerm, InvIdxDocument> invertedIndex;
+	// sentences that don't share any terms have zero similarity, so only pairs that co-occur in a posting are scored
+	private final InvertedIndex<InvIdxTerm, Node> nodeIndex;
+	private final Map<AbstractDocument, DocumentEntry> documents;
+	private final List<Edge> edges;                 // in the order in which they were scored
+	private final Set<Node> pendingNodes;           // added since the last ranking
+	private boolean indexChanged;
+	private Map<Node, Double> previousScores;
+	private Map<SentenceSelectorPreprocessor.PreprocessedSentence, Double> ranking;     // null if outdated
+	private int nextNodeIndex;
+
+	// only the preprocessing, similarity and ranking parameters are used
+	SentenceGraph(SentenceSelectorParams params) {
+		this.params = params;
+		this.invertedIndex = new InvertedIndex<>();
+		this.nodeIndex = new InvertedIndex<>();
+		this.documents = new LinkedHashMap<>();
+		this.edges = new ArrayList<>();
+		this.pendingNodes = new HashSet<>();
+		this.indexChanged = false;
+		this.previousScores = Collections.emptyMap();
+		this.ranking = null;
+		this.nextNodeIndex = 0;
+	}
+
+	// owned by the thread pool, which shuts it down with the web app
+	private static ForkJoinPool workerPool() {
+		return ThreadPool.get().forkJoinPool(Constants.SELECTOR_GRAPH_POOL_NAME, Constants.SELECTOR_GRAPH_PARALLELISM);
+	}
+
+	private InvIdxDocument getBaseDocument(SentenceSelectorPreprocessor.PreprocessedSentence sent) {
+		switch (params.granularity) {
+		case SENTENCE:
+			return new InvIdxDocument(sent);
+		case DOCUMENT:
+			return new InvIdxDocument(sent.sourceDoc);
+		}
+
+		return null;
+	}
+
+	void addDocument(AbstractDocument doc, boolean rankSentences) {
+		if (documents.containsKey(doc))
+			throw new IllegalArgumentException("Document " + doc.getDescription() + " is already a part of the graph");
+
+		DocumentEntry entry = new DocumentEntry(rankSentences);
+		for (SentenceSelectorPreprocessor.PreprocessedSentence sent : params.preprocessor.preprocess(doc, params)) {
+			InvIdxDocument baseDoc = getBaseDocument(sent);
+			sent.terms.forEach(tok -> invertedIndex.addTerm(tok, baseDoc));
+			entry.baseDocs.add(baseDoc);
+
+			if (rankSentences) {
+				Node node = new Node(sent, baseDoc, nextNodeIndex++);
+				node.source.terms.forEach(t -> nodeIndex.addTerm(t, node));
+				entry.nodes.add(node);
+				pendingNodes.add(node);
+			}
+		}
+
+		documents.put(doc, entry);
+		indexChanged = true;
+		ranking = null;
+	}
+
+	void removeDocument(AbstractDocument doc) {
+		DocumentEntry entry = documents.remove(doc);
+		if (entry == null)
+			return;
+
+		entry.baseDocs.forEach(invertedIndex::removeDocument);
+		for (Node node : entry.nodes) {
+			nodeIndex.removeDocument(node);
+			pendingNodes.remove(node);
+		}
+
+		Set<Node> removed = new HashSet<>(entry.nodes);
+		edges.removeIf(e -> removed.contains(e.first) || removed.contains(e.second));
+
+		indexChanged = true;
+		ranking = null;
+	}
+
+	// adds and removes documents so that the graph spans the main document and the corpus
+	// if there's a main document, only its sentences are ranked
+	void update(AbstractDocument main, Collection<AbstractDocument> corpus) {
+		Map<AbstractDocument, Boolean> expected = new LinkedHashMap<>();
+		for (AbstractDocument doc : corpus)
+			expected.put(doc, main == null);
+		if (main != null)
+			expected.put(main, true);
+
+		for (AbstractDocument doc : new ArrayList<>(documents.keySet())) {
+			Boolean ranked = expected.get(doc);
+			if (ranked == null || ranked != documents.get(doc).ranked)
+				removeDocument(doc);
+		}
+
+		expected.forEach((doc, ranked) -> {
+			if (!documents.containsKey(doc))
+				addDocument(doc, ranked);
+		});
+	}
+
+	private List<Edge> scoreEdges(Node first, SimilarityScorer scorer) {
+		// collect the nodes that follow the given node and share at least one term with it
+		// when updating incrementally, only pairs with at least one new node are scored
+		boolean firstPending = pendingNodes.contains(first);
+		List<Node> candidates = new ArrayList<>();
+		Set<Node> visited = new HashSet<>();
+		for (InvIdxTerm term : first.uniqueTerms()) {
+			for (Node n : nodeIndex.termDocuments(term)) {
+				if (n.index > first.index && (firstPending || pendingNodes.contains(n)) && visited.add(n))
+					candidates.add(n);
+			}
+		}
+		candidates.sort(Comparator.comparingInt(n -> n.index));
+
+		List<Edge> out = new ArrayList<>();
+		for (Node second : candidates) {
+			double similarityScore = 0;
+			switch (params.similarityMeasure) {
+			case COSINE:
+				similarityScore = scorer.cosine(first, second);
+				break;
+			case BM25:
+				similarityScore = scorer.bm25(first, second);
+				break;
+			case JACCARD_COEFFICIENT:
+				similarityScore = scorer.jaccardCoefficient(first.uniqueTerms(), second.uniqueTerms());
+				break;
+			}
+
+			if (!Double.isFinite(similarityScore)) {
+				ServerLogger.get().trace("Invalid similarity score between sentences " + first.source.id +
+						" and " + second.source.id + " in document " + first.source.sourceDoc.getDescription());
+				continue;
+			} else if (similarityScore == 0)
+				continue;
+
+			out.add(new Edge(first, second, similarityScore));
+		}
+
+		return out;
+	}
+
+	private void updateEdges() {
+		List<Node> nodes = documents.values().stream()
+				.flatMap(e -> e.nodes.stream())
+				.collect(Collectors.toList());
+
+		// cosine and BM25 scores depend on the index statistics, so they are all invalidated when the index changes
+		if (indexChanged && params.similarityMeasure != SentenceSelector.SimilarityMeasure.JACCARD_COEFFICIENT) {
+			edges.clear();
+			pendingNodes.addAll(nodes);
+		}
+
+		if (indexChanged && params.similarityMeasure == SentenceSelector.SimilarityMeasure.COSINE) {
+			for (Node node : nodes) {
+				SparseDoubleVector.Builder vecBuilder = SparseDoubleVector.builder(invertedIndex.numTerms());
+				node.source.terms.forEach(tok -> vecBuilder.set(invertedIndex.termId(tok), invertedIndex.termTfIdf(tok, node.baseDoc, true)));
+				node.vector = vecBuilder.buildNormalized();
+			}
+		}
+
+		SimilarityScorer scorer = new SimilarityScorer(invertedIndex);
+		List<List<Edge>> scored;
+		if (pendingNodes.isEmpty())
+			scored = Collections.emptyList();
+		else if (nodes.size() < Constants.SELECTOR_PARALLEL_EDGE_SCORING_MIN_NODES)
+			scored = nodes.stream().map(n -> scoreEdges(n, scorer)).collect(Collectors.toList());
+		else {
+			scored = workerPool().submit(() -> nodes.parallelStream()
+					.map(n -> scoreEdges(n, scorer))
+					.collect(Collectors.toList())).join();
+		}
+
+		// edges are added in the same order as they are scored sequentially
+		scored.forEach(edges::addAll);
+
+		pendingNodes.clear();
+		indexChanged = false;
+	}
+
+	// sentences that aren't similar to any other have no edges and are left out of the ranking
+	private Graph<Node, DefaultWeightedEdge> toJGraph() {
+		Graph<Node, DefaultWeightedEdge> graph = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+		for (Edge e : edges) {
+			graph.addVertex(e.first);
+			graph.addVertex(e.second);
+
+			DefaultWeightedEdge edge = graph.addEdge(e.first, e.second);
+			if (edge == null) {
+				ServerLogger.get().warn("Couldn't add edge between sentences: Sentence " + e.first.source.id + " in " + e.first.source.sourceDoc.getDescription()
+						+ " and Sentence " + e.second.source.id + " in " + e.second.source.sourceDoc.getDescription());
+			} else
+				graph.setEdgeWeight(edge, e.score);
+		}
+
+		return graph;
+	}
+
+	// vertices are indexed in the order of their first edge, same as the jgrapht graph
+	private CsrGraph<Node> toCsrGraph() {
+		List<Node> vertices = new ArrayList<>();
+		TObjectIntMap<Node> vertexIds = new TObjectIntHashMap<>(edges.size(), 0.5f, -1);
+		int[] sources = new int[edges.size()];
+		int[] targets = new int[edges.size()];
+		double[] weights = new double[edges.size()];
+
+		int i = 0;
+		for (Edge e : edges) {
+			sources[i] = vertexId(e.first, vertexIds, vertices);
+			targets[i] = vertexId(e.second, vertexIds, vertices);
+			weights[i] = e.score;
+			i++;
+		}
+
+		return CsrGraph.undirected(vertices, sources, targets, weights, edges.size());
+	}
+
+	private static int vertexId(Node node, TObjectIntMap<Node> vertexIds, List<Node> vertices) {
+		int id = vertexIds.get(node);
+		if (id == -1) {
+			id = vertices.size();
+			vertexIds.put(node, id);
+			vertices.add(node);
+		}
+		return id;
+	}
+
+	private Map<Node, Double> csrPageRank(Map<Node, Double> initialScores) {
+		CsrGraph<Node> csr = toCsrGraph();
+		double[] initial = new double[csr.numVertices()];
+		for (int v = 0; v < initial.length; v++)
+			initial[v] = initialScores.getOrDefault(csr.vertex(v), Double.NaN);
+
+		ForkJoinPool pool = csr.numVertices() < Constants.SELECTOR_PARALLEL_PAGERANK_MIN_NODES ? null : workerPool();
+		CsrPageRank pageRank = new CsrPageRank(Constants.SELECTOR_PAGERANK_DAMPING_FACTOR, params.pageRankMaxIterations,
+				params.pageRankTolerance, pool);
+		double[] scores = pageRank.compute(csr, initial);
+
+		Map<Node, Double> out = new LinkedHashMap<>();
+		for (int v = 0; v < scores.length; v++)
+			out.put(csr.vertex(v), scores[v]);
+
+		ServerLogger.get().trace("Ranked " + csr.numVertices() + " sentences with " + csr.numEdges() + " edges in "
+				+ pageRank.iterations() + " iterations");
+		return out;
+	}
+
+	// same power iteration as jgrapht's PageRank, but starting from the given scores where available
+	private Map<Node, Double> pageRank(Graph<Node, DefaultWeightedEdge> graph, Map<Node, Double> initialScores) {
+		Set<Node> vertices = graph.vertexSet();
+		int numVertices = vertices.size();
+		Map<Node, Double> scores = new LinkedHashMap<>();
+		Map<Node, Double> weights = new HashMap<>();
+
+		double total = 0;
+		boolean warmStart = false;
+		for (Node v : vertices) {
+			Double initial = initialScores.get(v);
+			warmStart |= initial != null;
+			scores.put(v, initial != null ? initial : 1.0 / numVertices);
+			total += scores.get(v);
+
+			double sum = 0;
+			for (DefaultWeightedEdge e : graph.edgesOf(v))
+				sum += graph.getEdgeWeight(e);
+			weights.put(v, sum);
+		}
+
+		// the previous scores are renormalized as the graph's vertices may have changed
+		if (warmStart && total > 0) {
+			double normalization = total;
+			scores.replaceAll((v, s) -> s / normalization);
+		}
+
+		Map<Node, Double> nextScores = new LinkedHashMap<>();
+		double maxChange = params.pageRankTolerance;
+		for (int i = 0; i < params.pageRankMaxIterations && maxChange >= params.pageRankTolerance; i++) {
+			double r = 0;
+			for (Node v : vertices) {
+				if (graph.degreeOf(v) > 0)
+					r += (1 - Constants.SELECTOR_PAGERANK_DAMPING_FACTOR) * scores.get(v);
+				else
+					r += scores.get(v);
+			}
+			r /= numVertices;
+
+			maxChange = 0;
+			for (Node v : vertices) {
+				double contribution = 0;
+				for (DefaultWeightedEdge e : graph.edgesOf(v)) {
+					Node w = Graphs.getOppositeVertex(graph, e, v);
+					contribution += Constants.SELECTOR_PAGERANK_DAMPING_FACTOR * scores.get(w) * graph.getEdgeWeight(e) / weights.get(w);
+				}
+
+				double newScore = r + contribution;
+				maxChange = Math.max(maxChange, Math.abs(newScore - scores.get(v)));
+				nextScores.put(v, newScore);
+			}
+
+			Map<Node, Double> swap = scores;
+			scores = nextScores;
+			nextScores = swap;
+		}
+
+		return scores;
+	}
+
+	// returns the PageRank scores of the ranked documents' sentences
+	Map<SentenceSelectorPreprocessor.PreprocessedSentence, Double> rank() {
+		if (ranking != null)
+			return ranking;
+
+		if (indexChanged || !pendingNodes.isEmpty())
+			updateEdges();
+
+		Map<Node, Double> scores;
+		if (edges.isEmpty())
+			scores = Collections.emptyMap();
+		else if (params.rankingEngine == SentenceSelector.RankingEngine.CSR)
+			scores = csrPageRank(previousScores);
+		else
+			scores = pageRank(toJGraph(), previousScores);
+		Map<SentenceSelectorPreprocessor.PreprocessedSentence, Double> out = new LinkedHashMap<>();
+		scores.forEach((n, s) -> out.put(n.source, s));
+
+		previousScores = scores;
+		ranking = Collections.unmodifiableMap(out);
+		return ranking;
+	}
+
+	int numDocuments() {
+		return documents.size();
+	}
+}
@@ -0,0 +1,112 @@
+package com.flair.server.sentencesel;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.shared.grammar.Language;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * Bounded cache of sentence graphs, evicts the least recently used graph when full
+ * Selectors that share a cache reuse the graph of earlier selections on the same document and update it incrementally
+ * when the corpus has changed. Graphs hold strong references to their documents, so caches are expected to be scoped
+ * to the owner of those documents and cleared along with them. Selections from a corpus are not cached
+ */
+public final class SentenceGraphCache {
+	private static final class Key {
+		final Language lang;
+		final SentenceSelector.SimilarityMeasure similarityMeasure;
+		final SentenceSelector.Granularity granularity;
+		final boolean stemWords;
+		final boolean ignoreStopwords;
+		final boolean useSynsets;
+		final SentenceSelector.RankingEngine rankingEngine;
+		final double pageRankTolerance;
+		final int pageRankMaxIterations;
+		final AbstractDocument main;        // compared by identity
+
+		Key(SentenceSelectorParams params) {
+			lang = params.lang;
+			similarityMeasure = params.similarityMeasure;
+			granularity = params.granularity;
+			stemWords = params.stemWords;
+			ignoreStopwords = params.ignoreStopwords;
+			useSynsets = params.useSynsets;
+			rankingEngine = params.rankingEngine;
+			pageRankTolerance = params.pageRankTolerance;
+			pageRankMaxIterations = params.pageRankMaxIterations;
+			main = params.main;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			Key key = (Key) o;
+			return stemWords == key.stemWords &&
+					ignoreStopwords == key.ignoreStopwords &&
+					useSynsets == key.useSynsets &&
+					Double.compare(pageRankTolerance, key.pageRankTolerance) == 0 &&
+					pageRankMaxIterations == key.pageRankMaxIterations &&
+					lang == key.lang &&
+					similarityMeasure == key.similarityMeasure &&
+					granularity == key.granularity &&
+					rankingEngine == key.rankingEngine &&
+					main == key.main;
+		}
+		@Override
+		public int hashCode() {
+			return Objects.hash(lang, similarityMeasure, granularity, stemWords, ignoreStopwords, useSynsets,
+					rankingEngine, pageRankTolerance, pageRankMaxIterations, System.identityHashCode(main));
+		}
+	}
+
+	private final Map<Key, SentenceGraph> graphs;
+	private long hits;
+	private long misses;
+
+	public SentenceGraphCache(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Invalid sentence graph cache capacity " + capacity);
+
+		this.graphs = new LinkedHashMap<Key, SentenceGraph>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, SentenceGraph> eldest) {
+				return size() > capacity;
+			}
+		};
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	synchronized SentenceGraph get(SentenceSelectorParams params) {
+		if (params.source != SentenceSelector.Source.DOCUMENT)
+			throw new IllegalArgumentException("Only sentence graphs of documents can be cached");
+
+		Key key = new Key(params);
+		SentenceGraph graph = graphs.get(key);
+		if (graph == null) {
+			misses++;
+			graph = new SentenceGraph(params.copy());
+			graphs.put(key, graph);
+		} else
+			hits++;
+
+		return graph;
+	}
+
+	public synchronized void clear() {
+		graphs.clear();
+	}
+
+	public synchronized int size() {
+		return graphs.size();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Graphs[" + graphs.size() + "] Hits[" + hits + "] Misses[" + misses + "]";
+	}
+}
@@ -25,6 +25,11 @@ public interface SentenceSelector {
 		JACCARD_COEFFICIENT
 	}
 
+	enum RankingEngine {
+		JGRAPHT,      // (default) PageRank over a jgrapht graph
+		CSR           // parallel PageRank over primitive adjacency arrays, faster on larger graphs
+	}
+
 	// all boolean parameters default to false
 	interface Builder {
 		Builder similarityMeasure(SimilarityMeasure val);
@@ -33,12 +38,19 @@ public interface SentenceSelector {
 		Builder useSynsets(boolean val);
 		Builder dropDuplicates(boolean val);                    // filter out lower-ranked sentences that are similar to higher-ranked ones
 		Builder duplicateCooccurrenceThreshold(double val);     // lower-ranked sentences with a term-cooccurrence ratio larger than this value are dropped if 'dropDuplicates' is true
-		// default value: 0.6
+		// default value: 0.6, must be in (0, 1]
+		Builder approximateDuplicates(boolean val);             // only compare sentences with similar MinHash signatures when dropping duplicates, faster on large rankings but may miss some duplicates
 		Builder granularity(Granularity val);
 		Builder source(Source val);
+		Builder rankingEngine(RankingEngine val);
+		Builder pageRankTolerance(double val);          // iterations stop once no score changes by more than this value
+		// default value: 0.0001
+		Builder pageRankMaxIterations(int val);
+		// default value: 100
 
 		Builder mainDocument(AbstractDocument doc);      // document from which sentences are selected
 		Builder corpusDocument(AbstractDocument doc);    // additional corpus that can be used the selector
+		Builder graphCache(SentenceGraphCache cache);    // optional, reuses and updates the sentence graphs of earlier selections on the same document
 
 		SentenceSelector build();
 	}
@@ -16,22 +16,31 @@ class SentenceSelectorParams {
 	boolean useSynsets;
 	boolean dropDuplicates;
 	double duplicateCooccurrenceThreshold;
+	boolean approximateDuplicates;
+	SentenceSelector.RankingEngine rankingEngine;
+	double pageRankTolerance;
+	int pageRankMaxIterations;
 
 	AbstractDocument main;
 	List<AbstractDocument> corpus;
 
 	SentenceSelectorPreprocessor preprocessor;
+	SentenceGraphCache graphCache;      // null if the sentence graph isn't cached
 
 	SentenceSelectorParams() {
 		lang = null;
 		similarityMeasure = SentenceSelector.SimilarityMeasure.COSINE;
 		source = SentenceSelector.Source.DOCUMENT;
 		granularity = SentenceSelector.Granularity.SENTENCE;
-		stemWords = ignoreStopwords = useSynsets = dropDuplicates = false;
+		stemWords = ignoreStopwords = useSynsets = dropDuplicates = approximateDuplicates = false;
 		duplicateCooccurrenceThreshold = 0.6;
+		rankingEngine = SentenceSelector.RankingEngine.JGRAPHT;
+		pageRankTolerance = Constants.SELECTOR_PAGERANK_TOLERANCE;
+		pageRankMaxIterations = Constants.SELECTOR_PAGERANK_MAX_ITERATIONS;
 		main = null;
 		corpus = new ArrayList<>();
 		preprocessor = SentenceSelectorPreprocessor.defaultInstance();
+		graphCache = null;
 	}
 
 	SentenceSelectorParams copy() {
@@ -45,13 +54,26 @@ class SentenceSelectorParams {
 		out.useSynsets = useSynsets;
 		out.dropDuplicates = dropDuplicates;
 		out.duplicateCooccurrenceThreshold = duplicateCooccurrenceThreshold;
+		out.approximateDuplicates = approximateDuplicates;
+		out.rankingEngine = rankingEngine;
+		out.pageRankTolerance = pageRankTolerance;
+		out.pageRankMaxIterations = pageRankMaxIterations;
 		out.main = main;
 		out.corpus = new ArrayList<>(corpus);
 		out.preprocessor = preprocessor;
+		out.graphCache = graphCache;
 		return out;
 	}
 
 	void validate() {
+		if (pageRankTolerance <= 0)
+			throw new IllegalStateException("Invalid PageRank tolerance " + pageRankTolerance);
+		else if (pageRankMaxIterations < 1)
+			throw new IllegalStateException("Invalid PageRank max. iterations " + pageRankMaxIterations);
+		// a threshold of zero would drop every sentence after the first
+		else if (!(duplicateCooccurrenceThreshold > 0 && duplicateCooccurrenceThreshold <= 1))
+			throw new IllegalStateException("Invalid duplicate co-occurrence threshold " + duplicateCooccurrenceThreshold);
+
 		switch (source) {
 		case DOCUMENT: {
 			if (main == null)
@@ -8,7 +8,6 @@ import com.flair.server.utilities.dictionary.WordNetDictionary;
 import com.flair.shared.grammar.Language;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /*
  * Performs various preprocessing tasks for sentence selectors
@@ -32,7 +31,7 @@ final class SentenceSelectorPreprocessor {
 	private SentenceSelectorPreprocessor() {
 		languageSpecificData = new EnumMap<>(Language.class);
 
-		LanguageSpecificData eng = new LanguageSpecificData(WordNetDictionary.defaultInstance());
+		LanguageSpecificData eng = new LanguageSpecificData(WordNetDictionary.cachedInstance());
 		languageSpecificData.put(Language.ENGLISH, eng);
 		languageSpecificData = Collections.unmodifiableMap(languageSpecificData);
 	}
@@ -41,15 +40,9 @@ final class SentenceSelectorPreprocessor {
 		return languageSpecificData.get(lang) != null;
 	}
 
-	private long countIntersections(Set<?> set1, Set<?> set2) {
-		Set<?> larger = set1.size() > set2.size() ? set1 : set2;
-		Set<?> smaller = larger == set1 ? set2 : set1;
-
-		return smaller.stream().filter(larger::contains).count();
-	}
-
 	Collection<PreprocessedSentence> preprocess(AbstractDocument doc, SentenceSelectorParams params) {
 		List<PreprocessedSentence> out = new ArrayList<>();
+		Set<PreprocessedSentence> unique = new HashSet<>();
 
 		if (!doc.isParsed())
 			throw new IllegalArgumentException("Couldn't preprocess unparsed document");
@@ -72,8 +65,8 @@ final class SentenceSelectorPreprocessor {
 
 				PreprocessedSentence preprocSent = new PreprocessedSentence(doc, sent, i);
 				for (ParserAnnotations.Token token : sent.tokens()) {
-					String lemma = token.lemma().replaceAll("\\p{P}", "").trim().toLowerCase();
-					String word = token.word().replaceAll("\\p{P}", "").trim().toLowerCase();
+					String lemma = DuplicateSentenceFilter.PUNCTUATION.matcher(token.lemma()).replaceAll("").trim().toLowerCase();
+					String word = DuplicateSentenceFilter.PUNCTUATION.matcher(token.word()).replaceAll("").trim().toLowerCase();
 
 					if (word.isEmpty())
 						continue;
@@ -98,7 +91,7 @@ final class SentenceSelectorPreprocessor {
 
 				if (preprocSent.terms.stream().distinct().count() >= Constants.SELECTOR_MIN_UNIQUE_TOKEN_COUNT) {
 					// filter out duplicate sentences
-					if (!out.contains(preprocSent))
+					if (unique.add(preprocSent))
 						out.add(preprocSent);
 				} else {
 					//	ServerLogger.get().trace("Sentence has too few unique tokens for ranking: " + sent.text());
@@ -112,34 +105,8 @@ final class SentenceSelectorPreprocessor {
 	}
 
 	List<SentenceSelector.SelectedSentence> dropDuplicates(List<? extends SentenceSelector.SelectedSentence> rankedSents,
-	                                                       double dropCooccurrentThreshold) {
-		List<SentenceSelector.SelectedSentence> out = new ArrayList<>();
-		for (int i = 0; i < rankedSents.size(); ++i) {
-			SentenceSelector.SelectedSentence currentSent = rankedSents.get(i);
-			Set<String> currentTokens = currentSent.annotation().tokens().stream()
-					.map(f -> f.lemmaOrWord().replaceAll("\\p{P}", "").trim().toLowerCase())
-					.filter(f -> !f.isEmpty())
-					.collect(Collectors.toSet());
-
-			boolean dropSentence = rankedSents
-					.subList(0, i)
-					.stream()
-					.map(e -> e.annotation().tokens().stream()
-							.map(f -> f.lemmaOrWord().replaceAll("\\p{P}", "").trim().toLowerCase())
-							.filter(f -> !f.isEmpty())
-							.collect(Collectors.toSet()))
-					.mapToDouble(e -> countIntersections(currentTokens, e) / (double) currentTokens.size())
-					.anyMatch(e -> e >= dropCooccurrentThreshold);
-
-			ServerLogger.get().exdent();
-
-			if (!dropSentence)
-				out.add(currentSent);
-			else
-				ServerLogger.get().trace("Dropping duplicate sentence '" + currentSent.annotation().text() + "' during selection");
-		}
-
-		return out;
+	                                                       double dropCooccurrentThreshold, boolean approximate) {
+		return DuplicateSentenceFilter.filter(rankedSents, dropCooccurrentThreshold, approximate);
 	}
 
 	static final class PreprocessedSentence {
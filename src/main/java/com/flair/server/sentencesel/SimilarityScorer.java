@@ -13,16 +13,27 @@ class SimilarityScorer {
 
 	interface HasInvertedIndexTerms {
 		Collection<InvIdxTerm> terms();
+		int termFrequency(InvIdxTerm term);
 	}
 
 	private final InvertedIndex<InvIdxTerm, InvIdxDocument> invertedIndex;
+	// index statistics are computed upfront as the scorer can be shared between threads
+	private final int numDocs;
+	private final double avgDocLen;
+	private final double avgIdf;
 
 	SimilarityScorer(InvertedIndex<InvIdxTerm, InvIdxDocument> invertedIndex) {
 		this.invertedIndex = invertedIndex;
+		this.numDocs = invertedIndex.numDocuments();
+		this.avgDocLen = invertedIndex.avgDocLength(true);
+		this.avgIdf = invertedIndex.avgIdf(true);
 	}
 
 	SimilarityScorer() {
 		this.invertedIndex = null;
+		this.numDocs = 0;
+		this.avgDocLen = 0;
+		this.avgIdf = 0;
 	}
 
 	double cosine(HasVector vec1, HasVector vec2) {
@@ -37,9 +48,7 @@ class SimilarityScorer {
 			throw new IllegalStateException("Inverted index not initialized for BM25 calculation");
 
 		double score = 0;
-		int numDocs = invertedIndex.numDocuments();
-		double avgDocLen = invertedIndex.avgDocLength(false);
-		Collection<InvIdxTerm> terms1 = doc1.terms();
+		int docLen1 = doc1.terms().size();
 		Collection<InvIdxTerm> terms2 = doc2.terms();
 
 		for (InvIdxTerm term : terms2) {
@@ -48,12 +57,12 @@ class SimilarityScorer {
 			if (df > numDocs / 2.)
 				idf = Math.log(numDocs - df + 0.5) - Math.log(df + 0.5);
 			else
-				idf = Constants.SIMILARITY_BM25_PARAM_EPSILON * invertedIndex.avgIdf(false);
-			long tf = terms1.stream().filter(t -> t.equals(term)).count();
+				idf = Constants.SIMILARITY_BM25_PARAM_EPSILON * avgIdf;
+			int tf = doc1.termFrequency(term);
 
 			double multiplier = idf;
 			multiplier *= tf * (Constants.SIMILARITY_BM25_PARAM_K + 1);
-			multiplier /= (tf + Constants.SIMILARITY_BM25_PARAM_K * (1 - Constants.SIMILARITY_BM25_PARAM_B + (Constants.SIMILARITY_BM25_PARAM_B * terms1.size() / avgDocLen)));
+			multiplier /= (tf + Constants.SIMILARITY_BM25_PARAM_K * (1 - Constants.SIMILARITY_BM25_PARAM_B + (Constants.SIMILARITY_BM25_PARAM_B * docLen1 / avgDocLen)));
 
 			score += multiplier;
 		}
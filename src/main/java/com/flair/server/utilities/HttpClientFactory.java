@@ -1,6 +1,5 @@
 package com.flair.server.utilities;
 
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.config.Registry;
@@ -8,22 +7,32 @@ import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContextBuilder;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /*
- * Generates HttpClient instances for crawlers
+ * Owns the HttpClient shared by the crawlers and search agents
+ * The client is backed by a bounded connection pool, so connections and TLS sessions are reused across requests
+ * Response content must always be consumed or closed for its connection to be returned to the pool
  */
 public class HttpClientFactory {
 	private static final int CONNECT_TIMEOUT = 10 * 1000;
 	private static final int REQUEST_TIMEOUT = 10 * 1000;
 	private static final int SOCKET_TIMEOUT = 10 * 1000;
 
+	private static final int MAX_TOTAL_CONNECTIONS = 512;
+	private static final int MAX_CONNECTIONS_PER_ROUTE = 8;
+	private static final int VALIDATE_AFTER_INACTIVITY = 2 * 1000;
+	private static final long IDLE_CONNECTION_TIMEOUT = 30;    // in seconds
+
 	private static final HttpClientFactory INSTANCE = new HttpClientFactory();
 
 	public static HttpClientFactory get() {
@@ -36,10 +45,14 @@ public class HttpClientFactory {
 	}
 
 	private final Type type;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private volatile CloseableHttpClient client;
 
 	private HttpClientFactory() {
 		// HACK!
 		type = Type.FULL_TRUST;
+		connectionManager = null;
+		client = null;
 	}
 
 	private RequestConfig getDefaultRequestConfig() {
@@ -53,50 +66,83 @@ public class HttpClientFactory {
 		return config;
 	}
 
-	private HttpClient getDefaultHttpClient() {
-		HttpClient httpClient = HttpClients.custom()
-				.setDefaultRequestConfig(getDefaultRequestConfig())
-				.build();
+	private static Registry<ConnectionSocketFactory> getFullTrustSocketFactoryRegistry() throws Exception {
+		/*
+		 * ### HACK to ignore SSL self-signed certificate errors
+		 * NOTE: ONLY USE THIS ON ENTIRELY TRUSTED NETWORKS
+		 */
+		SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, (arg0, arg1) -> true).build();
+
+		// or SSLConnectionSocketFactory.getDefaultHostnameVerifier(), if you don't want to weaken
+		HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER;
 
-		return httpClient;
+		SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
+		return RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", sslSocketFactory)
+				.build();
 	}
 
-	public HttpClient create() {
-		switch (type) {
-		case FULL_TRUST: {
-			/*
-			 * ### HACK to ignore SSL self-signed certificate errors
-			 * NOTE: ONLY USE THIS ON ENTIRELY TRUSTED NETWORKS
-			 */
+	private PoolingHttpClientConnectionManager createConnectionManager() {
+		PoolingHttpClientConnectionManager connMgr = null;
+		if (type == Type.FULL_TRUST) {
 			try {
-				HttpClientBuilder b = HttpClientBuilder.create();
+				connMgr = new PoolingHttpClientConnectionManager(getFullTrustSocketFactoryRegistry());
+			} catch (Throwable ex) {
+				ServerLogger.get().error(ex, "Couldn't create custom HttpClient connection manager. Falling back to default");
+			}
+		}
 
-				SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, (arg0, arg1) -> true).build();
-				b.setSslcontext(sslContext);
+		if (connMgr == null)
+			connMgr = new PoolingHttpClientConnectionManager();
 
-				// or SSLConnectionSocketFactory.getDefaultHostnameVerifier(), if you don't want to weaken
-				HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER;
+		connMgr.setMaxTotal(MAX_TOTAL_CONNECTIONS);
+		connMgr.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+		connMgr.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+		return connMgr;
+	}
 
-				SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
-				Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
-						.register("http", PlainConnectionSocketFactory.getSocketFactory())
-						.register("https", sslSocketFactory)
+	// returns the shared client, which is safe to use from multiple threads
+	public CloseableHttpClient client() {
+		CloseableHttpClient current = client;
+		if (current != null)
+			return current;
+
+		synchronized (this) {
+			if (client == null) {
+				connectionManager = createConnectionManager();
+				client = HttpClientBuilder.create()
+						.setConnectionManager(connectionManager)
+						.setDefaultRequestConfig(getDefaultRequestConfig())
+						.evictExpiredConnections()
+						.evictIdleConnections(IDLE_CONNECTION_TIMEOUT, TimeUnit.SECONDS)
 						.build();
-
-				// allows multi-threaded use
-				PoolingHttpClientConnectionManager connMgr = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-				b.setConnectionManager(connMgr);
-
-				b.setDefaultRequestConfig(getDefaultRequestConfig());
-				return b.build();
-			} catch (Throwable ex) {
-				ServerLogger.get().error(ex, "Couldn't create custom HttpClient. Falling back to defaualt");
-				return getDefaultHttpClient();
 			}
+
+			return client;
 		}
-		case DEFAULT:
-		default:
-			return getDefaultHttpClient();
+	}
+
+	public synchronized PoolStats stats() {
+		if (connectionManager == null)
+			return new PoolStats(0, 0, 0, MAX_TOTAL_CONNECTIONS);
+		else
+			return connectionManager.getTotalStats();
+	}
+
+	// closes the shared client and its pooled connections - a new client is created on the next call to client()
+	public synchronized void shutdown() {
+		if (client == null)
+			return;
+
+		ServerLogger.get().info("HttpClient connection pool: " + connectionManager.getTotalStats());
+		try {
+			client.close();
+		} catch (IOException ex) {
+			ServerLogger.get().error(ex, "Couldn't close HttpClient. Exception: " + ex.toString());
 		}
+
+		client = null;
+		connectionManager = null;
 	}
 }
@@ -5,9 +5,7 @@ import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.*;
 
 /*
  * Represents an inverted index of postings that map terms (words) to their
@@ -140,6 +138,35 @@ public class InvertedIndex<T, D> {
 		avgIdf = Double.MAX_VALUE;
 	}
 
+	// removes all of the document's terms, terms that no longer occur in any document are dropped from the index
+	// the IDs of the remaining terms are left unchanged
+	public void removeDocument(D sourceDoc) {
+		DocumentData<T> docData = sourceDocs.remove(sourceDoc);
+		if (docData == null)
+			return;
+
+		for (T term : docData.terms) {
+			int termId = term2id.get(term);
+			if (termId == term2id.getNoEntryValue())
+				continue;       // duplicate occurrence of an already removed term
+
+			Posting<D> posting = id2posting.get(termId);
+			posting.doc2Freq.remove(sourceDoc);
+			if (posting.documentFrequency() == 0) {
+				term2id.remove(term);
+				id2posting.remove(termId);
+			}
+		}
+
+		// flag for recalculation
+		avgDocLength = -1;
+		avgIdf = Double.MAX_VALUE;
+	}
+
+	public boolean hasDocument(D sourceDoc) {
+		return sourceDocs.containsKey(sourceDoc);
+	}
+
 	public int termFrequency(T term, D source) {
 		Posting<D> existing = getPosting(term);
 		int out = 0;
@@ -154,6 +181,15 @@ public class InvertedIndex<T, D> {
 		return out;
 	}
 
+	// returns the documents in which the term occurs
+	public Set<D> termDocuments(T term) {
+		Posting<D> existing = getPosting(term);
+		if (existing != null)
+			return Collections.unmodifiableSet(existing.doc2Freq.keySet());
+		else
+			return Collections.emptySet();
+	}
+
 	public int termDocumentFrequency(T term) {
 		Posting existing = getPosting(term);
 		if (existing != null)
@@ -6,69 +6,139 @@ import gnu.trove.map.hash.TIntDoubleHashMap;
 import java.util.Arrays;
 
 /*
- * A very basic implementation of a sparse array/vector of double precision floating point values
+ * An immutable sparse array/vector of double precision floating point values
+ * Non-zero elements are stored in parallel arrays sorted by their index, so operations on pairs of vectors cost O(nnz)
  */
-public class SparseDoubleVector {
-	private final TIntDoubleMap backingStore;
+public final class SparseDoubleVector {
+	public static final class Builder {
+		private final int length;
+		private TIntDoubleMap elements;     // null once the builder is frozen
+
+		private Builder(int length) {
+			if (length < 0)
+				throw new IllegalArgumentException("Invalid sparse vector length " + length);
+
+			this.length = length;
+			this.elements = new TIntDoubleHashMap();
+		}
+
+		private void checkNotFrozen() {
+			if (elements == null)
+				throw new IllegalStateException("Sparse vector has already been built");
+		}
+
+		public Builder set(int index, double val) {
+			checkNotFrozen();
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException("Index " + index + " must be less than " + length);
+
+			if (val == 0)
+				elements.remove(index);
+			else
+				elements.put(index, val);
+			return this;
+		}
+
+		private SparseDoubleVector build(boolean normalize) {
+			checkNotFrozen();
+
+			int[] indices = elements.keys();
+			Arrays.sort(indices);
+			double[] values = new double[indices.length];
+			for (int i = 0; i < indices.length; i++)
+				values[i] = elements.get(indices[i]);
+
+			if (normalize) {
+				double magnitude = magnitude(values);
+				// zero vectors have no direction, so they are left as they are
+				if (magnitude != 0) {
+					for (int i = 0; i < values.length; i++)
+						values[i] /= magnitude;
+				}
+			}
+
+			elements = null;
+			return new SparseDoubleVector(length, indices, values, normalize);
+		}
+
+		public SparseDoubleVector build() {
+			return build(false);
+		}
+
+		// builds the unit vector
+		public SparseDoubleVector buildNormalized() {
+			return build(true);
+		}
+	}
+
+	public static Builder builder(int length) {
+		return new Builder(length);
+	}
+
+	private static double magnitude(double[] values) {
+		double out = 0;
+		for (double itr : values)
+			out += itr * itr;
+		return Math.sqrt(out);
+	}
+
 	private final int length;
-	private boolean normalized;
+	private final int[] indices;        // sorted in ascending order
+	private final double[] values;
+	private final boolean normalized;
 
-	public SparseDoubleVector(int length) {
-		this.backingStore = new TIntDoubleHashMap();
+	private SparseDoubleVector(int length, int[] indices, double[] values, boolean normalized) {
 		this.length = length;
-		this.normalized = true;
+		this.indices = indices;
+		this.values = values;
+		this.normalized = normalized;
 	}
 
-	public double get(int index) {
-		if (index >= length)
+	private int find(int index) {
+		if (index < 0 || index >= length)
 			throw new IndexOutOfBoundsException("Index " + index + " must be less than " + length);
 
-		double val = backingStore.get(index);
-		if (val == backingStore.getNoEntryValue())
-			return 0;
-		else
-			return val;
+		return Arrays.binarySearch(indices, index);
 	}
 
-	public void set(int index, double val) {
-		if (index >= length)
-			throw new IndexOutOfBoundsException("Index " + index + " must be less than " + length);
+	public int length() {
+		return length;
+	}
 
-		backingStore.put(index, val);
-		normalized = false;
+	public int nonZeroCount() {
+		return indices.length;
 	}
 
-	public boolean isZero(int index) {
-		if (index >= length)
-			throw new IndexOutOfBoundsException("Index " + index + " must be less than " + length);
+	public double get(int index) {
+		int slot = find(index);
+		return slot < 0 ? 0 : values[slot];
+	}
 
-		return !backingStore.containsKey(index);
+	public boolean isZero(int index) {
+		return find(index) < 0;
 	}
 
 	public double dot(SparseDoubleVector rhs) {
 		if (length != rhs.length)
 			throw new IllegalArgumentException("Mismatching sparse vector lengths");
 
+		// merge-join on the sorted indices
 		double out = 0;
-		for (int i = 0; i < length; ++i) {
-			if (isZero(i) || rhs.isZero(i))
-				continue;
-			out += get(i) * rhs.get(i);
+		int i = 0, j = 0;
+		while (i < indices.length && j < rhs.indices.length) {
+			int lhsIndex = indices[i], rhsIndex = rhs.indices[j];
+			if (lhsIndex == rhsIndex)
+				out += values[i++] * rhs.values[j++];
+			else if (lhsIndex < rhsIndex)
+				++i;
+			else
+				++j;
 		}
 		return out;
 	}
 
 	public double magnitude() {
-		double out = 0;
-		for (double itr : backingStore.values())
-			out += itr * itr;
-		return Math.sqrt(out);
-	}
-
-	public void normalize() {
-		double magnitude = magnitude();
-		Arrays.stream(backingStore.keys()).forEach(k -> backingStore.put(k, magnitude * backingStore.get(k)));
-		normalized = true;
+		return magnitude(values);
 	}
 
 	public boolean isNormalized() {
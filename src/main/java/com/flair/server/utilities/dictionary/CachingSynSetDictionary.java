@@ -0,0 +1,218 @@
+package com.flair.server.utilities.dictionary;
+
+import com.flair.shared.grammar.Language;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Memoizes the synset lookups of another dictionary, keyed by the lemma and its coarse part-of-speech
+ * Entries are kept in a fixed number of independently locked LRU segments. Synsets are shared between all cached
+ * lookups, so the same synset is always returned as the same instance
+ */
+public final class CachingSynSetDictionary implements SynSetDictionary {
+	public static final class Stats {
+		public final long hits;
+		public final long misses;
+		public final long evictions;
+		public final long preloaded;
+		public final int entries;
+		public final int synsets;
+
+		private Stats(long hits, long misses, long evictions, long preloaded, int entries, int synsets) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.preloaded = preloaded;
+			this.entries = entries;
+			this.synsets = synsets;
+		}
+
+		public double hitRatio() {
+			long lookups = hits + misses;
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+
+		@Override
+		public String toString() {
+			return "Hits[" + hits + "] Misses[" + misses + "] Hit Ratio[" + String.format("%.3f", hitRatio())
+					+ "] Evictions[" + evictions + "] Preloaded[" + preloaded + "] Entries[" + entries + "] SynSets["
+					+ synsets + "]";
+		}
+	}
+
+	private static final class Key {
+		final String lemma;
+		final String coarsePos;
+		final int hash;
+
+		Key(String lemma, String coarsePos) {
+			this.lemma = lemma;
+			this.coarsePos = coarsePos;
+			this.hash = 31 * lemma.hashCode() + coarsePos.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			Key key = (Key) o;
+			return hash == key.hash && lemma.equals(key.lemma) && coarsePos.equals(key.coarsePos);
+		}
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private final class Segment {
+		final LinkedHashMap<Key, List<SynSet>> entries;
+
+		Segment(int capacity) {
+			entries = new LinkedHashMap<Key, List<SynSet>>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, List<SynSet>> eldest) {
+					if (size() <= capacity)
+						return false;
+
+					evictions.incrementAndGet();
+					return true;
+				}
+			};
+		}
+	}
+
+	private final SynSetDictionary source;
+	private final int capacity;
+	private final Segment[] segments;
+	// bounded by the no. of synsets in the source dictionary
+	private final ConcurrentHashMap<SynSet, SynSet> synsets;
+
+	private final AtomicLong hits;
+	private final AtomicLong misses;
+	private final AtomicLong evictions;
+	private final AtomicLong preloaded;
+
+	public CachingSynSetDictionary(SynSetDictionary source, int capacity, int numSegments) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Invalid cache capacity " + capacity);
+		else if (numSegments < 1 || numSegments > capacity)
+			throw new IllegalArgumentException("Invalid no. of cache segments " + numSegments);
+
+		this.source = source;
+		this.capacity = capacity;
+		this.segments = new Segment[numSegments];
+		for (int i = 0; i < numSegments; i++)
+			segments[i] = new Segment((capacity + numSegments - 1) / numSegments);
+		this.synsets = new ConcurrentHashMap<>();
+		this.hits = new AtomicLong(0);
+		this.misses = new AtomicLong(0);
+		this.evictions = new AtomicLong(0);
+		this.preloaded = new AtomicLong(0);
+	}
+
+	private Segment segment(Key key) {
+		int hash = key.hash ^ (key.hash >>> 16);
+		return segments[(hash & Integer.MAX_VALUE) % segments.length];
+	}
+
+	private List<SynSet> load(String lemma, String pos) {
+		List<? extends SynSet> result = source.lookup(lemma, pos);
+		if (result.isEmpty())
+			return Collections.emptyList();
+
+		List<SynSet> out = new ArrayList<>(result.size());
+		for (SynSet synset : result) {
+			SynSet shared = synsets.putIfAbsent(synset, synset);
+			out.add(shared != null ? shared : synset);
+		}
+		return Collections.unmodifiableList(out);
+	}
+
+	// the source is queried outside the segment's lock, concurrent misses on the same key keep the first result
+	private List<SynSet> get(Key key, String pos, boolean preload) {
+		Segment segment = segment(key);
+		synchronized (segment) {
+			List<SynSet> cached = segment.entries.get(key);
+			if (cached != null) {
+				if (!preload)
+					hits.incrementAndGet();
+				return cached;
+			}
+		}
+
+		if (preload)
+			preloaded.incrementAndGet();
+		else
+			misses.incrementAndGet();
+
+		List<SynSet> loaded = load(key.lemma, pos);
+		synchronized (segment) {
+			List<SynSet> existing = segment.entries.putIfAbsent(key, loaded);
+			return existing != null ? existing : loaded;
+		}
+	}
+
+	@Override
+	public Language language() {
+		return source.language();
+	}
+	@Override
+	public List<? extends SynSet> lookup(String lemma, String pos) {
+		String coarsePos = pos != null ? source.coarsePos(pos) : null;
+		if (coarsePos == null)
+			return Collections.emptyList();
+
+		return get(new Key(lemma, coarsePos), pos, false);
+	}
+	@Override
+	public String lemma(String word, String pos) {
+		return source.lemma(word, pos);
+	}
+	@Override
+	public String coarsePos(String pos) {
+		return source.coarsePos(pos);
+	}
+	@Override
+	public Collection<String> posTags() {
+		return source.posTags();
+	}
+
+	/*
+	 * Looks up the given lemmas for every supported part-of-speech, in order (most frequent lemmas first)
+	 * Stops once the cache is full. Preloaded lookups don't count towards the hit ratio
+	 */
+	public void preload(Collection<String> lemmas) {
+		for (String lemma : lemmas) {
+			for (String pos : source.posTags()) {
+				if (size() >= capacity)
+					return;
+
+				String coarsePos = source.coarsePos(pos);
+				if (coarsePos != null)
+					get(new Key(lemma, coarsePos), pos, true);
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	public Stats stats() {
+		return new Stats(hits.get(), misses.get(), evictions.get(), preloaded.get(), size(), synsets.size());
+	}
+}
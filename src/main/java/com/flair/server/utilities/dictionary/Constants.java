@@ -0,0 +1,8 @@
+package com.flair.server.utilities.dictionary;
+
+class Constants {
+	// no. of (lemma, part-of-speech) lookups retained by the cached WordNet dictionary
+	static final int WORDNET_CACHE_CAPACITY = 50000;
+	// no. of independently locked LRU segments of the cache
+	static final int WORDNET_CACHE_SEGMENTS = 16;
+}
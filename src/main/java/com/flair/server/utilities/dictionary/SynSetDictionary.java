@@ -2,6 +2,7 @@ package com.flair.server.utilities.dictionary;
 
 import com.flair.shared.grammar.Language;
 
+import java.util.Collection;
 import java.util.List;
 
 /*
@@ -17,4 +18,6 @@ public interface SynSetDictionary {
 	Language language();
 	List<? extends SynSet> lookup(String lemma, String pos);
 	String lemma(String word, String pos);
+	String coarsePos(String pos);          // the part-of-speech that lookups depend on, null if the tag isn't supported
+	Collection<String> posTags();          // one tag for each supported coarse part-of-speech
 }
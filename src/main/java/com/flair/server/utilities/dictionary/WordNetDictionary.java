@@ -8,6 +8,9 @@ import net.sf.extjwnl.data.Synset;
 import net.sf.extjwnl.dictionary.Dictionary;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /*
@@ -15,6 +18,9 @@ import java.util.List;
  */
 public class WordNetDictionary implements SynSetDictionary {
 	private static final WordNetDictionary DEFAULT_INSTANCE = new WordNetDictionary();
+	private static final CachingSynSetDictionary CACHED_INSTANCE = new CachingSynSetDictionary(DEFAULT_INSTANCE,
+			Constants.WORDNET_CACHE_CAPACITY, Constants.WORDNET_CACHE_SEGMENTS);
+	private static final Collection<String> POS_TAGS = Collections.unmodifiableList(Arrays.asList("JJ", "RB", "NN", "VB"));
 
 	static final class SynSet implements SynSetDictionary.SynSet {
 		final Synset source;
@@ -80,6 +86,7 @@ public class WordNetDictionary implements SynSetDictionary {
 	public Language language() {
 		return Language.ENGLISH;
 	}
+	// synsets are tagged with their coarse part-of-speech
 	@Override
 	public List<? extends SynSetDictionary.SynSet> lookup(String lemma, String pos) {
 		List<SynSet> out = new ArrayList<>();
@@ -93,7 +100,7 @@ public class WordNetDictionary implements SynSetDictionary {
 				for (long offset : indexWord.getSynsetOffsets()) {
 					Synset synset = dict.getSynsetAt(indexWord.getPOS(), offset);
 					if (synset != null)
-						out.add(new SynSet(synset, pos));
+						out.add(new SynSet(synset, partOfSpeech.getLabel()));
 				}
 			}
 		} catch (Throwable e) {
@@ -120,7 +127,25 @@ public class WordNetDictionary implements SynSetDictionary {
 		return lemma;
 	}
 
+	@Override
+	public String coarsePos(String pos) {
+		POS partOfSpeech = parsePosTag(pos);
+		return partOfSpeech != null ? partOfSpeech.getLabel() : null;
+	}
+	@Override
+	public Collection<String> posTags() {
+		return POS_TAGS;
+	}
+
+	public boolean isLoaded() {
+		return dict != null;
+	}
+
 	public static WordNetDictionary defaultInstance() {
 		return DEFAULT_INSTANCE;
 	}
+	// shares its synsets between lookups, which makes them comparable by identity
+	public static CachingSynSetDictionary cachedInstance() {
+		return CACHED_INSTANCE;
+	}
 }
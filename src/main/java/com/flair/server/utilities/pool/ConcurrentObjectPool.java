@@ -0,0 +1,141 @@
+package com.flair.server.utilities.pool;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size blocking object pool with a lock-free checkout path and wait-time metrics
+ */
+public class ConcurrentObjectPool<T> {
+	public static final class Stats {
+		public final int poolSize;
+		public final int available;
+		public final long checkouts;
+		public final long contendedCheckouts;      // checkouts that had to wait for a resource
+		public final long totalWaitTime;           // in milliseconds
+		public final long maxWaitTime;             // in milliseconds
+
+		private Stats(int poolSize, int available, long checkouts, long contendedCheckouts, long totalWaitTime, long maxWaitTime) {
+			this.poolSize = poolSize;
+			this.available = available;
+			this.checkouts = checkouts;
+			this.contendedCheckouts = contendedCheckouts;
+			this.totalWaitTime = totalWaitTime;
+			this.maxWaitTime = maxWaitTime;
+		}
+
+		public double averageWaitTime() {
+			return checkouts == 0 ? 0 : (double) totalWaitTime / checkouts;
+		}
+
+		@Override
+		public String toString() {
+			return "Size[" + poolSize + "] Available[" + available + "] Checkouts[" + checkouts + ", Contended: "
+					+ contendedCheckouts + "] Wait[Total: " + totalWaitTime + " ms, Max: " + maxWaitTime + " ms]";
+		}
+	}
+
+	private final class AcquiredResource implements SimpleObjectPoolResource<T> {
+		private final T resource;
+		private final AtomicBoolean valid;
+
+		AcquiredResource(T resource) {
+			if (resource == null)
+				throw new IllegalStateException("Pool returned an invalid resource");
+
+			this.resource = resource;
+			this.valid = new AtomicBoolean(true);
+		}
+
+		@Override
+		public T get() {
+			if (!valid.get())
+				throw new IllegalStateException("Resource already released");
+
+			return resource;
+		}
+
+		@Override
+		public void close() {
+			if (valid.compareAndSet(true, false))
+				put(resource);
+		}
+	}
+
+	private final int poolSize;
+	private final Semaphore synchronizer;
+	private final ConcurrentLinkedQueue<T> idle;
+
+	private final LongAdder checkouts;
+	private final LongAdder contendedCheckouts;
+	private final LongAdder totalWaitNanos;
+	private final LongAccumulator maxWaitNanos;
+
+	public ConcurrentObjectPool(int poolSize, SimpleObjectPool.Factory<T> factory) {
+		if (poolSize <= 0)
+			throw new IllegalArgumentException("Invalid pool size " + poolSize);
+
+		this.poolSize = poolSize;
+		this.synchronizer = new Semaphore(0);
+		this.idle = new ConcurrentLinkedQueue<>();
+		this.checkouts = new LongAdder();
+		this.contendedCheckouts = new LongAdder();
+		this.totalWaitNanos = new LongAdder();
+		this.maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+		// resources are created up front so that the first checkouts don't pay for their initialization
+		for (int i = 0; i < poolSize; i++)
+			put(factory.create());
+	}
+
+	private void put(T resource) {
+		// the resource must be visible in the queue before its permit is
+		idle.offer(resource);
+		synchronizer.release();
+	}
+
+	public final SimpleObjectPoolResource<T> get() throws InterruptedException {
+		if (!synchronizer.tryAcquire()) {
+			long waitStart = System.nanoTime();
+			synchronizer.acquire();
+			long waitTime = System.nanoTime() - waitStart;
+
+			contendedCheckouts.increment();
+			totalWaitNanos.add(waitTime);
+			maxWaitNanos.accumulate(waitTime);
+		}
+
+		checkouts.increment();
+		return new AcquiredResource(idle.poll());
+	}
+
+	// returns null if all resources are checked out
+	public final SimpleObjectPoolResource<T> tryGet() {
+		if (!synchronizer.tryAcquire())
+			return null;
+
+		checkouts.increment();
+		return new AcquiredResource(idle.poll());
+	}
+
+	public int size() {
+		return poolSize;
+	}
+
+	public int available() {
+		return synchronizer.availablePermits();
+	}
+
+	public Stats stats() {
+		return new Stats(poolSize,
+				available(),
+				checkouts.sum(),
+				contendedCheckouts.sum(),
+				TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()),
+				TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+	}
+}
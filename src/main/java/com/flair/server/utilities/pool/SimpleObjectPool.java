@@ -61,7 +61,7 @@ public class SimpleObjectPool<T> {
 		}
 
 		@Override
-		public void close() throws Exception {
+		public void close() {
 			put(resource);
 			valid = false;
 		}
@@ -6,4 +6,8 @@ package com.flair.server.utilities.pool;
  */
 public interface SimpleObjectPoolResource<T extends Object> extends AutoCloseable {
 	public T get();
+
+	// returns the resource to its pool
+	@Override
+	public void close();
 }
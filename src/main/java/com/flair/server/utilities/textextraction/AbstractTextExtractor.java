@@ -2,7 +2,7 @@
 package com.flair.server.utilities.textextraction;
 
 import com.flair.server.utilities.HttpClientFactory;
-import org.apache.http.client.HttpClient;
+import com.flair.server.utilities.ServerLogger;
 import org.apache.http.client.methods.HttpGet;
 
 import java.io.IOException;
@@ -32,8 +32,19 @@ public abstract class AbstractTextExtractor {
 		get.setHeader("User-Agent", "Mozilla/4.76");
 		get.setHeader("Referer", "google.com");
 
-		HttpClient client = HttpClientFactory.get().create();
-		return client.execute(get).getEntity().getContent();
+		// the stream must be closed by the caller to release the pooled connection
+		return HttpClientFactory.get().client().execute(get).getEntity().getContent();
+	}
+
+	protected static void closeURLStream(InputStream stream) {
+		if (stream == null)
+			return;
+
+		try {
+			stream.close();
+		} catch (IOException ex) {
+			ServerLogger.get().warn("Couldn't close URL stream. Exception: " + ex.toString());
+		}
 	}
 
 	public static class Input {
@@ -6,6 +6,8 @@ import de.l3s.boilerpipe.extractors.ArticleExtractor;
 import de.l3s.boilerpipe.extractors.DefaultExtractor;
 import org.xml.sax.InputSource;
 
+import java.io.InputStream;
+
 /**
  * Boilerpipe implementation of a text extractor
  */
@@ -18,6 +20,7 @@ class BoilerpipeTextExtractor extends AbstractTextExtractor {
 	public Output extractText(Input input) {
 		boolean error = false;
 		String pageText = "";
+		InputStream urlStream = null;
 
 		try {
 			InputSource source = new InputSource();
@@ -25,7 +28,8 @@ class BoilerpipeTextExtractor extends AbstractTextExtractor {
 
 			switch (input.sourceType) {
 			case URL:
-				source.setByteStream(openURLStream(input.url));
+				urlStream = openURLStream(input.url);
+				source.setByteStream(urlStream);
 				break;
 			case STREAM:
 				source.setByteStream(input.stream);
@@ -36,6 +40,8 @@ class BoilerpipeTextExtractor extends AbstractTextExtractor {
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "Couldn't extract text. Exception: " + ex.toString());
 			error = true;
+		} finally {
+			closeURLStream(urlStream);
 		}
 
 		// boilerpipe always assumes that the stream is text/html
@@ -30,9 +30,9 @@ class TikaTextExtractor extends AbstractTextExtractor {
 		String pageText = "";
 		MediaType streamType = MediaType.EMPTY;
 		boolean isHtml = false;
+		InputStream read = null;
 
 		try {
-			InputStream read = null;
 			switch (input.sourceType) {
 			case URL:
 				read = openURLStream(input.url);
@@ -74,6 +74,9 @@ class TikaTextExtractor extends AbstractTextExtractor {
 		} catch (Throwable ex) {
 			ServerLogger.get().error(ex, "Couldn't extract text. Exception: " + ex.toString());
 			error = true;
+		} finally {
+			if (input.sourceType == Input.SourceType.URL)
+				closeURLStream(read);
 		}
 
 		return new Output(input, error == false, pageText, isHtml);
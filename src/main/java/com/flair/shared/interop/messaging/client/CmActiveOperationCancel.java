@@ -3,7 +3,16 @@ package com.flair.shared.interop.messaging.client;
 import com.flair.shared.interop.messaging.Message;
 
 public class CmActiveOperationCancel implements Message.Payload {
+	// a session can have multiple active operations
+	public enum Target {
+		ALL,
+		WEB_SEARCH,
+		CUSTOM_CORPUS,
+		QUESTION_GEN
+	}
+
 	private boolean activeOperationExpected = true;
+	private Target target = Target.ALL;
 
 	public CmActiveOperationCancel() {}
 
@@ -13,12 +22,18 @@ public class CmActiveOperationCancel implements Message.Payload {
 	public void setActiveOperationExpected(boolean activeOperationExpected) {
 		this.activeOperationExpected = activeOperationExpected;
 	}
+	public Target getTarget() {
+		return target;
+	}
+	public void setTarget(Target target) {
+		this.target = target;
+	}
 	@Override
 	public String name() {
 		return "CmActiveOperationCancel";
 	}
 	@Override
 	public String desc() {
-		return "";
+		return "Target: " + target;
 	}
 }
@@ -0,0 +1,307 @@
+package edu.cmu.ark;
+
+import com.flair.server.utilities.ServerLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+
+/**
+ * Read-only, compiled form of a trained DiscriminativeTagger's supersense model.
+ * <p>
+ * Feature names are replaced by their 64-bit hashes (see SuperSenseFeatureExtractor.featureHash()), which are mapped
+ * to dense feature indexes by an open-addressing hash table. Weights are stored feature-major, so the scores of all
+ * labels for a feature are contiguous. The binary format is memory-mapped as-is when loaded.
+ * <p>
+ * Unlike DiscriminativeTagger, decoding doesn't share any mutable state and is thread-safe.
+ */
+public final class CompiledSuperSenseModel {
+	public static final String BINARY_EXTENSION = ".bin";
+
+	private static final int BINARY_MAGIC = 0x53535431;      // "SST1"
+	private static final int BINARY_VERSION = 1;
+	private static final long EMPTY_SLOT = 0;
+
+	private final String[] labels;
+	private final int numFeatures;
+	private final LongBuffer slotHashes;        // EMPTY_SLOT if unused
+	private final IntBuffer slotFeatures;
+	private final int slotMask;
+	private final int[] prevLabelFeatures;      // feature index of "prevLabel=<label>" for each label
+	private final DoubleBuffer weights;         // numFeatures * labels.length, feature-major
+	private final boolean useBIConstraint;
+	private final boolean[][] allowedTransitions;   // [previous label][current label]
+
+	private CompiledSuperSenseModel(String[] labels, int numFeatures, LongBuffer slotHashes, IntBuffer slotFeatures,
+	                                int[] prevLabelFeatures, DoubleBuffer weights, boolean useBIConstraint) {
+		this.labels = labels;
+		this.numFeatures = numFeatures;
+		this.slotHashes = slotHashes;
+		this.slotFeatures = slotFeatures;
+		this.slotMask = slotHashes.capacity() - 1;
+		this.prevLabelFeatures = prevLabelFeatures;
+		this.weights = weights;
+		this.useBIConstraint = useBIConstraint;
+
+		// assumes that tags are formatted B-class1, I-class1, etc.
+		allowedTransitions = new boolean[labels.length][labels.length];
+		for (int k = 0; k < labels.length; k++) {
+			for (int j = 0; j < labels.length; j++) {
+				String prevLabel = labels[k], label = labels[j];
+				allowedTransitions[k][j] = !useBIConstraint || label.charAt(0) != 'I'
+						|| (!prevLabel.equals("0") && prevLabel.substring(2).equals(label.substring(2)));
+			}
+		}
+	}
+
+	private static long normalizeHash(long hash) {
+		return hash == EMPTY_SLOT ? 1 : hash;
+	}
+
+	private static int slot(long hash, int mask) {
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	// returns the dense index of the feature or -1 if it's not a part of the model
+	private int featureIndex(long hash) {
+		hash = normalizeHash(hash);
+		for (int i = slot(hash, slotMask); ; i = (i + 1) & slotMask) {
+			long current = slotHashes.get(i);
+			if (current == hash)
+				return slotFeatures.get(i);
+			else if (current == EMPTY_SLOT)
+				return -1;
+		}
+	}
+
+	/**
+	 * Compiles a trained tagger's model
+	 */
+	public static CompiledSuperSenseModel compile(DiscriminativeTagger tagger) {
+		String[] labels = tagger.getLabels().toArray(new String[0]);
+		Map<String, Integer> featureIndexes = tagger.getFeatureIndexes();
+		double[] sourceWeights = tagger.getWeights();
+		int numFeatures = featureIndexes.size();
+
+		int capacity = Integer.highestOneBit(Math.max(numFeatures, 1) * 2) * 2;
+		long[] slotHashes = new long[capacity];
+		int[] slotFeatures = new int[capacity];
+		for (Map.Entry<String, Integer> itr : featureIndexes.entrySet()) {
+			long hash = normalizeHash(SuperSenseFeatureExtractor.featureHash(itr.getKey()));
+			int i = slot(hash, capacity - 1);
+			while (slotHashes[i] != EMPTY_SLOT) {
+				if (slotHashes[i] == hash)
+					throw new IllegalStateException("Feature hash collision for '" + itr.getKey() + "'");
+				i = (i + 1) & (capacity - 1);
+			}
+			slotHashes[i] = hash;
+			slotFeatures[i] = itr.getValue();
+		}
+
+		int[] prevLabelFeatures = new int[labels.length];
+		for (int i = 0; i < labels.length; i++) {
+			Integer index = featureIndexes.get("prevLabel=" + labels[i]);
+			if (index == null)
+				throw new IllegalStateException("Missing previous label feature for label '" + labels[i] + "'");
+			prevLabelFeatures[i] = index;
+		}
+
+		// the tagger stores its weights label-major
+		double[] weights = new double[numFeatures * labels.length];
+		for (int j = 0; j < labels.length; j++) {
+			for (int f = 0; f < numFeatures; f++)
+				weights[f * labels.length + j] = sourceWeights[j * numFeatures + f];
+		}
+
+		return new CompiledSuperSenseModel(labels, numFeatures, LongBuffer.wrap(slotHashes), IntBuffer.wrap(slotFeatures),
+				prevLabelFeatures, DoubleBuffer.wrap(weights), tagger.usesBIConstraintInDecoding());
+	}
+
+	private static ByteBuffer slice(ByteBuffer in, int numBytes) {
+		ByteBuffer out = in.slice();
+		out.limit(numBytes);
+		in.position(in.position() + numBytes);
+		return out;
+	}
+
+	/**
+	 * Memory-maps a model that was written by save()
+	 */
+	public static CompiledSuperSenseModel load(String path) throws IOException {
+		ByteBuffer in;
+		try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			// the mapping remains valid after the channel is closed
+			in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (in.getInt() != BINARY_MAGIC)
+			throw new IOException("Not a compiled supersense model");
+		int version = in.getInt();
+		if (version != BINARY_VERSION)
+			throw new IOException("Unexpected compiled supersense model version " + version);
+
+		boolean useBIConstraint = in.getInt() != 0;
+		String[] labels = new String[in.getInt()];
+		for (int i = 0; i < labels.length; i++) {
+			byte[] bytes = new byte[in.getInt()];
+			in.get(bytes);
+			labels[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		int[] prevLabelFeatures = new int[labels.length];
+		for (int i = 0; i < labels.length; i++)
+			prevLabelFeatures[i] = in.getInt();
+
+		int numFeatures = in.getInt();
+		int capacity = in.getInt();
+		LongBuffer slotHashes = slice(in, capacity * Long.BYTES).asLongBuffer();
+		IntBuffer slotFeatures = slice(in, capacity * Integer.BYTES).asIntBuffer();
+		DoubleBuffer weights = slice(in, numFeatures * labels.length * Double.BYTES).asDoubleBuffer();
+
+		return new CompiledSuperSenseModel(labels, numFeatures, slotHashes, slotFeatures, prevLabelFeatures, weights, useBIConstraint);
+	}
+
+	public void save(String path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+			out.writeInt(BINARY_MAGIC);
+			out.writeInt(BINARY_VERSION);
+			out.writeInt(useBIConstraint ? 1 : 0);
+			out.writeInt(labels.length);
+			for (String label : labels) {
+				byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			for (int index : prevLabelFeatures)
+				out.writeInt(index);
+
+			out.writeInt(numFeatures);
+			out.writeInt(slotHashes.capacity());
+			for (int i = 0; i < slotHashes.capacity(); i++)
+				out.writeLong(slotHashes.get(i));
+			for (int i = 0; i < slotFeatures.capacity(); i++)
+				out.writeInt(slotFeatures.get(i));
+			for (int i = 0; i < weights.capacity(); i++)
+				out.writeDouble(weights.get(i));
+		}
+	}
+
+	public int numLabels() {
+		return labels.length;
+	}
+
+	public int numFeatures() {
+		return numFeatures;
+	}
+
+	/**
+	 * Finds the best sequence of labels for the sentence with the Viterbi algorithm and stores them as its predictions.
+	 * Same as DiscriminativeTagger.findBestLabelSequenceViterbi() (without the loss term)
+	 */
+	public void findBestLabelSequenceViterbi(LabeledSentence sent) {
+		int numTokens = sent.length();
+		int numLabels = labels.length;
+		double[][] dpValues = new double[numTokens][numLabels];
+		int[][] dpBackPointers = new int[numTokens][numLabels];
+		long[] featureHashes = new long[SuperSenseFeatureExtractor.MAX_FEATURES_PER_TOKEN];
+		double[] labelScores = new double[numLabels];
+
+		for (int i = 0; i < numTokens; i++) {
+			sent.getPredictions().set(i, null);
+		}
+
+		//for each token
+		for (int i = 0; i < numTokens; i++) {
+			// the predictions are unset, so the previous label's feature is excluded here and added separately below
+			int numFeatures = SuperSenseFeatureExtractor.getInstance().extractFeatureHashes(sent, i, true, featureHashes);
+			Arrays.fill(labelScores, 0.0);
+			for (int f = 0; f < numFeatures; f++) {
+				int index = featureIndex(featureHashes[f]);
+				if (index == -1) //test set features may not have been instantiated from the training data
+					continue;
+
+				int offset = index * numLabels;
+				for (int j = 0; j < numLabels; j++)
+					labelScores[j] += weights.get(offset + j);
+			}
+
+			//for each current label
+			for (int j = 0; j < numLabels; j++) {
+				int maxIndex = -1;
+				double maxScore = Double.NEGATIVE_INFINITY;
+				double tmpScore = labelScores[j];
+				boolean insideLabel = useBIConstraint && labels[j].charAt(0) == 'I';
+
+				//consider each possible previous label
+				for (int k = 0; k < numLabels; k++) {
+					if (insideLabel && (i == 0 || !allowedTransitions[k][j]))
+						continue;
+
+					double score = 0.0;
+					if (i > 0)
+						score = dpValues[i - 1][k];
+					score += tmpScore + weights.get(prevLabelFeatures[k] * numLabels + j);
+
+					if (score > maxScore) {
+						maxScore = score;
+						maxIndex = k;
+					}
+
+					//if this is the first token, there is only one possible previous label
+					if (i == 0)
+						break;
+				}
+
+				dpValues[i][j] = maxScore;
+				dpBackPointers[i][j] = maxIndex;
+			}
+		}
+
+		//extract predictions from backpointers
+		int maxIndex = -1;
+		double maxScore = Double.NEGATIVE_INFINITY;
+		for (int j = 0; j < numLabels; j++) {
+			if (dpValues[numTokens - 1][j] > maxScore) {
+				maxScore = dpValues[numTokens - 1][j];
+				maxIndex = j;
+			}
+		}
+		for (int i = numTokens - 1; i >= 0; i--) {
+			sent.getPredictions().set(i, labels[maxIndex]);
+			maxIndex = dpBackPointers[i][maxIndex];
+		}
+	}
+
+	/**
+	 * Compiles a serialized DiscriminativeTagger model, run by the build when the serialized model is bundled
+	 * Usage: CompiledSuperSenseModel <input .ser.gz> <output .bin>
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2 || !args[1].endsWith(BINARY_EXTENSION)) {
+			System.err.println("Usage: CompiledSuperSenseModel <input .ser.gz> <output " + BINARY_EXTENSION + ">");
+			System.exit(1);
+		}
+
+		// same feature settings as SuperSenseWrapper
+		DiscriminativeTagger.loadProperties(ResourceLoader.path("SuperSenseWrapper.properties"));
+		DiscriminativeTagger tagger = DiscriminativeTagger.loadModel(args[0]);
+		if (tagger == null)
+			throw new IOException("Couldn't load supersense model from " + args[0]);
+
+		CompiledSuperSenseModel model = compile(tagger);
+		model.save(args[1]);
+		ServerLogger.get().info("Compiled " + model.numFeatures() + " features and " + model.numLabels() + " labels to " + args[1]);
+	}
+}
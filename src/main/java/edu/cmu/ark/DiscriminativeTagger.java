@@ -854,6 +854,14 @@ public class DiscriminativeTagger implements Serializable {
 		return finalWeights;
 	}
 
+	Map<String, Integer> getFeatureIndexes() {
+		return featureIndexes;
+	}
+
+	boolean usesBIConstraintInDecoding() {
+		return useBIconstraintInDecoding;
+	}
+
 	public String getSavePrefix() {
 		return savePrefix;
 	}
@@ -1,15 +1,26 @@
 package edu.cmu.ark;
 
 import com.flair.server.utilities.ServerLogger;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TObjectIntHashMap;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataOutputStream;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.zip.GZIPInputStream;
 
 
@@ -17,7 +28,11 @@ import java.util.zip.GZIPInputStream;
  * Class that read in SRILM toolkit-built language models (hopefully of any order) and computes
  * sentence probabilities from them.
  * <p>
- * Not a particularly efficient implementation!
+ * Words are mapped to integer IDs and the n-grams of each order are stored in a table of ID tuples sorted
+ * lexicographically, alongside parallel arrays of their probabilities and back-off weights. Scoring encoded
+ * token sequences is allocation-free. The tables can also be compiled to a binary file (see main()) that's
+ * memory-mapped when loaded. The build compiles the bundled anc-v2-written.lm.gz model to anc-v2-written.lm.bin
+ * in the process-classes phase, so deployed WARs ship with both.
  * <p>
  * Example SRILM command:
  * ngram-count -order 5 -interpolate -kndiscount -text nyt_eng_200601.tok -lm nyt_eng_200601.lm -tolower -unk -prune 1e-6 -vocab my.vocab
@@ -27,148 +42,450 @@ import java.util.zip.GZIPInputStream;
  * @author mheilman
  */
 public class LanguageModel {
-	public LanguageModel(String path) {
-		load(path);
-	}
+	public static final String BINARY_EXTENSION = ".bin";
+	// ID of words that aren't in the vocabulary
+	public static final int UNKNOWN_WORD = -1;
 
+	private static final int BINARY_MAGIC = 0x464c4d31;      // "FLM1"
+	private static final int BINARY_VERSION = 1;
+	private static final String SENTENCE_START = "<s>";
+	private static final String SENTENCE_END = "</s>";
+	private static final String UNKNOWN = "<unk>";
 
-	public double logBase10ProbabilityOfSentence(List<String> tokens) {
-		List<String> tokList = new ArrayList<String>();
-		tokList.add("<s>");
-		tokList.addAll(tokens);
-		tokList.add("</s>");
+	/* n-grams of a single order, sorted by their word IDs */
+	private static final class NGramTable {
+		final int order;
+		final int size;
+		final IntBuffer words;          // size * order IDs
+		final DoubleBuffer probabilities;
+		final DoubleBuffer backOffWeights;    // 0.0 (log 1) if the n-gram has none
 
-		return logBase10ProbabilityOfSequence(tokList);
-	}
+		NGramTable(int order, int size, IntBuffer words, DoubleBuffer probabilities, DoubleBuffer backOffWeights) {
+			this.order = order;
+			this.size = size;
+			this.words = words;
+			this.probabilities = probabilities;
+			this.backOffWeights = backOffWeights;
+		}
 
+		private int compare(int entry, int[] ids, int from) {
+			int offset = entry * order;
+			for (int i = 0; i < order; i++) {
+				int delta = Integer.compare(words.get(offset + i), ids[from + i]);
+				if (delta != 0)
+					return delta;
+			}
+			return 0;
+		}
 
-	public double logBase10ConditionalProbability(List<String> tokList, List<String> givenTokList) {
-		double res = 0.0;
+		// returns the index of the n-gram ids[from, from + order) or -1 if not found
+		int find(int[] ids, int from) {
+			for (int i = from; i < from + order; i++) {
+				if (ids[i] == UNKNOWN_WORD)
+					return -1;
+			}
 
-		List<String> combined = new ArrayList<String>();
-		combined.addAll(givenTokList);
-		combined.addAll(tokList);
+			int lo = 0, hi = size - 1;
+			while (lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				int delta = compare(mid, ids, from);
+				if (delta < 0)
+					lo = mid + 1;
+				else if (delta > 0)
+					hi = mid - 1;
+				else
+					return mid;
+			}
+			return -1;
+		}
 
-		double p1 = logBase10ProbabilityOfSequence(combined);
-		double p2 = logBase10ProbabilityOfSequence(givenTokList);
+		// unigram lookup
+		int find(int id) {
+			if (id == UNKNOWN_WORD)
+				return -1;
 
-		res = p1 - p2;
-		return res;
+			int lo = 0, hi = size - 1;
+			while (lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				int delta = Integer.compare(words.get(mid), id);
+				if (delta < 0)
+					lo = mid + 1;
+				else if (delta > 0)
+					hi = mid - 1;
+				else
+					return mid;
+			}
+			return -1;
+		}
 	}
 
+	/* accumulates the n-grams of a single order while reading the text format */
+	private static final class NGramTableBuilder {
+		final int order;
+		final TIntArrayList words = new TIntArrayList();
+		final TDoubleArrayList probabilities = new TDoubleArrayList();
+		final TDoubleArrayList backOffWeights = new TDoubleArrayList();     // NaN if the entry has none
 
-	public double logBase10ProbabilityOfSequence(List<String> tokList) {
-		double res = 0.0;
-		for (int i = 0; i < tokList.size(); i++) {
-			res += helper(tokList.subList(Math.max(0, i + 1 - maxOrder), i + 1));
+		NGramTableBuilder(int order) {
+			this.order = order;
 		}
-		return res;
-	}
-
 
-	private double helper(List<String> subList) {
-		if (subList.get(subList.size() - 1).equals("<s>")) {
-			return 0.0; //log 1
+		void add(int[] ids, double probability, double backOffWeight) {
+			words.add(ids);
+			probabilities.add(probability);
+			backOffWeights.add(backOffWeight);
 		}
-		String key = key(subList);
-		Double res = frequencies.get(key);
-
-		//ServerLogger.get().info("pr:"+key);
-		if (res == null) {
-			if (subList.size() == 1) {
-				//can't backoff any further
-				res = frequencies.get("<unk>");
-			} else {
-				//log a*b = a+b
-				res = backOff(subList.subList(0, subList.size() - 1)) + helper(subList.subList(1, subList.size()));
+
+		private int compare(int a, int b) {
+			for (int i = 0; i < order; i++) {
+				int delta = Integer.compare(words.getQuick(a * order + i), words.getQuick(b * order + i));
+				if (delta != 0)
+					return delta;
 			}
+			return 0;
 		}
 
-		return res;
-	}
+		// stable merge sort of the entry indices
+		private void sort(int[] entries, int[] scratch, int lo, int hi) {
+			if (hi - lo < 2)
+				return;
 
-	private double backOff(List<String> subList) {
-		String key = key(subList);
-		Double res = backOffWeights.get(key);
+			int mid = (lo + hi) >>> 1;
+			sort(entries, scratch, lo, mid);
+			sort(entries, scratch, mid, hi);
+			if (compare(entries[mid - 1], entries[mid]) <= 0)
+				return;
 
-		//ServerLogger.get().info("backoff:"+key);
-		if (res == null) {
-			res = 0.0; //log(1)
+			System.arraycopy(entries, lo, scratch, lo, hi - lo);
+			for (int i = lo, l = lo, r = mid; i < hi; i++) {
+				if (r >= hi || (l < mid && compare(scratch[l], scratch[r]) <= 0))
+					entries[i] = scratch[l++];
+				else
+					entries[i] = scratch[r++];
+			}
 		}
 
-		return res;
-	}
+		NGramTable build() {
+			int count = probabilities.size();
+			int[] entries = new int[count];
+			for (int i = 0; i < count; i++)
+				entries[i] = i;
+			sort(entries, new int[count], 0, count);
 
+			// n-grams that are listed more than once keep their last probability and last back-off weight
+			TIntArrayList unique = new TIntArrayList(count);
+			TDoubleArrayList uniqueBackOffWeights = new TDoubleArrayList();
+			double backOffWeight = Double.NaN;
+			for (int i = 0; i < count; i++) {
+				if (!Double.isNaN(backOffWeights.getQuick(entries[i])))
+					backOffWeight = backOffWeights.getQuick(entries[i]);
+				if (i + 1 < count && compare(entries[i], entries[i + 1]) == 0)
+					continue;
+
+				unique.add(entries[i]);
+				uniqueBackOffWeights.add(Double.isNaN(backOffWeight) ? 0.0 : backOffWeight);
+				backOffWeight = Double.NaN;
+			}
+
+			int size = unique.size();
+			int[] outWords = new int[size * order];
+			double[] outProbabilities = new double[size];
+			double[] outBackOffWeights = new double[size];
+			for (int i = 0; i < size; i++) {
+				int entry = unique.getQuick(i);
+				for (int j = 0; j < order; j++)
+					outWords[i * order + j] = words.getQuick(entry * order + j);
+				outProbabilities[i] = probabilities.getQuick(entry);
+				outBackOffWeights[i] = uniqueBackOffWeights.getQuick(i);
+			}
 
-	private String key(List<String> subList) {
-		String key = "";
-		for (String w : subList) {
-			key += w.toLowerCase() + " ";
+			return new NGramTable(order, size, IntBuffer.wrap(outWords),
+					DoubleBuffer.wrap(outProbabilities), DoubleBuffer.wrap(outBackOffWeights));
 		}
-		key = key.trim();
-		return key;
 	}
 
-
-	private void load(String filename) {
-		frequencies = new HashMap<String, Double>();
-		backOffWeights = new HashMap<String, Double>();
-		frequencies.put("<unk>", 0.0);  //just in case nothing loads
+	public LanguageModel(String path) {
+		vocabulary = new TObjectIntHashMap<>(1 << 16, 0.5f, UNKNOWN_WORD);
+		vocabularyWords = new ArrayList<>();
+		tables = new NGramTable[0];
+		unknownProbability = 0.0;   //just in case nothing loads
 
 		if (GlobalProperties.getInstance().getDebug())
-			ServerLogger.get().info("Loading language model from " + filename + "...");
+			ServerLogger.get().info("Loading language model from " + path + "...");
 
 		try {
+			if (path.endsWith(BINARY_EXTENSION))
+				loadBinary(path);
+			else
+				loadText(path);
+		} catch (IOException e) {
+			ServerLogger.get().error(e, "Couldn't load language model from " + path + ". Exception: " + e.toString());
+		}
+
+		// the sentence markers always have IDs so that they can be recognized in encoded sequences
+		sentenceStart = wordId(SENTENCE_START);
+		sentenceEnd = wordId(SENTENCE_END);
+
+		if (GlobalProperties.getInstance().getDebug()) ServerLogger.get().info("done.");
+	}
+
+	private int wordId(String word) {
+		int id = vocabulary.get(word);
+		if (id == UNKNOWN_WORD) {
+			id = vocabularyWords.size();
+			vocabulary.put(word, id);
+			vocabularyWords.add(word);
+		}
+		return id;
+	}
+
+	private void loadText(String filename) throws IOException {
+		List<NGramTableBuilder> builders = new ArrayList<>();
+		Double unknown = null;
+
+		try (BufferedReader br = filename.matches(".*\\.gz")
+				? new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(filename))))
+				: new BufferedReader(new InputStreamReader(new FileInputStream(filename)))) {
 			String buf;
 			String[] parts;
-			BufferedReader br;
-			if (filename.matches(".*\\.gz")) {
-				br = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(filename))));
-			} else {
-				br = new BufferedReader(new InputStreamReader(new FileInputStream(filename)));
-			}
 			while ((buf = br.readLine()) != null) {
 				parts = buf.split("\\t");
 				if (parts.length < 2) {
 					continue;
 				}
+				String[] words = parts[1].split(" ");
+				while (builders.size() < words.length)
+					builders.add(new NGramTableBuilder(builders.size() + 1));
+
 				try {
-					int order = parts[1].split("\\s").length;
-					if (order > maxOrder) {
-						maxOrder = order;
-					}
-					frequencies.put(parts[1], new Double(parts[0]));
-					if (parts.length > 2) backOffWeights.put(parts[1], new Double(parts[2]));
+					double probability = Double.parseDouble(parts[0]);
+					double backOffWeight = parts.length > 2 ? Double.parseDouble(parts[2]) : Double.NaN;
+					if (parts[1].equals(UNKNOWN))
+						unknown = probability;
+
+					int[] ids = new int[words.length];
+					for (int i = 0; i < words.length; i++)
+						ids[i] = wordId(words[i]);
+					builders.get(ids.length - 1).add(ids, probability, backOffWeight);
 				} catch (NumberFormatException e) {
-					e.printStackTrace();
+					ServerLogger.get().warn("Invalid language model entry '" + buf + "'");
 				}
 			}
-		} catch (IOException e) {
-			e.printStackTrace();
 		}
 
-		if (GlobalProperties.getInstance().getDebug()) ServerLogger.get().info("done.");
+		tables = builders.stream().map(NGramTableBuilder::build).toArray(NGramTable[]::new);
+		if (unknown != null)
+			unknownProbability = unknown;
 	}
 
-	public double unigramLogBase10Probability(String word) {
-		Double res = frequencies.get(word.toLowerCase());
-		if (res == null) {
-			res = frequencies.get("<unk>");
+	private static String readString(ByteBuffer in) {
+		byte[] bytes = new byte[in.getInt()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static ByteBuffer slice(ByteBuffer in, int numBytes) {
+		ByteBuffer out = in.slice();
+		out.limit(numBytes);
+		in.position(in.position() + numBytes);
+		return out;
+	}
+
+	private void loadBinary(String filename) throws IOException {
+		ByteBuffer in;
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			// the mapping remains valid after the channel is closed
+			in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (in.getInt() != BINARY_MAGIC)
+			throw new IOException("Not a binary language model");
+		int version = in.getInt();
+		if (version != BINARY_VERSION)
+			throw new IOException("Unexpected binary language model version " + version);
+
+		unknownProbability = in.getDouble();
+		int vocabularySize = in.getInt();
+		for (int i = 0; i < vocabularySize; i++)
+			wordId(readString(in));
+
+		NGramTable[] loaded = new NGramTable[in.getInt()];
+		for (int i = 0; i < loaded.length; i++) {
+			int order = i + 1;
+			int size = in.getInt();
+			IntBuffer words = slice(in, size * order * Integer.BYTES).asIntBuffer();
+			DoubleBuffer probabilities = slice(in, size * Double.BYTES).asDoubleBuffer();
+			DoubleBuffer backOffWeights = slice(in, size * Double.BYTES).asDoubleBuffer();
+			loaded[i] = new NGramTable(order, size, words, probabilities, backOffWeights);
+		}
+		tables = loaded;
+	}
+
+	/**
+	 * Writes the model in the binary format that's memory-mapped by the constructor
+	 */
+	public void saveBinary(String filename) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+			out.writeInt(BINARY_MAGIC);
+			out.writeInt(BINARY_VERSION);
+			out.writeDouble(unknownProbability);
+			out.writeInt(vocabularyWords.size());
+			for (String word : vocabularyWords) {
+				byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+
+			out.writeInt(tables.length);
+			for (NGramTable table : tables) {
+				out.writeInt(table.size);
+				for (int i = 0; i < table.size * table.order; i++)
+					out.writeInt(table.words.get(i));
+				for (int i = 0; i < table.size; i++)
+					out.writeDouble(table.probabilities.get(i));
+				for (int i = 0; i < table.size; i++)
+					out.writeDouble(table.backOffWeights.get(i));
+			}
+		}
+	}
+
+
+	/**
+	 * Maps the (lower-cased) tokens to their word IDs
+	 */
+	public int[] encode(List<String> tokens) {
+		int[] ids = new int[tokens.size()];
+		for (int i = 0; i < ids.length; i++)
+			ids[i] = vocabulary.get(tokens.get(i).toLowerCase());
+		return ids;
+	}
+
+	/**
+	 * Same as encode() but wraps the sequence in sentence start/end markers
+	 */
+	public int[] encodeSentence(List<String> tokens) {
+		int[] ids = new int[tokens.size() + 2];
+		ids[0] = sentenceStart;
+		for (int i = 0; i < tokens.size(); i++)
+			ids[i + 1] = vocabulary.get(tokens.get(i).toLowerCase());
+		ids[ids.length - 1] = sentenceEnd;
+		return ids;
+	}
+
+
+	public double logBase10ProbabilityOfSentence(List<String> tokens) {
+		return logBase10ProbabilityOfSequence(encodeSentence(tokens));
+	}
+
+
+	public double logBase10ConditionalProbability(List<String> tokList, List<String> givenTokList) {
+		List<String> combined = new ArrayList<String>();
+		combined.addAll(givenTokList);
+		combined.addAll(tokList);
+
+		double p1 = logBase10ProbabilityOfSequence(encode(combined));
+		double p2 = logBase10ProbabilityOfSequence(encode(givenTokList));
+		return p1 - p2;
+	}
+
+
+	public double logBase10ProbabilityOfSequence(List<String> tokList) {
+		return logBase10ProbabilityOfSequence(encode(tokList));
+	}
+
+	public double logBase10ProbabilityOfSequence(int[] ids) {
+		int maxOrder = Math.max(tables.length, 1);
+		double res = 0.0;
+		for (int i = 0; i < ids.length; i++) {
+			res += probability(ids, Math.max(0, i + 1 - maxOrder), i + 1);
 		}
-		return res.doubleValue();
+		return res;
+	}
+
+
+	// log probability of the n-gram ids[from, to)
+	private double probability(int[] ids, int from, int to) {
+		if (ids[to - 1] == sentenceStart) {
+			return 0.0; //log 1
+		}
+
+		int order = to - from;
+		if (order <= tables.length) {
+			NGramTable table = tables[order - 1];
+			int entry = table.find(ids, from);
+			if (entry != -1)
+				return table.probabilities.get(entry);
+		}
+
+		if (order == 1) {
+			//can't backoff any further
+			return unknownProbability;
+		} else {
+			//log a*b = a+b
+			return backOff(ids, from, to - 1) + probability(ids, from + 1, to);
+		}
+	}
+
+	private double backOff(int[] ids, int from, int to) {
+		int order = to - from;
+		if (order > tables.length)
+			return 0.0; //log(1)
+
+		NGramTable table = tables[order - 1];
+		int entry = table.find(ids, from);
+		return entry == -1 ? 0.0 : table.backOffWeights.get(entry);
+	}
+
+
+	public double unigramLogBase10Probability(String word) {
+		return unigramLogBase10Probability(vocabulary.get(word.toLowerCase()));
+	}
+
+	public double unigramLogBase10Probability(int id) {
+		if (tables.length == 0)
+			return unknownProbability;
+
+		int entry = tables[0].find(id);
+		return entry == -1 ? unknownProbability : tables[0].probabilities.get(entry);
 	}
 
 	public double meanUnigramLogBase10Probability(List<String> tokens) {
+		int[] ids = encode(tokens);
+		return meanUnigramLogBase10Probability(ids, 0, ids.length);
+	}
+
+	// mean over ids[from, to)
+	public double meanUnigramLogBase10Probability(int[] ids, int from, int to) {
 		double res = 0.0;
-		int numtokens = tokens.size();
-		for (int i = 0; i < numtokens; i++) {
-			res += unigramLogBase10Probability(tokens.get(i));
+		int numtokens = to - from;
+		for (int i = from; i < to; i++) {
+			res += unigramLogBase10Probability(ids[i]);
 		}
 		if (numtokens > 0) res /= numtokens;
 		return res;
 	}
 
-	private int maxOrder;
-	private Map<String, Double> frequencies;
-	private Map<String, Double> backOffWeights;
+	/**
+	 * Compiles a text language model into the binary format
+	 * Usage: LanguageModel <input .lm[.gz]> <output .bin>
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2 || !args[1].endsWith(BINARY_EXTENSION)) {
+			System.err.println("Usage: LanguageModel <input .lm[.gz]> <output " + BINARY_EXTENSION + ">");
+			System.exit(1);
+		}
+
+		LanguageModel model = new LanguageModel(args[0]);
+		if (model.tables.length == 0)
+			throw new IOException("Couldn't load language model from " + args[0]);
+
+		model.saveBinary(args[1]);
+	}
+
+	private final TObjectIntHashMap<String> vocabulary;
+	private final List<String> vocabularyWords;     // indexed by word ID
+	private NGramTable[] tables;                    // indexed by order - 1
+	private double unknownProbability;
+	private final int sentenceStart;
+	private final int sentenceEnd;
 }
@@ -12,7 +12,11 @@ public class QuestionFeatureExtractor {
 	private LanguageModel forwardLM;
 
 	private QuestionFeatureExtractor() {
-		forwardLM = new LanguageModel(ResourceLoader.path("anc-v2-written.lm.gz"));
+		// prefer the binary model compiled by the build, the text model is used when running from a tree that wasn't built with maven
+		if (ResourceLoader.exists("anc-v2-written.lm" + LanguageModel.BINARY_EXTENSION))
+			forwardLM = new LanguageModel(ResourceLoader.path("anc-v2-written.lm" + LanguageModel.BINARY_EXTENSION));
+		else
+			forwardLM = new LanguageModel(ResourceLoader.path("anc-v2-written.lm.gz"));
 	}
 
 	/**
@@ -295,10 +299,14 @@ public class QuestionFeatureExtractor {
 		List<String> sourceTokens = extractTokensFromTree(sourceTree);
 		List<String> questionTokens = extractTokensFromTree(tree);
 
-		double trigramSource = forwardLM.logBase10ProbabilityOfSentence(sourceTokens);
-		double trigramQuestion = forwardLM.logBase10ProbabilityOfSentence(questionTokens);
-		double meanUnigramSource = forwardLM.meanUnigramLogBase10Probability(sourceTokens);
-		double meanUnigramQuestion = forwardLM.meanUnigramLogBase10Probability(questionTokens);
+		// the tokens are encoded once and shared by the n-gram and unigram scores
+		int[] sourceIds = forwardLM.encodeSentence(sourceTokens);
+		int[] questionIds = forwardLM.encodeSentence(questionTokens);
+
+		double trigramSource = forwardLM.logBase10ProbabilityOfSequence(sourceIds);
+		double trigramQuestion = forwardLM.logBase10ProbabilityOfSequence(questionIds);
+		double meanUnigramSource = forwardLM.meanUnigramLogBase10Probability(sourceIds, 1, sourceIds.length - 1);
+		double meanUnigramQuestion = forwardLM.meanUnigramLogBase10Probability(questionIds, 1, questionIds.length - 1);
 
 		if (Question.getFeatureNames().contains("normalizedTrigramLMSource"))
 			q.setFeatureValue("normalizedTrigramLMSource", trigramSource / sourceTokens.size());
@@ -324,8 +332,9 @@ public class QuestionFeatureExtractor {
 		if (answerPhraseTree != null) {
 			List<String> answerTokens = extractTokensFromTree(answerPhraseTree);//.yield().toString().split("\\s+");
 
-			double trigramAnswer = forwardLM.logBase10ProbabilityOfSentence(answerTokens);
-			double meanUnigramAnswer = forwardLM.meanUnigramLogBase10Probability(answerTokens);
+			int[] answerIds = forwardLM.encodeSentence(answerTokens);
+			double trigramAnswer = forwardLM.logBase10ProbabilityOfSequence(answerIds);
+			double meanUnigramAnswer = forwardLM.meanUnigramLogBase10Probability(answerIds, 1, answerIds.length - 1);
 
 			if (Question.getFeatureNames().contains("normalizedTrigramLMAnswer"))
 				q.setFeatureValue("normalizedTrigramLMAnswer", trigramAnswer / answerTokens.size());
@@ -9,6 +9,9 @@ public final class ResourceLoader {
 	public static InputStream inputStream(String fileName) {
 		return ResourceLoader.class.getResourceAsStream(fileName);
 	}
+	public static boolean exists(String fileName) {
+		return ResourceLoader.class.getResource(fileName) != null;
+	}
 	public static String path(String fileName) {
 		return ResourceLoader.class.getResource(fileName).getFile();
 	}
@@ -87,7 +87,99 @@ public class SuperSenseFeatureExtractor {
 	 */
 	public Map<String, Double> extractFeatureValues(LabeledSentence sent, int j, boolean usePredictedLabels) {
 		Map<String, Double> featureMap = new HashMap<String, Double>();
+		extractFeatures(sent, j, usePredictedLabels, new FeatureSink() {
+			@Override
+			public void add(String name) {
+				featureMap.put(name, 1.0);
+			}
+			@Override
+			public void add(String prefix, String value) {
+				featureMap.put(prefix + value, 1.0);
+			}
+			@Override
+			public void add(String prefix, char value) {
+				featureMap.put(prefix + value, 1.0);
+			}
+			@Override
+			public void add(String prefix, String first, String second) {
+				featureMap.put(prefix + first + "\t" + second, 1.0);
+			}
+		});
+		return featureMap;
+	}
+
+
+	/**
+	 * Same as extractFeatureValues() but emits the hashes of the feature names (see featureHash()) instead of
+	 * building them. All features have a value of 1.0
+	 *
+	 * @param out receives the hashes, must be at least MAX_FEATURES_PER_TOKEN long
+	 * @return the number of features written to out
+	 */
+	public int extractFeatureHashes(LabeledSentence sent, int j, boolean usePredictedLabels, long[] out) {
+		HashSink sink = new HashSink(out);
+		extractFeatures(sent, j, usePredictedLabels, sink);
+		return sink.size;
+	}
+
+
+	/**
+	 * 64-bit FNV-1a hash of a feature name, identical to the hashes emitted by extractFeatureHashes()
+	 */
+	public static long featureHash(String name) {
+		return hash(FEATURE_HASH_SEED, name);
+	}
+
+	private static long hash(long hash, char c) {
+		return (hash ^ c) * FEATURE_HASH_PRIME;
+	}
 
+	// null strings are hashed as "null", same as string concatenation
+	private static long hash(long hash, String s) {
+		if (s == null)
+			s = "null";
+		for (int i = 0; i < s.length(); i++)
+			hash = hash(hash, s.charAt(i));
+		return hash;
+	}
+
+
+	/* receives the features of a token, all of which have a value of 1.0 */
+	private interface FeatureSink {
+		void add(String name);
+		void add(String prefix, String value);
+		void add(String prefix, char value);
+		void add(String prefix, String first, String second);     // prefix + first + "\t" + second
+	}
+
+	private static final class HashSink implements FeatureSink {
+		final long[] out;
+		int size = 0;
+
+		HashSink(long[] out) {
+			this.out = out;
+		}
+
+		@Override
+		public void add(String name) {
+			out[size++] = hash(FEATURE_HASH_SEED, name);
+		}
+		@Override
+		public void add(String prefix, String value) {
+			out[size++] = hash(hash(FEATURE_HASH_SEED, prefix), value);
+		}
+		@Override
+		public void add(String prefix, char value) {
+			out[size++] = hash(hash(FEATURE_HASH_SEED, prefix), value);
+		}
+		@Override
+		public void add(String prefix, String first, String second) {
+			out[size++] = hash(hash(hash(hash(FEATURE_HASH_SEED, prefix), first), '\t'), second);
+		}
+	}
+
+
+	private void extractFeatures(LabeledSentence sent, int j, boolean usePredictedLabels, FeatureSink features) {
 		String curStem = sent.getStems().get(j);
 		String curTok = sent.getTokens().get(j);
 		String curPOS = sent.getPOS().get(j);
@@ -162,109 +254,107 @@ public class SuperSenseFeatureExtractor {
 		//}
 
 		//bias
-		featureMap.put("bias", 1.0);
+		features.add("bias");
 
 		//first sense features
 		if (firstSense == null) firstSense = "0";
-		featureMap.put("firstSense=" + firstSense, 1.0);
-		featureMap.put("firstSense+curTok=" + firstSense + "\t" + curStem, 1.0);
+		features.add("firstSense=", firstSense);
+		features.add("firstSense+curTok=", firstSense, curStem);
 
 
 		if (useClusterFeatures) {
 			//cluster features for the current token
-			featureMap.put("firstSense+curCluster=" + firstSense + "\t" + curCluster, 1.0);
-			featureMap.put("curCluster=" + curCluster, 1.0);
+			features.add("firstSense+curCluster=", firstSense, curCluster);
+			features.add("curCluster=", curCluster);
 		}
 
 
 		//previous label feature
-		if (prevLabel != startSymbol) featureMap.put(("prevLabel=" + prevLabel), 1.0);
+		if (prevLabel != startSymbol) features.add("prevLabel=", prevLabel);
 
 
 		//word and POS features
 		if (curPOS.equals("NN") || curPOS.equals("NNS")) {
-			featureMap.put(("curPOS_common"), 1.0);
+			features.add("curPOS_common");
 		}
 		if (curPOS.equals("NNP") || curPOS.equals("NNPS")) {
-			featureMap.put(("curPOS_proper"), 1.0);
+			features.add("curPOS_proper");
 		}
 
-		featureMap.put(("curTok=" + curStem), 1.0);
-		featureMap.put(("curPOS=" + curPOS), 1.0);
-		featureMap.put(("curPOS_0=" + curPOS.charAt(0)), 1.0);
+		features.add("curTok=", curStem);
+		features.add("curPOS=", curPOS);
+		features.add("curPOS_0=", curPOS.charAt(0));
 
 		if (prevPOS != startSymbol) {
-			featureMap.put(("prevTok=" + prevStem), 1.0);
-			if (useBigramFeatures) featureMap.put(("prevTok+curTok=" + prevStem + "\t" + curStem), 1.0);
-			featureMap.put(("prevPOS=" + prevPOS), 1.0);
-			featureMap.put(("prevPOS_0=" + prevPOS.charAt(0)), 1.0);
-			if (useClusterFeatures) featureMap.put(("prevCluster=" + prevCluster), 1.0);
+			features.add("prevTok=", prevStem);
+			if (useBigramFeatures) features.add("prevTok+curTok=", prevStem, curStem);
+			features.add("prevPOS=", prevPOS);
+			features.add("prevPOS_0=", prevPOS.charAt(0));
+			if (useClusterFeatures) features.add("prevCluster=", prevCluster);
 			//if(useClusterFeatures) featureMap.put("firstSense+prevCluster="+firstSense+"\t"+prevCluster,1.0);
 		}
 
 		if (nextPOS != endSymbol) {
-			featureMap.put(("nextTok=" + nextStem), 1.0);
-			if (useBigramFeatures) featureMap.put(("nextTok+curTok=" + nextStem + "\t" + curStem), 1.0);
-			featureMap.put(("nextPOS=" + nextPOS), 1.0);
-			featureMap.put(("nextPOS_0=" + nextPOS.charAt(0)), 1.0);
-			if (useClusterFeatures) featureMap.put(("nextCluster=" + nextCluster), 1.0);
+			features.add("nextTok=", nextStem);
+			if (useBigramFeatures) features.add("nextTok+curTok=", nextStem, curStem);
+			features.add("nextPOS=", nextPOS);
+			features.add("nextPOS_0=", nextPOS.charAt(0));
+			if (useClusterFeatures) features.add("nextCluster=", nextCluster);
 			//if(useClusterFeatures) featureMap.put("firstSense+nextCluster="+firstSense+"\t"+nextCluster,1.0);
 		}
 
 		if (prev2POS != startSymbol) {
-			featureMap.put(("prev2Tok=" + prev2Stem), 1.0);
-			featureMap.put(("prev2POS=" + prev2POS), 1.0);
-			featureMap.put(("prev2POS_0=" + prev2POS.charAt(0)), 1.0);
-			if (useClusterFeatures) featureMap.put(("prev2Cluster=" + prev2Cluster), 1.0);
+			features.add("prev2Tok=", prev2Stem);
+			features.add("prev2POS=", prev2POS);
+			features.add("prev2POS_0=", prev2POS.charAt(0));
+			if (useClusterFeatures) features.add("prev2Cluster=", prev2Cluster);
 			//if(useClusterFeatures) featureMap.put("firstSense+prev2Cluster="+firstSense+"\t"+prev2Cluster,1.0);
 		}
 
 		if (next2POS != endSymbol) {
-			featureMap.put(("next2Tok=" + next2Stem), 1.0);
-			featureMap.put(("next2POS=" + next2POS), 1.0);
-			featureMap.put(("next2POS_0=" + next2POS.charAt(0)), 1.0);
-			if (useClusterFeatures) featureMap.put(("next2Cluster=" + next2Cluster), 1.0);
+			features.add("next2Tok=", next2Stem);
+			features.add("next2POS=", next2POS);
+			features.add("next2POS_0=", next2POS.charAt(0));
+			if (useClusterFeatures) features.add("next2Cluster=", next2Cluster);
 			//if(useClusterFeatures) featureMap.put("firstSense+next2Cluster="+firstSense+"\t"+next2Cluster,1.0);
 		}
 
 
 		//word shape features
-		featureMap.put("curShape=" + curShape, 1.0);
+		features.add("curShape=", curShape);
 
 		if (prevPOS != startSymbol) {
-			featureMap.put("prevShape=" + prevShape, 1.0);
+			features.add("prevShape=", prevShape);
 		}
 
 		if (nextPOS != endSymbol) {
-			featureMap.put("nextShape=" + nextShape, 1.0);
+			features.add("nextShape=", nextShape);
 		}
 
 		if (prev2POS != startSymbol) {
-			featureMap.put("prev2Shape=" + prev2Shape, 1.0);
+			features.add("prev2Shape=", prev2Shape);
 		}
 
 		if (next2POS != endSymbol) {
-			featureMap.put("next2Shape=" + next2Shape, 1.0);
+			features.add("next2Shape=", next2Shape);
 		}
 
 		String firstCharCurTok = curTok.substring(0, 1);
 		if (firstCharCurTok.toLowerCase().equals(firstCharCurTok)) {
-			featureMap.put("curTokLowercase", 1.0);
+			features.add("curTokLowercase");
 		} else if (j == 0) {
-			featureMap.put("curTokUpperCaseFirstChar", 1.0);
+			features.add("curTokUpperCaseFirstChar");
 		} else {
-			featureMap.put("curTokUpperCaseOther", 1.0);
+			features.add("curTokUpperCaseOther");
 		}
 
 
 		//3-letter prefix and suffix features (disabled by default)
 		if (usePrefixAndSuffixFeatures) {
-			featureMap.put("prefix=" + prefix(curTok), 1.0);
-			featureMap.put("suffix=" + suffix(curTok), 1.0);
+			features.add("prefix=", prefix(curTok));
+			features.add("suffix=", suffix(curTok));
 		}
 
-
-		return featureMap;
 	}
 
 
@@ -638,6 +728,11 @@ public class SuperSenseFeatureExtractor {
 
 	private static SuperSenseFeatureExtractor instance;
 
+	// upper bound on the no. of features extracted for a single token
+	public static final int MAX_FEATURES_PER_TOKEN = 64;
+	private static final long FEATURE_HASH_SEED = 0xcbf29ce484222325L;
+	private static final long FEATURE_HASH_PRIME = 0x100000001b3L;
+
 	public static final String startSymbol = null;//"<START>";
 	public static final String endSymbol = null;//"<END>";
 
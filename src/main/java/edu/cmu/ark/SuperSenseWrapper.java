@@ -4,6 +4,11 @@ import arkref.parsestuff.AnalysisUtilities;
 import com.flair.server.utilities.ServerLogger;
 import edu.stanford.nlp.trees.Tree;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,7 +16,41 @@ import java.util.List;
 public class SuperSenseWrapper {
 	private SuperSenseWrapper() {
 		DiscriminativeTagger.loadProperties(ResourceLoader.path("SuperSenseWrapper.properties"));
-		sst = DiscriminativeTagger.loadModel(ResourceLoader.path("superSenseModelAllSemcor.ser.gz"));
+
+		// prefer the precompiled model, if one's been bundled
+		String compiledModel = "superSenseModelAllSemcor" + CompiledSuperSenseModel.BINARY_EXTENSION;
+		if (ResourceLoader.exists(compiledModel)) {
+			try {
+				sst = CompiledSuperSenseModel.load(ResourceLoader.path(compiledModel));
+			} catch (IOException e) {
+				ServerLogger.get().error(e, "Couldn't load compiled supersense model. Exception: " + e.toString());
+			}
+		}
+
+		if (sst == null) {
+			String serializedModel = ResourceLoader.path("superSenseModelAllSemcor.ser.gz");
+			DiscriminativeTagger tagger = DiscriminativeTagger.loadModel(serializedModel);
+			if (tagger != null) {
+				sst = CompiledSuperSenseModel.compile(tagger);
+				saveCompiledModel(sst, Paths.get(serializedModel).resolveSibling(compiledModel));
+			}
+		}
+	}
+
+	// the build usually compiles the model, otherwise it's saved next to the serialized model for subsequent startups
+	private static void saveCompiledModel(CompiledSuperSenseModel model, Path path) {
+		try {
+			Path temp = Files.createTempFile(path.getParent(), "superSenseModel", CompiledSuperSenseModel.BINARY_EXTENSION);
+			try {
+				model.save(temp.toString());
+				Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			ServerLogger.get().info("Saved compiled supersense model to " + path);
+		} catch (IOException | RuntimeException e) {
+			ServerLogger.get().warn("Couldn't save compiled supersense model to " + path + ". Exception: " + e.toString());
+		}
 	}
 
 	public static SuperSenseWrapper getInstance() {
@@ -24,6 +63,10 @@ public class SuperSenseWrapper {
 		return instance;
 	}
 
+	public boolean isModelLoaded() {
+		return sst != null;
+	}
+
 	private LabeledSentence generateSupersenseTaggingInput(Tree sentence) {
 		LabeledSentence res = new LabeledSentence();
 		List<Tree> leaves = sentence.getLeaves();
@@ -57,10 +100,11 @@ public class SuperSenseWrapper {
 		if (numleaves <= 1) {
 			return result;
 		}
+		if (sst == null)
+			throw new IllegalStateException("Supersense model not loaded");
+
 		LabeledSentence labeled = generateSupersenseTaggingInput(sentence);
-		synchronized (this) {
-			sst.findBestLabelSequenceViterbi(labeled, sst.getWeights());
-		}
+		sst.findBestLabelSequenceViterbi(labeled);
 		result.addAll(labeled.getPredictions());
 
 		//add a bunch of blanks if necessary
@@ -71,7 +115,7 @@ public class SuperSenseWrapper {
 	}
 
 
-	private DiscriminativeTagger sst;
+	private CompiledSuperSenseModel sst;
 	private static SuperSenseWrapper instance;
 }
 
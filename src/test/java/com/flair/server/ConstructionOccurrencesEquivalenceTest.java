@@ -0,0 +1,148 @@
+package com.flair.server;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.document.ConstructionOccurrence;
+import com.flair.server.document.Document;
+import com.flair.server.document.DocumentConstructionData;
+import com.flair.server.document.StringDocumentSource;
+import com.flair.shared.grammar.GrammaticalConstruction;
+import com.flair.shared.grammar.Language;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/*
+ * Checks that the packed construction occurrences round-trip their start, end and type, and that insertion order and
+ * deduplication match the list-based implementation they replaced, both before and after the document is compacted
+ */
+public class ConstructionOccurrencesEquivalenceTest {
+	private static final long SEED = 0x5eedL;
+	private static final int NUM_RANDOM_CASES = 200;
+	private static final int MAX_INSERTS = 60;
+	// extremes that exercise the packing's sign handling
+	private static final int[] EDGE_OFFSETS = new int[]{0, 1, 0xFFFF, 0x10000, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+
+	// the replaced implementation's insertion logic
+	private static final class ReferenceOccurrences {
+		final List<int[]> occurrences = new ArrayList<>();
+
+		boolean add(int start, int end) {
+			if (start > end) {
+				int tmp = end;
+				end = start;
+				start = tmp;
+			}
+
+			for (int[] itr : occurrences) {
+				if (itr[0] == start && itr[1] == end)
+					return false;
+			}
+
+			occurrences.add(new int[]{start, end});
+			return true;
+		}
+	}
+
+	private static int failures = 0;
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			failures++;
+			System.out.println(message);
+		}
+	}
+
+	private static int randomOffset(Random rand) {
+		if (rand.nextInt(10) == 0)
+			return EDGE_OFFSETS[rand.nextInt(EDGE_OFFSETS.length)];
+		// narrow ranges produce plenty of duplicates
+		return rand.nextBoolean() ? rand.nextInt(20) : rand.nextInt(100000);
+	}
+
+	private static void insert(Random rand, AbstractDocument doc, List<GrammaticalConstruction> constructions,
+	                           Map<GrammaticalConstruction, ReferenceOccurrences> expected, int testCase) {
+		int numInserts = rand.nextInt(MAX_INSERTS + 1);
+		for (int i = 0; i < numInserts; i++) {
+			GrammaticalConstruction type = constructions.get(rand.nextInt(constructions.size()));
+			ReferenceOccurrences reference = expected.computeIfAbsent(type, k -> new ReferenceOccurrences());
+
+			int start, end;
+			if (!reference.occurrences.isEmpty() && rand.nextInt(4) == 0) {
+				// re-adds an existing occurrence, possibly with its offsets swapped
+				int[] existing = reference.occurrences.get(rand.nextInt(reference.occurrences.size()));
+				boolean swap = rand.nextBoolean();
+				start = swap ? existing[1] : existing[0];
+				end = swap ? existing[0] : existing[1];
+			} else {
+				start = randomOffset(rand);
+				end = randomOffset(rand);
+			}
+
+			boolean expectedAdded = reference.add(start, end);
+			boolean actualAdded = doc.getConstructionData(type).addOccurrence(start, end);
+			check(expectedAdded == actualAdded, "Case " + testCase + ": " + type + " addOccurrence(" + start + ", " + end
+					+ ") returned " + actualAdded);
+		}
+	}
+
+	private static void compare(AbstractDocument doc, List<GrammaticalConstruction> constructions,
+	                            Map<GrammaticalConstruction, ReferenceOccurrences> expected, String stage) {
+		for (GrammaticalConstruction type : constructions) {
+			List<int[]> reference = expected.containsKey(type) ? expected.get(type).occurrences : new ArrayList<>();
+			DocumentConstructionData data = doc.getConstructionData(type);
+			List<ConstructionOccurrence> occurrences = data.getOccurrences();
+
+			check(reference.size() == data.getFrequency() && reference.size() == occurrences.size(),
+					stage + ": " + type + " has " + data.getFrequency() + " occurrences, expected " + reference.size());
+			check(reference.isEmpty() != data.hasConstruction(), stage + ": " + type + " hasConstruction() differs");
+			for (int i = 0; i < Math.min(reference.size(), data.getFrequency()); i++) {
+				int[] exp = reference.get(i);
+				ConstructionOccurrence occurrence = occurrences.get(i);
+				check(exp[0] == data.getOccurrenceStart(i) && exp[1] == data.getOccurrenceEnd(i)
+								&& exp[0] == occurrence.getStart() && exp[1] == occurrence.getEnd()
+								&& occurrence.getParentConstruction() == type,
+						stage + ": " + type + " occurrence " + i + " is " + occurrence.getParentConstruction() + " ["
+								+ data.getOccurrenceStart(i) + ", " + data.getOccurrenceEnd(i) + "), expected ["
+								+ exp[0] + ", " + exp[1] + ")");
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		List<GrammaticalConstruction> constructions = new ArrayList<>(GrammaticalConstruction.getForLanguage(Language.ENGLISH));
+		constructions.sort(null);
+
+		Random rand = new Random(SEED);
+		for (int c = 0; c < NUM_RANDOM_CASES; c++) {
+			// concentrates the inserts on a few constructions to get past the hashed lookup threshold
+			List<GrammaticalConstruction> used = new ArrayList<>();
+			int numUsed = 1 + rand.nextInt(4);
+			for (int i = 0; i < numUsed; i++)
+				used.add(constructions.get(rand.nextInt(constructions.size())));
+
+			AbstractDocument doc = Document.factory().create(new StringDocumentSource("Test document " + c, Language.ENGLISH));
+			Map<GrammaticalConstruction, ReferenceOccurrences> expected = new EnumMap<>(GrammaticalConstruction.class);
+
+			insert(rand, doc, used, expected, c);
+			compare(doc, constructions, expected, "Case " + c + " (unparsed)");
+
+			// compacts the occurrences of every construction
+			doc.flagAsParsed(null);
+			compare(doc, constructions, expected, "Case " + c + " (parsed)");
+
+			insert(rand, doc, used, expected, c);
+			compare(doc, constructions, expected, "Case " + c + " (added after parsing)");
+		}
+
+		if (failures == 0) {
+			System.out.println("Construction occurrences are equivalent (" + NUM_RANDOM_CASES + " cases)");
+			System.exit(0);
+		} else {
+			System.out.println(failures + " checks failed");
+			System.exit(1);
+		}
+	}
+}
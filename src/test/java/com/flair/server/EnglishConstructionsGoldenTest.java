@@ -0,0 +1,111 @@
+package com.flair.server;
+
+import com.flair.server.document.AbstractDocument;
+import com.flair.server.document.AbstractDocumentSource;
+import com.flair.server.document.ConstructionOccurrence;
+import com.flair.server.document.StringDocumentSource;
+import com.flair.server.parser.KeywordSearcherInput;
+import com.flair.server.pipelines.gramparsing.GramParsingPipeline;
+import com.flair.shared.grammar.GrammaticalConstruction;
+import com.flair.shared.grammar.Language;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Compares the construction occurrences found by the English parsing logic against a recorded golden output
+ * Run with "record" as the first argument on a known-good revision to (re-)generate the golden file
+ */
+public class EnglishConstructionsGoldenTest {
+	private static final String GOLDEN_FILE = "src/test/resources/com/flair/server/english-constructions.golden.txt";
+
+	private static final String[] TEXTS = new String[]{
+			"The man I saw yesterday was reading a book that his sister had written. She said that it was the most " +
+					"interesting story she had ever read, although it was longer than her previous ones.",
+			"Are you going to France next summer? I used to travel a lot, but now I have to work. Don't forget to " +
+					"call me when you arrive! What did you do last weekend? You like jazz, don't you?",
+			"If it rains tomorrow, we will stay at home. Unless you hurry, you will miss the train. Whether he " +
+					"comes or not, the meeting will be held. The letters were sent by the secretary.",
+			"Neither of them could swim, and nobody was able to help. There are many reasons why a lot of people " +
+					"prefer smaller cities. He runs faster than his brother, but she runs the fastest of all.",
+			"Who wrote this? Which one do you want? Where have they been? Surprisingly, the children themselves " +
+					"cleaned their rooms. Mine is bigger than yours. He might have been sleeping.",
+			"Open the window. Please sit down and listen carefully. The data, collected over many years, shows " +
+					"steadily rising temperatures. Buildings damaged by the storm must be repaired.",
+	};
+
+	private static List<String> serialize(List<AbstractDocument> docs, List<AbstractDocumentSource> sources) {
+		List<String> out = new ArrayList<>();
+		for (AbstractDocument doc : docs) {
+			int index = sources.indexOf(doc.getDocumentSource());
+			for (GrammaticalConstruction construction : doc.getSupportedConstructions()) {
+				List<ConstructionOccurrence> occurrences = new ArrayList<>(doc.getConstructionData(construction).getOccurrences());
+				occurrences.sort((a, b) -> a.getStart() != b.getStart() ? Integer.compare(a.getStart(), b.getStart())
+						: Integer.compare(a.getEnd(), b.getEnd()));
+				for (ConstructionOccurrence occurrence : occurrences)
+					out.add(index + "\t" + construction + "\t" + occurrence.getStart() + "-" + occurrence.getEnd());
+			}
+		}
+
+		Collections.sort(out);
+		return out;
+	}
+
+	public static void main(String[] args) throws IOException {
+		boolean record = args.length > 0 && args[0].equals("record");
+		Path golden = Paths.get(GOLDEN_FILE);
+		if (!record && !Files.isRegularFile(golden)) {
+			System.out.println("Golden file " + golden.toAbsolutePath() + " is missing");
+			System.exit(1);
+		}
+
+		List<AbstractDocumentSource> sources = new ArrayList<>();
+		for (String text : TEXTS)
+			sources.add(new StringDocumentSource(text, Language.ENGLISH));
+
+		List<AbstractDocument> docs = new ArrayList<>();
+		GramParsingPipeline.get()
+				.documentParse()
+				.lang(Language.ENGLISH)
+				.docSource(sources)
+				.keywords(new KeywordSearcherInput(Collections.emptyList()))
+				.onParse(d -> {
+					synchronized (docs) {
+						docs.add(d);
+					}
+				})
+				.build()
+				.launch()
+				.await();
+
+		List<String> actual = serialize(docs, sources);
+		if (record) {
+			Files.createDirectories(golden.getParent());
+			Files.write(golden, actual, StandardCharsets.UTF_8);
+			System.out.println("Recorded " + actual.size() + " occurrences to " + golden);
+			System.exit(0);
+		}
+
+		List<String> expected = Files.readAllLines(golden, StandardCharsets.UTF_8);
+		List<String> missing = new ArrayList<>(expected);
+		missing.removeAll(actual);
+		List<String> unexpected = new ArrayList<>(actual);
+		unexpected.removeAll(expected);
+
+		missing.forEach(l -> System.out.println("- " + l));
+		unexpected.forEach(l -> System.out.println("+ " + l));
+		if (missing.isEmpty() && unexpected.isEmpty() && expected.size() == actual.size()) {
+			System.out.println("Golden output matches (" + actual.size() + " occurrences)");
+			System.exit(0);
+		} else {
+			System.out.println("Golden output mismatch");
+			System.exit(1);
+		}
+	}
+}
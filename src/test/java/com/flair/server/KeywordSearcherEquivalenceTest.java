@@ -0,0 +1,113 @@
+package com.flair.server;
+
+import com.flair.server.parser.AbstractKeywordSearcher;
+import com.flair.server.parser.AhoCorasickKeywordSearcher;
+import com.flair.server.parser.KeywordSearcherInput;
+import com.flair.server.parser.KeywordSearcherOutput;
+import com.flair.server.parser.SimpleSubstringKeywordSearcher;
+import com.flair.server.utilities.TextSegment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Checks that the Aho-Corasick keyword searcher produces exactly the same hits, in the same order, as the substring
+ * searcher it replaced. Empty keywords are left out of the random inputs as the substring searcher never terminates on them
+ */
+public class KeywordSearcherEquivalenceTest {
+	private static final long SEED = 0x5eedL;
+	private static final int NUM_RANDOM_CASES = 5000;
+	private static final int DOCS_PER_INPUT = 4;
+	// small alphabet to provoke overlapping and nested matches, plus every boundary character
+	private static final String ALPHABET = "aabbcA .-\n\t,";
+	private static final String KEYWORD_ALPHABET = "aabbc -.";
+
+	private static final String[][] FIXED_CASES = new String[][]{
+			{"The man I saw yesterday was reading a book. A book-lover, he said.", "book", "a", "the", "he", "said"},
+			{"aaaa aa aaa a", "a", "aa", "aaa", "aa"},
+			{"she sells sea shells by the sea-shore", "she", "he", "shells", "sea", "sea-shore", "ells"},
+			{"used to\nused to.used to-used to", "used to", "used", "to", "to.used"},
+			{"ABC abc Abc", "abc", "ABC", "bc"},
+			{"", "a", "b"},
+	};
+
+	private static String random(Random rand, String alphabet, int minLength, int maxLength) {
+		int length = minLength + rand.nextInt(maxLength - minLength + 1);
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++)
+			sb.append(alphabet.charAt(rand.nextInt(alphabet.length())));
+		return sb.toString();
+	}
+
+	private static String describe(KeywordSearcherOutput output, String keyword) {
+		StringBuilder sb = new StringBuilder();
+		for (TextSegment hit : output.getHits(keyword))
+			sb.append("[").append(hit.getStart()).append(",").append(hit.getEnd()).append(")");
+		return sb.toString();
+	}
+
+	private static boolean compare(String text, KeywordSearcherInput input, AbstractKeywordSearcher searcher) {
+		KeywordSearcherOutput expected = new SimpleSubstringKeywordSearcher().search(text, input);
+		KeywordSearcherOutput actual = searcher.search(text, input);
+
+		boolean match = expected.getKeywords().equals(actual.getKeywords());
+		for (String keyword : expected.getKeywords()) {
+			if (!describe(expected, keyword).equals(describe(actual, keyword)))
+				match = false;
+		}
+		if (expected.getTotalHitCount() != actual.getTotalHitCount())
+			match = false;
+
+		if (!match) {
+			System.out.println("Mismatch for text '" + text.replace("\n", "\\n") + "'");
+			for (String keyword : expected.getKeywords()) {
+				System.out.println("\t'" + keyword + "' expected " + describe(expected, keyword) + " actual "
+						+ describe(actual, keyword));
+			}
+		}
+		return match;
+	}
+
+	public static void main(String[] args) {
+		int failures = 0, comparisons = 0;
+		// a single instance is reused across inputs, as the pipeline does, to exercise the compiled automaton's caching
+		AbstractKeywordSearcher searcher = AhoCorasickKeywordSearcher.factory().create();
+
+		for (String[] fixed : FIXED_CASES) {
+			KeywordSearcherInput input = new KeywordSearcherInput(Arrays.asList(fixed).subList(1, fixed.length));
+			comparisons++;
+			if (!compare(fixed[0], input, searcher))
+				failures++;
+		}
+
+		Random rand = new Random(SEED);
+		for (int i = 0; i < NUM_RANDOM_CASES; i++) {
+			List<String> keywords = new ArrayList<>();
+			int numKeywords = 1 + rand.nextInt(6);
+			for (int j = 0; j < numKeywords; j++) {
+				// repeats existing keywords every now and then
+				if (!keywords.isEmpty() && rand.nextInt(5) == 0)
+					keywords.add(keywords.get(rand.nextInt(keywords.size())));
+				else
+					keywords.add(random(rand, KEYWORD_ALPHABET, 1, 4));
+			}
+
+			KeywordSearcherInput input = new KeywordSearcherInput(keywords);
+			for (int j = 0; j < DOCS_PER_INPUT; j++) {
+				comparisons++;
+				if (!compare(random(rand, ALPHABET, 0, 60), input, searcher))
+					failures++;
+			}
+		}
+
+		if (failures == 0) {
+			System.out.println("Keyword searchers are equivalent (" + comparisons + " comparisons)");
+			System.exit(0);
+		} else {
+			System.out.println(failures + " of " + comparisons + " comparisons mismatched");
+			System.exit(1);
+		}
+	}
+}
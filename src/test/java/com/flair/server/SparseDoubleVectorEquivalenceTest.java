@@ -0,0 +1,141 @@
+package com.flair.server;
+
+import com.flair.server.utilities.SparseDoubleVector;
+import gnu.trove.map.TIntDoubleMap;
+import gnu.trove.map.hash.TIntDoubleHashMap;
+
+import java.util.Random;
+
+/*
+ * Checks that the array-backed sparse vector agrees with the hash map-backed implementation it replaced
+ * Dot products are summed in the same (ascending index) order and must match exactly. The old normalize() scaled by
+ * the magnitude instead of dividing by it, so normalized vectors are compared against the corrected unit vector
+ */
+public class SparseDoubleVectorEquivalenceTest {
+	private static final long SEED = 0x5eedL;
+	private static final int NUM_RANDOM_CASES = 20000;
+	private static final int MAX_LENGTH = 300;
+	private static final double TOLERANCE = 1e-12;
+
+	// the replaced implementation, minus normalize()
+	private static final class ReferenceVector {
+		private final TIntDoubleMap backingStore;
+		private final int length;
+
+		ReferenceVector(int length) {
+			this.backingStore = new TIntDoubleHashMap();
+			this.length = length;
+		}
+
+		double get(int index) {
+			double val = backingStore.get(index);
+			if (val == backingStore.getNoEntryValue())
+				return 0;
+			else
+				return val;
+		}
+
+		void set(int index, double val) {
+			backingStore.put(index, val);
+		}
+
+		boolean isZero(int index) {
+			return !backingStore.containsKey(index);
+		}
+
+		double dot(ReferenceVector rhs) {
+			double out = 0;
+			for (int i = 0; i < length; ++i) {
+				if (isZero(i) || rhs.isZero(i))
+					continue;
+				out += get(i) * rhs.get(i);
+			}
+			return out;
+		}
+
+		double magnitude() {
+			double out = 0;
+			for (double itr : backingStore.values())
+				out += itr * itr;
+			return Math.sqrt(out);
+		}
+	}
+
+	private static boolean close(double expected, double actual) {
+		return Math.abs(expected - actual) <= TOLERANCE * Math.max(1, Math.abs(expected));
+	}
+
+	private static int failures = 0;
+
+	private static void check(boolean condition, int testCase, String message) {
+		if (!condition) {
+			failures++;
+			System.out.println("Case " + testCase + ": " + message);
+		}
+	}
+
+	public static void main(String[] args) {
+		Random rand = new Random(SEED);
+		for (int c = 0; c < NUM_RANDOM_CASES; c++) {
+			int length = 1 + rand.nextInt(MAX_LENGTH);
+			// covers empty, sparse and dense vectors
+			double density = rand.nextInt(4) == 0 ? 0 : rand.nextDouble();
+
+			ReferenceVector[] expected = new ReferenceVector[2];
+			SparseDoubleVector.Builder[] builders = new SparseDoubleVector.Builder[2];
+			SparseDoubleVector.Builder[] normalizedBuilders = new SparseDoubleVector.Builder[2];
+			for (int v = 0; v < 2; v++) {
+				expected[v] = new ReferenceVector(length);
+				builders[v] = SparseDoubleVector.builder(length);
+				normalizedBuilders[v] = SparseDoubleVector.builder(length);
+
+				for (int i = 0; i < length; i++) {
+					if (rand.nextDouble() >= density)
+						continue;
+
+					// includes overwritten elements and elements explicitly reset to zero
+					int sets = 1 + (rand.nextInt(8) == 0 ? 1 : 0);
+					for (int s = 0; s < sets; s++) {
+						double val = rand.nextInt(10) == 0 ? 0 : (rand.nextDouble() - 0.5) * rand.nextInt(100);
+						expected[v].set(i, val);
+						builders[v].set(i, val);
+						normalizedBuilders[v].set(i, val);
+					}
+				}
+			}
+
+			SparseDoubleVector lhs = builders[0].build(), rhs = builders[1].build();
+			SparseDoubleVector lhsUnit = normalizedBuilders[0].buildNormalized();
+			SparseDoubleVector rhsUnit = normalizedBuilders[1].buildNormalized();
+
+			for (int i = 0; i < length; i++) {
+				check(expected[0].get(i) == lhs.get(i), c, "get(" + i + ") " + expected[0].get(i) + " != " + lhs.get(i));
+				check((expected[0].isZero(i) || expected[0].get(i) == 0) == lhs.isZero(i), c, "isZero(" + i + ") differs");
+			}
+
+			double expectedDot = expected[0].dot(expected[1]);
+			check(expectedDot == lhs.dot(rhs), c, "dot " + expectedDot + " != " + lhs.dot(rhs));
+			check(close(expected[0].magnitude(), lhs.magnitude()), c,
+					"magnitude " + expected[0].magnitude() + " != " + lhs.magnitude());
+			check(!lhs.isNormalized() && lhsUnit.isNormalized(), c, "isNormalized() differs");
+
+			double lhsMagnitude = expected[0].magnitude(), rhsMagnitude = expected[1].magnitude();
+			for (int i = 0; i < length; i++) {
+				double unit = lhsMagnitude == 0 ? 0 : expected[0].get(i) / lhsMagnitude;
+				check(close(unit, lhsUnit.get(i)), c, "normalized get(" + i + ") " + unit + " != " + lhsUnit.get(i));
+			}
+
+			double expectedCosine = lhsMagnitude == 0 || rhsMagnitude == 0 ? 0 : expectedDot / (lhsMagnitude * rhsMagnitude);
+			check(close(expectedCosine, lhsUnit.dot(rhsUnit)), c,
+					"cosine " + expectedCosine + " != " + lhsUnit.dot(rhsUnit));
+		}
+
+		if (failures == 0) {
+			System.out.println("Sparse vectors are equivalent (" + NUM_RANDOM_CASES + " cases)");
+			System.exit(0);
+		} else {
+			System.out.println(failures + " checks failed");
+			System.exit(1);
+		}
+	}
+}
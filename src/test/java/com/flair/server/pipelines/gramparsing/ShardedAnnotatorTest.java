@@ -0,0 +1,134 @@
+package com.flair.server.pipelines.gramparsing;
+
+import com.flair.server.parser.CoreNlpParser;
+import com.flair.server.scheduler.AsyncExecutorService;
+import com.flair.server.utilities.pool.ConcurrentObjectPool;
+import com.flair.server.utilities.pool.SimpleObjectPoolResource;
+import com.flair.shared.grammar.Language;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.trees.TreeCoreAnnotations;
+import edu.stanford.nlp.util.CoreMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Checks that sharded annotation produces the same trees as annotating the whole document with the caller's parser,
+ * and that interrupting the caller or passing the deadline skips the remaining batches
+ */
+public class ShardedAnnotatorTest {
+	private static final String[] SENTENCES = new String[]{
+			"The man I saw yesterday was reading a book that his sister had written.",
+			"If it rains tomorrow, we will stay at home.",
+			"The letters were sent by the secretary.",
+			"He runs faster than his brother, but she runs the fastest of all.",
+			"Buildings damaged by the storm must be repaired.",
+	};
+	private static final int NUM_SENTENCES_COMPARED = Constants.SHARDED_PARSE_SENTENCES_PER_BATCH * 4 + 3;
+	private static final int NUM_SENTENCES_INTERRUPTED = Constants.SHARDED_PARSE_SENTENCES_PER_BATCH * 40;
+	private static final long CANCEL_DELAY = 2000;        // in milliseconds
+	private static final long INTERRUPT_INTERVAL = 100;   // in milliseconds
+
+	private static String text(int numSentences) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < numSentences; i++)
+			sb.append(SENTENCES[i % SENTENCES.length]).append(" ");
+		return sb.toString();
+	}
+
+	private static List<String> trees(Annotation annotation) {
+		List<String> out = new ArrayList<>();
+		for (CoreMap sentence : annotation.get(CoreAnnotations.SentencesAnnotation.class))
+			out.add(sentence.get(TreeCoreAnnotations.TreeAnnotation.class).toString());
+		return out;
+	}
+
+	// cancels the annotation of the text by interrupting the caller or by its deadline
+	private static boolean cancel(ShardedAnnotator annotator, CoreNlpParser parser, String text, boolean interrupt) throws Exception {
+		long start = System.currentTimeMillis();
+		long deadline = interrupt ? Long.MAX_VALUE : start + CANCEL_DELAY;
+		long skippedBefore = annotator.cancelledBatches();
+		AtomicReference<Throwable> result = new AtomicReference<>();
+		Thread caller = new Thread(() -> {
+			try {
+				annotator.annotate(parser, text, deadline);
+			} catch (Throwable ex) {
+				result.set(ex);
+			}
+		});
+
+		caller.start();
+		if (interrupt) {
+			Thread.sleep(CANCEL_DELAY);
+			// the parser annotator swallows interrupts that arrive in the middle of a sentence, so they are repeated
+			while (caller.isAlive()) {
+				caller.interrupt();
+				caller.join(INTERRUPT_INTERVAL);
+			}
+		} else
+			caller.join();
+
+		long elapsed = System.currentTimeMillis() - start;
+		long skipped = annotator.cancelledBatches() - skippedBefore;
+		Class<?> expected = interrupt ? InterruptedException.class : TimeoutException.class;
+		if (!expected.isInstance(result.get())) {
+			System.out.println("Cancelled annotation ended with " + result.get() + " instead of a " + expected.getSimpleName());
+			return false;
+		} else if (skipped == 0) {
+			System.out.println("Cancelled annotation didn't skip any batches");
+			return false;
+		}
+
+		System.out.println((interrupt ? "Interrupted" : "Timed-out") + " after " + elapsed + " ms, skipped " + skipped
+				+ " of " + NUM_SENTENCES_INTERRUPTED / Constants.SHARDED_PARSE_SENTENCES_PER_BATCH + " batches");
+		return true;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Properties props = GramParsingPipeline.createDefaultPipelineProperties(Language.ENGLISH);
+		CoreNlpParser.Factory parserFactory = CoreNlpParser.factory();
+		ConcurrentObjectPool<CoreNlpParser> parsers = new ConcurrentObjectPool<>(2,
+				() -> parserFactory.createIndependent(Language.ENGLISH, props));
+		AsyncExecutorService executor = task -> new Thread(task).start();
+		ShardedAnnotator annotator = new ShardedAnnotator(executor, l -> parsers);
+		boolean passed = true;
+
+		// the helper borrows the second parser
+		String text = text(NUM_SENTENCES_COMPARED);
+		try (SimpleObjectPoolResource<CoreNlpParser> parser = parsers.get()) {
+			Annotation expected = new Annotation(text);
+			parser.get().pipeline().annotate(expected);
+			List<String> actual = trees(annotator.annotate(parser.get(), text, Long.MAX_VALUE));
+
+			if (!trees(expected).equals(actual)) {
+				System.out.println("Sharded annotation differs from annotating the whole document");
+				passed = false;
+			}
+		}
+
+		// keeps the helpers from borrowing a parser, so the caller has to work through every batch by itself
+		String longText = text(NUM_SENTENCES_INTERRUPTED);
+		SimpleObjectPoolResource<CoreNlpParser> busy = parsers.get();
+		try (SimpleObjectPoolResource<CoreNlpParser> parser = parsers.get()) {
+			passed &= cancel(annotator, parser.get(), longText, true);
+			passed &= cancel(annotator, parser.get(), longText, false);
+		} finally {
+			busy.close();
+		}
+
+		if (parsers.available() != parsers.size()) {
+			System.out.println("Parsers weren't returned to the pool");
+			passed = false;
+		}
+
+		if (passed) {
+			System.out.println("Sharded annotation passed");
+			System.exit(0);
+		} else
+			System.exit(1);
+	}
+}
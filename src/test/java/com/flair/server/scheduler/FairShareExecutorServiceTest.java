@@ -0,0 +1,88 @@
+package com.flair.server.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Checks that queued tasks are dispatched by priority and round-robin between owners, and that lower priorities
+ * still get their minimum share while higher priorities have queued tasks
+ */
+public class FairShareExecutorServiceTest {
+	private static final int NUM_TASKS_PER_OWNER = 12;
+
+	private static FutureTask<Void> task(List<String> order, String label, CountDownLatch executed) {
+		return new FutureTask<>(() -> {
+			order.add(label);
+			executed.countDown();
+		}, null);
+	}
+
+	public static void main(String[] args) throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		FairShareExecutorService fairShare = new FairShareExecutorService(executor, 1);
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		TaskOwner interactive1 = new TaskOwner("a", TaskOwner.Priority.INTERACTIVE);
+		TaskOwner interactive2 = new TaskOwner("b", TaskOwner.Priority.INTERACTIVE);
+		TaskOwner bulk = new TaskOwner("c", TaskOwner.Priority.BULK);
+		boolean passed = true;
+
+		// the only slot is taken until every task is queued
+		CountDownLatch queuedAll = new CountDownLatch(1);
+		CountDownLatch executedAll = new CountDownLatch(NUM_TASKS_PER_OWNER * 3);
+		fairShare.submit(new FutureTask<>(() -> {
+			queuedAll.await();
+			return null;
+		}), TaskOwner.SYSTEM);
+
+		for (int i = 0; i < NUM_TASKS_PER_OWNER; i++) {
+			fairShare.submit(task(order, "c", executedAll), bulk);
+			fairShare.submit(task(order, "a", executedAll), interactive1);
+			fairShare.submit(task(order, "b", executedAll), interactive2);
+		}
+		queuedAll.countDown();
+
+		// finished tasks dispatch the next ones on the same executor, so it can only be shut down afterwards
+		boolean executed = executedAll.await(1, TimeUnit.MINUTES);
+		executor.shutdown();
+		if (!executed) {
+			System.out.println("Only " + order.size() + " of " + NUM_TASKS_PER_OWNER * 3 + " tasks were executed");
+			System.exit(1);
+		}
+
+		// every (n + 1)th dispatch goes to the bulk owner until the interactive owners' tasks are done
+		int interval = Constants.FAIR_SHARE_MAX_SKIPPED_DISPATCHES + 1;
+		int interactiveLeft = NUM_TASKS_PER_OWNER * 2;
+		List<String> interactiveOrder = new ArrayList<>();
+		for (int i = 0; i < order.size(); i++) {
+			boolean bulkExpected = interactiveLeft == 0 || (i + 1) % interval == 0;
+			if (bulkExpected != order.get(i).equals("c")) {
+				System.out.println("Unexpected dispatch order " + order);
+				passed = false;
+				break;
+			} else if (!bulkExpected) {
+				interactiveOrder.add(order.get(i));
+				interactiveLeft--;
+			}
+		}
+
+		for (int i = 1; i < interactiveOrder.size(); i++) {
+			if (interactiveOrder.get(i).equals(interactiveOrder.get(i - 1))) {
+				System.out.println("Interactive owners weren't dispatched round-robin " + order);
+				passed = false;
+				break;
+			}
+		}
+
+		if (passed) {
+			System.out.println("Fair-share dispatch passed " + order);
+			System.exit(0);
+		} else
+			System.exit(1);
+	}
+}
@@ -0,0 +1,106 @@
+package com.flair.server.sentencesel;
+
+import org.jgrapht.alg.scoring.PageRank;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleWeightedGraph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Checks that the CSR PageRank engine computes the same scores as jgrapht's PageRank on the same weighted graphs
+ * Sequential and parallel iterations perform the same arithmetic per vertex, so their scores must match exactly
+ */
+public class CsrPageRankEquivalenceTest {
+	private static final long SEED = 0x5eedL;
+	private static final int NUM_RANDOM_CASES = 300;
+	private static final int MAX_VERTICES = 1500;
+	private static final double TOLERANCE = 1e-12;
+
+	private static int failures = 0;
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			failures++;
+			System.out.println(message);
+		}
+	}
+
+	private static void compare(Random rand, int testCase, ForkJoinPool pool) {
+		int numVertices = rand.nextInt(MAX_VERTICES + 1);
+		// from almost empty to fairly dense graphs, which leaves some vertices without edges
+		int maxEdges = numVertices < 2 ? 0 : (int) Math.min((long) numVertices * (numVertices - 1) / 2, numVertices * 10L);
+		int numEdges = maxEdges == 0 ? 0 : rand.nextInt(maxEdges + 1);
+
+		List<Integer> vertices = new ArrayList<>();
+		SimpleWeightedGraph<Integer, DefaultWeightedEdge> reference = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+		for (int v = 0; v < numVertices; v++) {
+			vertices.add(v);
+			reference.addVertex(v);
+		}
+
+		int[] sources = new int[numEdges], targets = new int[numEdges];
+		double[] weights = new double[numEdges];
+		Set<Long> edges = new HashSet<>();
+		for (int e = 0; e < numEdges; ) {
+			int source = rand.nextInt(numVertices), target = rand.nextInt(numVertices);
+			if (source == target || !edges.add((long) Math.min(source, target) * numVertices + Math.max(source, target)))
+				continue;
+
+			sources[e] = source;
+			targets[e] = target;
+			weights[e] = rand.nextDouble() + 0.01;
+			reference.setEdgeWeight(reference.addEdge(source, target), weights[e]);
+			e++;
+		}
+
+		CsrGraph<Integer> graph = CsrGraph.undirected(vertices, sources, targets, weights, numEdges);
+		CsrPageRank sequential = new CsrPageRank(Constants.SELECTOR_PAGERANK_DAMPING_FACTOR,
+				Constants.SELECTOR_PAGERANK_MAX_ITERATIONS, Constants.SELECTOR_PAGERANK_TOLERANCE, null);
+		CsrPageRank parallel = new CsrPageRank(Constants.SELECTOR_PAGERANK_DAMPING_FACTOR,
+				Constants.SELECTOR_PAGERANK_MAX_ITERATIONS, Constants.SELECTOR_PAGERANK_TOLERANCE, pool);
+
+		Map<Integer, Double> expected = new PageRank<>(reference, Constants.SELECTOR_PAGERANK_DAMPING_FACTOR,
+				Constants.SELECTOR_PAGERANK_MAX_ITERATIONS, Constants.SELECTOR_PAGERANK_TOLERANCE).getScores();
+		double[] sequentialScores = sequential.compute(graph, null);
+		double[] parallelScores = parallel.compute(graph, null);
+
+		String description = "Case " + testCase + " (" + numVertices + " vertices, " + numEdges + " edges)";
+		check(sequential.iterations() == parallel.iterations(), description + ": sequential took "
+				+ sequential.iterations() + " iterations, parallel took " + parallel.iterations());
+
+		double maxDiff = 0;
+		int mismatchedParallel = 0;
+		for (int v = 0; v < numVertices; v++) {
+			maxDiff = Math.max(maxDiff, Math.abs(expected.get(v) - sequentialScores[v]));
+			if (sequentialScores[v] != parallelScores[v])
+				mismatchedParallel++;
+		}
+		check(maxDiff <= TOLERANCE, description + ": max. difference to jgrapht is " + maxDiff);
+		check(mismatchedParallel == 0, description + ": " + mismatchedParallel + " parallel scores differ");
+	}
+
+	public static void main(String[] args) {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		Random rand = new Random(SEED);
+		try {
+			for (int c = 0; c < NUM_RANDOM_CASES; c++)
+				compare(rand, c, pool);
+		} finally {
+			pool.shutdown();
+		}
+
+		if (failures == 0) {
+			System.out.println("CSR PageRank is equivalent to jgrapht's (" + NUM_RANDOM_CASES + " cases)");
+			System.exit(0);
+		} else {
+			System.out.println(failures + " checks failed");
+			System.exit(1);
+		}
+	}
+}
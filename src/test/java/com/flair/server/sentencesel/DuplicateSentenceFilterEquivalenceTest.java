@@ -0,0 +1,248 @@
+package com.flair.server.sentencesel;
+
+import com.flair.server.parser.ParserAnnotations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * Checks that the exact duplicate sentence filter keeps the same sentences as the pairwise filter it replaced, and that
+ * the approximate filter never drops a sentence that the exact filter keeps. Thresholds outside (0, 1] are rejected
+ */
+public class DuplicateSentenceFilterEquivalenceTest {
+	private static final long SEED = 0x5eedL;
+	private static final int NUM_RANDOM_CASES = 100;
+	private static final int MAX_SENTENCES = 300;
+	private static final int VOCABULARY_SIZE = 400;
+	private static final double[] THRESHOLDS = new double[]{0.3, 0.6, 0.9, 1.0};
+	// the pairwise filter dropped every non-empty sentence after the first at thresholds <= 0 and none above 1
+	private static final double[] INVALID_THRESHOLDS = new double[]{0, -0.5, 1.5, Double.NaN};
+
+	private static final class TestToken implements ParserAnnotations.Token {
+		final String word;
+		final String lemma;
+
+		TestToken(String word, String lemma) {
+			this.word = word;
+			this.lemma = lemma;
+		}
+
+		@Override
+		public String word() {
+			return word;
+		}
+		@Override
+		public String lemma() {
+			return lemma;
+		}
+		@Override
+		public String lemmaOrWord() {
+			return lemma.isEmpty() ? word : lemma;
+		}
+		@Override
+		public String pos() {
+			return "";
+		}
+		@Override
+		public boolean isStopword() {
+			return false;
+		}
+		@Override
+		public <T extends ParserAnnotations.Token> T data(Class<T> typeClass) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static final class TestSentence implements ParserAnnotations.Sentence, SentenceSelector.SelectedSentence {
+		final int index;
+		final List<TestToken> tokens;
+
+		TestSentence(int index, List<TestToken> tokens) {
+			this.index = index;
+			this.tokens = tokens;
+		}
+
+		@Override
+		public int index() {
+			return index;
+		}
+		@Override
+		public int start() {
+			return 0;
+		}
+		@Override
+		public int end() {
+			return 0;
+		}
+		@Override
+		public String text() {
+			return tokens.stream().map(ParserAnnotations.Token::word).collect(Collectors.joining(" "));
+		}
+		@Override
+		public Collection<? extends ParserAnnotations.Token> tokens() {
+			return tokens;
+		}
+		@Override
+		public int tokenCount() {
+			return tokens.size();
+		}
+		@Override
+		public <T extends ParserAnnotations.Sentence> T data(Class<T> typeClass) {
+			throw new UnsupportedOperationException();
+		}
+		@Override
+		public double score() {
+			return 0;
+		}
+		@Override
+		public ParserAnnotations.Sentence annotation() {
+			return this;
+		}
+	}
+
+	// the replaced implementation, which compares each sentence against every higher-ranked sentence
+	private static Set<String> normalize(SentenceSelector.SelectedSentence sent) {
+		return sent.annotation().tokens().stream()
+				.map(f -> f.lemmaOrWord().replaceAll("\\p{P}", "").trim().toLowerCase())
+				.filter(f -> !f.isEmpty())
+				.collect(Collectors.toSet());
+	}
+
+	private static long countIntersections(Set<?> set1, Set<?> set2) {
+		Set<?> larger = set1.size() > set2.size() ? set1 : set2;
+		Set<?> smaller = larger == set1 ? set2 : set1;
+
+		return smaller.stream().filter(larger::contains).count();
+	}
+
+	private static List<SentenceSelector.SelectedSentence> referenceFilter(List<? extends SentenceSelector.SelectedSentence> rankedSents,
+	                                                                       double dropCooccurrentThreshold) {
+		List<SentenceSelector.SelectedSentence> out = new ArrayList<>();
+		for (int i = 0; i < rankedSents.size(); ++i) {
+			SentenceSelector.SelectedSentence currentSent = rankedSents.get(i);
+			Set<String> currentTokens = normalize(currentSent);
+
+			boolean dropSentence = rankedSents
+					.subList(0, i)
+					.stream()
+					.map(DuplicateSentenceFilterEquivalenceTest::normalize)
+					.mapToDouble(e -> countIntersections(currentTokens, e) / (double) currentTokens.size())
+					.anyMatch(e -> e >= dropCooccurrentThreshold);
+
+			if (!dropSentence)
+				out.add(currentSent);
+		}
+
+		return out;
+	}
+
+	private static TestToken randomToken(Random rand) {
+		switch (rand.nextInt(10)) {
+		case 0:
+			// punctuation-only tokens are ignored
+			return new TestToken(rand.nextBoolean() ? "," : "--", "");
+		case 1:
+			// differs from other terms only in case or punctuation
+			return new TestToken("W" + rand.nextInt(VOCABULARY_SIZE) + ".", "");
+		case 2:
+			return new TestToken("x" + rand.nextInt(VOCABULARY_SIZE), "w" + rand.nextInt(VOCABULARY_SIZE));
+		default:
+			return new TestToken("w" + rand.nextInt(VOCABULARY_SIZE), "");
+		}
+	}
+
+	private static List<TestSentence> randomSentences(Random rand) {
+		int numSentences = rand.nextInt(MAX_SENTENCES + 1);
+		List<TestSentence> out = new ArrayList<>(numSentences);
+		for (int i = 0; i < numSentences; i++) {
+			List<TestToken> tokens = new ArrayList<>();
+			if (!out.isEmpty() && rand.nextInt(3) == 0) {
+				// near-duplicate of an earlier sentence, with a few tokens replaced, repeated or removed
+				tokens.addAll(out.get(rand.nextInt(out.size())).tokens);
+				int numEdits = rand.nextInt(4);
+				for (int k = 0; k < numEdits && !tokens.isEmpty(); k++) {
+					int slot = rand.nextInt(tokens.size());
+					switch (rand.nextInt(3)) {
+					case 0:
+						tokens.set(slot, randomToken(rand));
+						break;
+					case 1:
+						tokens.add(tokens.get(slot));
+						break;
+					default:
+						tokens.remove(slot);
+						break;
+					}
+				}
+			} else {
+				int numTokens = rand.nextInt(15);
+				for (int k = 0; k < numTokens; k++)
+					tokens.add(randomToken(rand));
+			}
+
+			out.add(new TestSentence(i, tokens));
+		}
+		return out;
+	}
+
+	private static String describe(List<SentenceSelector.SelectedSentence> sents) {
+		return sents.stream().map(s -> String.valueOf(s.annotation().index())).collect(Collectors.joining(","));
+	}
+
+	public static void main(String[] args) {
+		int failures = 0, comparisons = 0, dropped = 0;
+		Random rand = new Random(SEED);
+		for (int c = 0; c < NUM_RANDOM_CASES; c++) {
+			List<TestSentence> ranked = randomSentences(rand);
+			for (double threshold : THRESHOLDS) {
+				List<SentenceSelector.SelectedSentence> expected = referenceFilter(ranked, threshold);
+				List<SentenceSelector.SelectedSentence> exact = DuplicateSentenceFilter.filter(ranked, threshold, false);
+				List<SentenceSelector.SelectedSentence> approximate = DuplicateSentenceFilter.filter(ranked, threshold, true);
+				comparisons++;
+				dropped += ranked.size() - expected.size();
+
+				if (!expected.equals(exact)) {
+					failures++;
+					System.out.println("Case " + c + " (threshold " + threshold + "): exact filter kept [" + describe(exact)
+							+ "], expected [" + describe(expected) + "]");
+				}
+
+				Set<SentenceSelector.SelectedSentence> kept = new HashSet<>(approximate);
+				if (!kept.containsAll(expected)) {
+					failures++;
+					System.out.println("Case " + c + " (threshold " + threshold + "): approximate filter kept ["
+							+ describe(approximate) + "], which drops some of [" + describe(expected) + "]");
+				}
+			}
+		}
+
+		List<TestSentence> ranked = randomSentences(rand);
+		for (double threshold : INVALID_THRESHOLDS) {
+			for (boolean approximate : new boolean[]{false, true}) {
+				comparisons++;
+				try {
+					DuplicateSentenceFilter.filter(ranked, threshold, approximate);
+					failures++;
+					System.out.println("Threshold " + threshold + " was accepted by the " + (approximate ? "approximate" : "exact")
+							+ " filter");
+				} catch (IllegalArgumentException ex) {
+					// expected
+				}
+			}
+		}
+
+		if (failures == 0) {
+			System.out.println("Duplicate sentence filters are equivalent (" + comparisons + " comparisons, " + dropped
+					+ " duplicates dropped)");
+			System.exit(0);
+		} else {
+			System.out.println(failures + " of " + comparisons + " comparisons mismatched");
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package edu.cmu.ark;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestLanguageModel extends TestCase {
+	private static final String TEXT_MODEL = "anc-v2-written.lm.gz";
+	private static final String BINARY_MODEL = "anc-v2-written.lm" + LanguageModel.BINARY_EXTENSION;
+
+	private static final String[] SENTENCES = new String[]{
+			"who wrote the book ?",
+			"the man was reading a book that his sister had written .",
+			"what did you do last weekend ?",
+			"colorless green ideas sleep furiously",
+			"xyzzy plugh frobnicate quux",
+			"",
+	};
+
+	private LanguageModel textModel;
+
+
+	protected void setUp() {
+		textModel = new LanguageModel(ResourceLoader.path(TEXT_MODEL));
+	}
+
+	protected void tearDown() {
+		textModel = null;
+	}
+
+	private static List<String> tokens(String sentence) {
+		List<String> out = new ArrayList<String>();
+		for (String token : sentence.split(" ")) {
+			if (!token.isEmpty())
+				out.add(token);
+		}
+		return out;
+	}
+
+	private void assertSameScores(LanguageModel binaryModel) {
+		for (String sentence : SENTENCES) {
+			List<String> tokens = tokens(sentence);
+			assertEquals(sentence, textModel.logBase10ProbabilityOfSentence(tokens),
+					binaryModel.logBase10ProbabilityOfSentence(tokens), 0);
+			assertEquals(sentence, textModel.logBase10ProbabilityOfSequence(tokens),
+					binaryModel.logBase10ProbabilityOfSequence(tokens), 0);
+			assertEquals(sentence, textModel.meanUnigramLogBase10Probability(tokens),
+					binaryModel.meanUnigramLogBase10Probability(tokens), 0);
+			assertEquals(sentence, textModel.logBase10ConditionalProbability(tokens, Arrays.asList("<s>", "yesterday")),
+					binaryModel.logBase10ConditionalProbability(tokens, Arrays.asList("<s>", "yesterday")), 0);
+		}
+	}
+
+	/**
+	 * The binary model compiled from the text model must produce identical scores
+	 */
+	public void testCompiledBinaryMatchesTextModel() throws Exception {
+		File binary = File.createTempFile("anc-v2-written", LanguageModel.BINARY_EXTENSION);
+		try {
+			LanguageModel.main(new String[]{ResourceLoader.path(TEXT_MODEL), binary.getPath()});
+			assertSameScores(new LanguageModel(binary.getPath()));
+		} finally {
+			binary.delete();
+		}
+	}
+
+	/**
+	 * The build compiles the bundled model in the process-classes phase, which is what QuestionFeatureExtractor loads
+	 */
+	public void testBundledBinaryMatchesTextModel() {
+		assertTrue(BINARY_MODEL + " wasn't generated by the build (mvn process-classes)", ResourceLoader.exists(BINARY_MODEL));
+		assertSameScores(new LanguageModel(ResourceLoader.path(BINARY_MODEL)));
+	}
+}